@@ -19,6 +19,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -85,10 +86,20 @@ public class BaseResourceClient<T extends HasMetadata, L extends KubernetesResou
         LOGGER.trace(LogMessageUtil.formatLogMessage(correlationId, message));
     }
 
+    @Override
+    public void info(String correlationId, Supplier<String> message) {
+        LOGGER.info(LogMessageUtil.lazyLogMessage(correlationId, message));
+    }
+
+    @Override
+    public void trace(String correlationId, Supplier<String> message) {
+        LOGGER.trace(LogMessageUtil.lazyLogMessage(correlationId, message));
+    }
+
     @Override
     public Optional<T> loadAndCreate(String correlationId, String yaml, Consumer<T> customization) {
         try (ByteArrayInputStream inputStream = new ByteArrayInputStream(yaml.getBytes())) {
-            trace(correlationId, "Loading new " + getTypeName() + ":\n" + yaml);
+            trace(correlationId, () -> "Loading new " + getTypeName() + ":\n" + yaml);
             T newItem = operation().load(inputStream).item();
 
             trace(correlationId, "Customizing new " + getTypeName());
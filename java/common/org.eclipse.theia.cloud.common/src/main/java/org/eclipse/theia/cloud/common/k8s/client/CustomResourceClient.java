@@ -40,22 +40,26 @@ public interface CustomResourceClient<SPEC, STATUS, T extends CustomResource<SPE
     }
 
     default List<T> list(String user) {
-        return list().stream().filter(item -> Objects.equals(UserScopedSpec.getUser(item.getSpec()), user))
+        return stream().filter(item -> Objects.equals(UserScopedSpec.getUser(item.getSpec()), user))
                 .collect(Collectors.toList());
     }
 
     default List<SPEC> specs() {
-        return list().stream().map(item -> item.getSpec()).collect(Collectors.toList());
+        return stream().map(item -> item.getSpec()).collect(Collectors.toList());
     }
 
     default List<SPEC> specs(String user) {
         return list(user).stream().map(item -> item.getSpec()).collect(Collectors.toList());
     }
 
+    /**
+     * Updates the status of the given resource with a merge patch of the fields changed by the edit operation, see
+     * {@link #patchStatus(String, io.fabric8.kubernetes.api.model.HasMetadata, Consumer)}. The edit operation is
+     * applied to the current status again if the given resource turns out to be outdated.
+     */
     default T updateStatus(String correlationId, T resource, Consumer<STATUS> editOperation) {
-        trace(correlationId, "Update Status of " + resource);
-        final String name = resource.getMetadata().getName();
-        T updatedResource = editStatus(correlationId, name, res -> {
+        trace(correlationId, () -> "Update Status of " + resource.getMetadata().getName());
+        T updatedResource = patchStatus(correlationId, resource, res -> {
             STATUS status = Optional.ofNullable(res.getStatus()).orElse(createDefaultStatus());
             res.setStatus(status);
             editOperation.accept(status);
@@ -63,5 +67,13 @@ public interface CustomResourceClient<SPEC, STATUS, T extends CustomResource<SPE
         return (updatedResource != null) ? updatedResource : resource;
     }
 
+    /**
+     * Creates a buffer that collects status updates of the given resource during a reconcile pass, so they can be
+     * written with a single request.
+     */
+    default StatusWriteBuffer<STATUS, T> statusBuffer(String correlationId, T resource) {
+        return new StatusWriteBuffer<>(this, correlationId, resource);
+    }
+
     STATUS createDefaultStatus();
 }
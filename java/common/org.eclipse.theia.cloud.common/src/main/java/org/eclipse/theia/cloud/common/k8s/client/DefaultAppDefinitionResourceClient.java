@@ -39,7 +39,8 @@ public class DefaultAppDefinitionResourceClient extends BaseResourceClient<AppDe
         metadata.setName(spec.getName());
         appDefinition.setMetadata(metadata);
 
-        info(correlationId, "Create AppDefinition " + appDefinition.getSpec());
+        info(correlationId, "Create AppDefinition " + appDefinition.getMetadata().getName());
+        trace(correlationId, () -> "Create AppDefinition " + appDefinition.getSpec());
         return operation().resource(appDefinition).create();
     }
 
@@ -24,9 +24,12 @@ import org.eclipse.theia.cloud.common.k8s.resource.session.SessionSpec;
 import org.eclipse.theia.cloud.common.k8s.resource.session.SessionSpecResourceList;
 import org.eclipse.theia.cloud.common.k8s.resource.session.SessionStatus;
 import org.eclipse.theia.cloud.common.util.TheiaCloudError;
+import org.eclipse.theia.cloud.common.util.TracingUtil;
 
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
 
 public class DefaultSessionResourceClient extends BaseResourceClient<Session, SessionSpecResourceList>
         implements SessionResourceClient {
@@ -48,12 +51,24 @@ public class DefaultSessionResourceClient extends BaseResourceClient<Session, Se
         metadata.setName(spec.getName());
         session.setMetadata(metadata);
 
-        info(correlationId, "Create Session " + session.getSpec());
+        // lets the operator continue the trace of the launch
+        TracingUtil.inject(session);
+
+        info(correlationId, "Create Session " + session.getMetadata().getName());
+        trace(correlationId, () -> "Create Session " + session.getSpec());
         return operation().resource(session).create();
     }
 
     @Override
     public Session launch(String correlationId, SessionSpec spec, long timeout, TimeUnit unit) {
+        Span span = TracingUtil.spanBuilder("launch session", correlationId)//
+                .setAttribute("theia_cloud.session", spec.getName())//
+                .setAttribute("theia_cloud.app_definition", spec.getAppDefinition())//
+                .startSpan();
+        return TracingUtil.trace(span, () -> doLaunch(correlationId, spec, timeout, unit));
+    }
+
+    protected Session doLaunch(String correlationId, SessionSpec spec, long timeout, TimeUnit unit) {
         // get or create session
         Session session = get(spec.getName()).orElseGet(() -> create(correlationId, spec));
         SessionStatus sessionStatus = session.getNonNullStatus();
@@ -75,6 +90,7 @@ public class DefaultSessionResourceClient extends BaseResourceClient<Session, Se
             session = get(spec.getName()).orElseGet(() -> create(correlationId, spec));
         } catch (InterruptedException exception) {
             error(correlationId, "Timeout while waiting for URL for " + session.getSpec().getName(), exception);
+            Span.current().setStatus(StatusCode.ERROR, TheiaCloudError.SESSION_LAUNCH_TIMEOUT.getReason());
             session = updateStatus(correlationId, session,
                     status -> status.setError(TheiaCloudError.SESSION_LAUNCH_TIMEOUT));
             return session;
@@ -99,10 +115,9 @@ public class DefaultSessionResourceClient extends BaseResourceClient<Session, Se
 
     @Override
     public boolean reportActivity(String correlationId, String name) {
-        return edit(correlationId, name, session -> {
-            trace(correlationId, "Updating activity for session {" + name + "}");
-            updateStatus(correlationId, session, status -> status.setLastActivity(Instant.now().toEpochMilli()));
-        }) != null;
+        trace(correlationId, "Updating activity for session {" + name + "}");
+        return patchStatus(correlationId, name,
+                "{\"status\":{\"lastActivity\":" + Instant.now().toEpochMilli() + "}}") != null;
     }
 
     @Override
@@ -22,9 +22,12 @@ import org.eclipse.theia.cloud.common.k8s.resource.workspace.WorkspaceSpec;
 import org.eclipse.theia.cloud.common.k8s.resource.workspace.WorkspaceSpecResourceList;
 import org.eclipse.theia.cloud.common.k8s.resource.workspace.WorkspaceStatus;
 import org.eclipse.theia.cloud.common.util.TheiaCloudError;
+import org.eclipse.theia.cloud.common.util.TracingUtil;
 
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
 
 public class DefaultWorkspaceResourceClient extends BaseResourceClient<Workspace, WorkspaceSpecResourceList>
         implements WorkspaceResourceClient {
@@ -42,12 +45,24 @@ public class DefaultWorkspaceResourceClient extends BaseResourceClient<Workspace
         metadata.setName(spec.getName());
         workspace.setMetadata(metadata);
 
-        info(correlationId, "Create Workspace " + workspace.getSpec());
+        // lets the operator continue the trace of the launch
+        TracingUtil.inject(workspace);
+
+        info(correlationId, "Create Workspace " + workspace.getMetadata().getName());
+        trace(correlationId, () -> "Create Workspace " + workspace.getSpec());
         return operation().resource(workspace).create();
     }
 
     @Override
     public Workspace launch(String correlationId, WorkspaceSpec spec, long timeout, TimeUnit unit) {
+        Span span = TracingUtil.spanBuilder("launch workspace", correlationId)//
+                .setAttribute("theia_cloud.workspace", spec.getName())//
+                .setAttribute("theia_cloud.app_definition", spec.getAppDefinition())//
+                .startSpan();
+        return TracingUtil.trace(span, () -> doLaunch(correlationId, spec, timeout, unit));
+    }
+
+    protected Workspace doLaunch(String correlationId, WorkspaceSpec spec, long timeout, TimeUnit unit) {
         Workspace workspace = get(spec.getName()).orElseGet(() -> create(correlationId, spec));
         WorkspaceSpec workspaceSpec = workspace.getSpec();
         WorkspaceStatus workspaceStatus = workspace.getNonNullStatus();
@@ -67,6 +82,7 @@ public class DefaultWorkspaceResourceClient extends BaseResourceClient<Workspace
         } catch (InterruptedException exception) {
             error(correlationId, "Timeout while waiting for workspace storage " + workspaceSpec.getName()
                     + ". Deleting workspace again.", exception);
+            Span.current().setStatus(StatusCode.ERROR, TheiaCloudError.WORKSPACE_LAUNCH_TIMEOUT.getReason());
             updateStatus(correlationId, workspace, status -> status.setError(TheiaCloudError.WORKSPACE_LAUNCH_TIMEOUT));
         }
         return workspace;
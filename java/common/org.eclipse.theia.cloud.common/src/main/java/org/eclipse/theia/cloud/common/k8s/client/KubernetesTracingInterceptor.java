@@ -0,0 +1,109 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.k8s.client;
+
+import static org.eclipse.theia.cloud.common.util.KubernetesRequestUtil.isWatch;
+import static org.eclipse.theia.cloud.common.util.KubernetesRequestUtil.requestId;
+import static org.eclipse.theia.cloud.common.util.KubernetesRequestUtil.resource;
+import static org.eclipse.theia.cloud.common.util.KubernetesRequestUtil.tagRequest;
+import static org.eclipse.theia.cloud.common.util.KubernetesRequestUtil.verb;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.theia.cloud.common.util.TracingUtil;
+
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+
+/**
+ * Creates a client span for every request of the Kubernetes client, e.g. <code>patch sessions/status</code>, as child
+ * of the span that is current when the request is sent. Watches are not traced, as they stay open until they are
+ * closed. Waiting for a watch event is traced by {@link ResourceClient#watchUntil} instead. Every attempt of a retried
+ * request gets its own span.
+ */
+public class KubernetesTracingInterceptor implements Interceptor {
+
+    public static final String NAME = "theia-cloud-tracing";
+
+    /** Spans of requests without response after this time are ended, the requests were cancelled. */
+    private static final long MAX_PENDING_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int EXPIRE_THRESHOLD = 1000;
+
+    /* spans by the id of the request passed to before, see KubernetesRequestUtil#tagRequest */
+    private final Map<String, PendingSpan> spans = new ConcurrentHashMap<>();
+
+    @Override
+    public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+        if (isWatch(request)) {
+            return;
+        }
+        Span span = TracingUtil.tracer().spanBuilder(verb(request) + " " + resource(request.uri().getPath()))//
+                .setSpanKind(SpanKind.CLIENT)//
+                .setAttribute("http.request.method", request.method())//
+                .setAttribute("url.full", request.uri().toString())//
+                .startSpan();
+        long now = System.nanoTime();
+        PendingSpan previous = spans.put(tagRequest(builder, request), new PendingSpan(span, now));
+        if (previous != null) {
+            // the previous attempt got neither a response nor a connection failure
+            previous.span().end();
+        }
+        if (spans.size() > EXPIRE_THRESHOLD) {
+            spans.values().removeIf(pending -> {
+                if (now - pending.start() <= MAX_PENDING_NANOS) {
+                    return false;
+                }
+                pending.span().end();
+                return true;
+            });
+        }
+    }
+
+    @Override
+    public void after(HttpRequest request, HttpResponse<?> response, AsyncBody.Consumer<List<ByteBuffer>> consumer) {
+        PendingSpan pending = spans.remove(requestId(request));
+        if (pending != null) {
+            Span span = pending.span();
+            span.setAttribute("http.response.status_code", response.code());
+            if (response.code() >= 400) {
+                span.setStatus(StatusCode.ERROR);
+            }
+            span.end();
+        }
+    }
+
+    @Override
+    public void afterConnectionFailure(HttpRequest request, Throwable failure) {
+        PendingSpan pending = spans.remove(requestId(request));
+        if (pending != null) {
+            TracingUtil.recordError(pending.span(), failure);
+            pending.span().end();
+        }
+    }
+
+    private record PendingSpan(Span span, long start) {
+    }
+}
@@ -15,26 +15,44 @@
  ********************************************************************************/
 package org.eclipse.theia.cloud.common.k8s.client;
 
+import java.net.HttpURLConnection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.eclipse.theia.cloud.common.util.JavaUtil;
+import org.eclipse.theia.cloud.common.util.JsonMergePatch;
+import org.eclipse.theia.cloud.common.util.TracingUtil;
 import org.eclipse.theia.cloud.common.util.WatcherAdapter;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher.Action;
+import io.fabric8.kubernetes.client.dsl.EditReplacePatchable;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
 
 public interface ResourceClient<T extends HasMetadata, L extends KubernetesResourceList<T>> {
 
+    /** Field manager reported to the API server for all patches sent by Theia Cloud. */
+    String FIELD_MANAGER = "theia-cloud";
+
+    /** Attempts to patch a resource that is changed concurrently. */
+    int PATCH_ATTEMPTS = 5;
+
     NonNamespaceOperation<T, L, Resource<T>> operation();
 
     default Resource<T> resource(String name) {
@@ -66,7 +84,7 @@ public interface ResourceClient<T extends HasMetadata, L extends KubernetesResou
     }
 
     default T editStatus(String correlationId, String name, Consumer<T> consumer) {
-        trace(correlationId, "Edit status of " + name);
+        trace(correlationId, () -> "Edit status of " + name);
         Resource<T> resource = resource(name);
         if (resource.get() == null) {
             warn(correlationId, "Resource " + name
@@ -76,6 +94,102 @@ public interface ResourceClient<T extends HasMetadata, L extends KubernetesResou
         return resource.editStatus(JavaUtil.toUnary(consumer));
     }
 
+    /**
+     * Applies the given change to a copy of the resource and sends only the changed fields as JSON merge patch. Unlike
+     * {@link #edit(String, String, Consumer)} this is a single request that does not read the resource first.
+     *
+     * @param resource            the last known state of the resource, e.g. from an event or a cache
+     * @param lockResourceVersion whether the patch should fail with a conflict if the resource was changed since
+     * @return the patched resource or <code>null</code> if the resource does not exist
+     */
+    default T patch(String correlationId, T resource, Consumer<T> consumer, boolean lockResourceVersion) {
+        String name = resource.getMetadata().getName();
+        Optional<String> patch = JsonMergePatch.create(resource, consumer, false, lockResourceVersion);
+        if (patch.isEmpty()) {
+            trace(correlationId, () -> "No changes to patch for " + name);
+            return resource;
+        }
+        info(correlationId, "Patch " + name);
+        return patch(correlationId, name, resource(name), patch.get());
+    }
+
+    /**
+     * Applies the given change to the given state of the resource and sends the changed fields as JSON merge patch
+     * that is locked to the resource version of that state. The given state may be outdated, e.g. if it comes from a
+     * cache. If the patch conflicts or the change does not seem to modify anything, the resource is read again and
+     * the change is applied to the current state, so neither a conditional change nor a value set back to an outdated
+     * one is lost.
+     *
+     * @return the patched resource or <code>null</code> if the resource does not exist
+     */
+    default T patch(String correlationId, T resource, Consumer<T> consumer) {
+        info(correlationId, "Patch " + resource.getMetadata().getName());
+        return patchCurrent(correlationId, resource, consumer, false);
+    }
+
+    /**
+     * Like {@link #patch(String, HasMetadata, Consumer)} but for the status subresource.
+     */
+    default T patchStatus(String correlationId, T resource, Consumer<T> consumer) {
+        trace(correlationId, () -> "Patch status of " + resource.getMetadata().getName());
+        return patchCurrent(correlationId, resource, consumer, true);
+    }
+
+    /**
+     * Sends the given JSON merge patch to the status subresource without reading the resource first.
+     *
+     * @return the patched resource or <code>null</code> if the resource does not exist
+     */
+    default T patchStatus(String correlationId, String name, String mergePatch) {
+        trace(correlationId, () -> "Patch status of " + name);
+        return patch(correlationId, name, resource(name).subresource(JsonMergePatch.STATUS), mergePatch);
+    }
+
+    private T patchCurrent(String correlationId, T resource, Consumer<T> consumer, boolean statusOnly) {
+        String name = resource.getMetadata().getName();
+        T base = resource;
+        boolean current = false;
+        for (int attempt = 1;; attempt++) {
+            Optional<String> patch = JsonMergePatch.create(base, consumer, statusOnly, true);
+            if (patch.isEmpty() && current) {
+                trace(correlationId, () -> "No changes to patch for " + name);
+                return base;
+            }
+            if (patch.isPresent()) {
+                try {
+                    return patch(correlationId, name,
+                            statusOnly ? resource(name).subresource(JsonMergePatch.STATUS) : resource(name),
+                            patch.get());
+                } catch (KubernetesClientException exception) {
+                    if (exception.getCode() != HttpURLConnection.HTTP_CONFLICT || attempt >= PATCH_ATTEMPTS) {
+                        throw exception;
+                    }
+                    trace(correlationId, () -> "Resource " + name + " was changed concurrently, patching it again");
+                }
+            }
+            base = resource(name).get();
+            if (base == null) {
+                warn(correlationId, "Resource " + name + " not found. Could not patch it.");
+                return null;
+            }
+            current = true;
+        }
+    }
+
+    private T patch(String correlationId, String name, EditReplacePatchable<T> target, String mergePatch) {
+        PatchContext context = PatchContext.of(PatchType.JSON_MERGE);
+        context.setFieldManager(FIELD_MANAGER);
+        try {
+            return target.patch(context, mergePatch);
+        } catch (KubernetesClientException exception) {
+            if (exception.getCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+                warn(correlationId, "Resource " + name + " not found. Could not patch it.");
+                return null;
+            }
+            throw exception;
+        }
+    }
+
     Optional<T> loadAndCreate(String correlationId, String yaml, Consumer<T> customization);
 
     default Optional<T> loadAndCreate(String correlationId, String yaml) {
@@ -83,10 +197,37 @@ public interface ResourceClient<T extends HasMetadata, L extends KubernetesResou
         });
     }
 
+    /**
+     * Lists all resources with a single request. Scans that do not need all resources at once should use
+     * {@link #stream()} or {@link #forEach(Consumer)} instead.
+     */
     default List<T> list() {
         return operation().list().getItems();
     }
 
+    /**
+     * Streams all resources page by page, see {@link ResourcePages}. As long as the stream is not collected, only one
+     * page of resources is held in memory.
+     */
+    default Stream<T> stream() {
+        return ResourcePages.stream(operation());
+    }
+
+    default Stream<T> stream(long pageSize) {
+        return ResourcePages.stream(operation(), pageSize);
+    }
+
+    /**
+     * Calls the given visitor for all resources, page by page.
+     */
+    default void forEach(Consumer<T> visitor) {
+        stream().forEach(visitor);
+    }
+
+    /**
+     * Watches the resources until the given handler returns <code>true</code> for an event. The wait is traced as a
+     * span that is a child of the current span.
+     */
     default void watchUntil(BiFunction<Action, T, Boolean> eventHandler, long timeout, TimeUnit unit)
             throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -97,12 +238,15 @@ public interface ResourceClient<T extends HasMetadata, L extends KubernetesResou
             }
         }));
 
-        try {
+        Span span = TracingUtil.tracer().spanBuilder("watch " + getTypeName()).startSpan();
+        try (Scope scope = span.makeCurrent()) {
             if (!latch.await(timeout, unit)) {
+                span.setStatus(StatusCode.ERROR, "Timeout reached");
                 throw new InterruptedException("Timeout reached. Interrupt Watch.");
             }
         } finally {
             watch.close();
+            span.end();
         }
     }
 
@@ -119,4 +263,14 @@ public interface ResourceClient<T extends HasMetadata, L extends KubernetesResou
     void error(String correlationId, String message, Throwable throwable);
 
     void trace(String correlationId, String message);
+
+    /**
+     * Logs the message supplied by the given function, which is only called if info logging is enabled.
+     */
+    void info(String correlationId, Supplier<String> message);
+
+    /**
+     * Logs the message supplied by the given function, which is only called if trace logging is enabled.
+     */
+    void trace(String correlationId, Supplier<String> message);
 }
@@ -0,0 +1,89 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.k8s.client;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.dsl.Listable;
+
+/**
+ * Lists resources in pages of limited size using the continue token of the previous page. The next page is only
+ * requested once all resources of the current page were consumed, so only one page is held in memory at a time.
+ * <p>
+ * If a scan takes longer than the API server keeps its continue token, the next page request fails with
+ * <code>410 Gone</code> and the scan has to be started again.
+ * </p>
+ */
+public final class ResourcePages {
+
+    /** Number of resources requested per page. */
+    public static final long DEFAULT_PAGE_SIZE = 250;
+
+    private ResourcePages() {
+    }
+
+    public static <T extends HasMetadata> Stream<T> stream(Listable<? extends KubernetesResourceList<T>> operation) {
+        return stream(operation, DEFAULT_PAGE_SIZE);
+    }
+
+    public static <T extends HasMetadata> Stream<T> stream(Listable<? extends KubernetesResourceList<T>> operation, long pageSize) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new PageIterator<>(operation, pageSize),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static final class PageIterator<T extends HasMetadata> implements Iterator<T> {
+        private final Listable<? extends KubernetesResourceList<T>> operation;
+        private final long pageSize;
+
+        private Iterator<T> page = Collections.emptyIterator();
+        private String continueToken;
+        private boolean lastPage;
+
+        PageIterator(Listable<? extends KubernetesResourceList<T>> operation, long pageSize) {
+            this.operation = operation;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && !lastPage) {
+                KubernetesResourceList<T> list = operation
+                        .list(new ListOptionsBuilder().withLimit(pageSize).withContinue(continueToken).build());
+                page = list.getItems().iterator();
+                continueToken = list.getMetadata() == null ? null : list.getMetadata().getContinue();
+                lastPage = continueToken == null || continueToken.isEmpty();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
+}
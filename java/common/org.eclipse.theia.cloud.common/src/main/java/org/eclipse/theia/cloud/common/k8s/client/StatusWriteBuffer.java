@@ -0,0 +1,84 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.k8s.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.fabric8.kubernetes.client.CustomResource;
+
+/**
+ * Collects status mutations of a single resource during a reconcile pass and writes them with a single status update.
+ * Mutations are applied in the order they were added when the buffer is flushed. Use {@link #updateNow(Consumer)} for
+ * changes that should be visible immediately, e.g. errors or URLs shown to users.
+ * <p>
+ * A buffer is meant to be used by one thread for one reconcile pass and is not thread-safe.
+ * </p>
+ */
+public class StatusWriteBuffer<STATUS, T extends CustomResource<?, STATUS>> {
+
+    private final CustomResourceClient<?, STATUS, T, ?> client;
+    private final String correlationId;
+    private final List<Consumer<STATUS>> pending = new ArrayList<>();
+    private T resource;
+
+    public StatusWriteBuffer(CustomResourceClient<?, STATUS, T, ?> client, String correlationId, T resource) {
+        this.client = client;
+        this.correlationId = correlationId;
+        this.resource = resource;
+    }
+
+    /**
+     * Queues the given status mutation until the next {@link #flush()}.
+     */
+    public StatusWriteBuffer<STATUS, T> update(Consumer<STATUS> mutation) {
+        pending.add(mutation);
+        return this;
+    }
+
+    /**
+     * Applies the given mutation together with all queued mutations right away.
+     */
+    public T updateNow(Consumer<STATUS> mutation) {
+        update(mutation);
+        return flush();
+    }
+
+    /**
+     * Writes all queued mutations with one status update. Does nothing if no mutations are queued.
+     *
+     * @return the latest known state of the resource
+     */
+    public T flush() {
+        if (pending.isEmpty()) {
+            return resource;
+        }
+        List<Consumer<STATUS>> mutations = new ArrayList<>(pending);
+        pending.clear();
+        client.trace(correlationId, "Writing " + mutations.size() + " buffered status update(s)");
+        resource = client.updateStatus(correlationId, resource, status -> mutations.forEach(m -> m.accept(status)));
+        return resource;
+    }
+
+    public boolean hasPendingUpdates() {
+        return !pending.isEmpty();
+    }
+
+    public T getResource() {
+        return resource;
+    }
+}
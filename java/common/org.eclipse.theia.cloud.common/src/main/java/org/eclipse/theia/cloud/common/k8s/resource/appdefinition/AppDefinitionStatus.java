@@ -18,6 +18,7 @@ package org.eclipse.theia.cloud.common.k8s.resource.appdefinition;
 import org.eclipse.theia.cloud.common.k8s.resource.ResourceStatus;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.hub.AppDefinitionHub;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 @JsonDeserialize
@@ -27,6 +28,12 @@ public class AppDefinitionStatus extends ResourceStatus {
     // type the resources and resource clients.
     // It is planned to extend this later with AppDefinition specific status steps.
 
+    /**
+     * The prewarmed instances of the app definition. Only set if the operator scales the warm pool.
+     */
+    @JsonProperty("warmPool")
+    private WarmPoolStatus warmPool;
+
     /**
      * Default constructor.
      */
@@ -42,10 +49,18 @@ public class AppDefinitionStatus extends ResourceStatus {
         }
     }
 
+    public WarmPoolStatus getWarmPool() {
+        return warmPool;
+    }
+
+    public void setWarmPool(WarmPoolStatus warmPool) {
+        this.warmPool = warmPool;
+    }
+
     @Override
     public String toString() {
         return "AppDefinitionStatus [getOperatorStatus()=" + getOperatorStatus() + ", getOperatorMessage()="
-                + getOperatorMessage() + "]";
+                + getOperatorMessage() + ", warmPool=" + warmPool + "]";
     }
 
 }
@@ -0,0 +1,104 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.k8s.resource.appdefinition;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * State of the pool of prewarmed instances of an app definition, as last evaluated by the operator.
+ */
+public class WarmPoolStatus {
+
+    /** Number of prewarmed instances. */
+    @JsonProperty("size")
+    private int size;
+
+    /** Number of prewarmed instances that are not used by a session. */
+    @JsonProperty("free")
+    private int free;
+
+    /** Number of prewarmed instances the pool is scaled to. */
+    @JsonProperty("target")
+    private int target;
+
+    /** Observed number of new sessions per minute. */
+    @JsonProperty("arrivalRate")
+    private double arrivalRate;
+
+    @JsonProperty("lastScaleTime")
+    private String lastScaleTime;
+
+    @JsonProperty("lastScaleDecision")
+    private String lastScaleDecision;
+
+    public WarmPoolStatus() {
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public int getFree() {
+        return free;
+    }
+
+    public void setFree(int free) {
+        this.free = free;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    public void setTarget(int target) {
+        this.target = target;
+    }
+
+    public double getArrivalRate() {
+        return arrivalRate;
+    }
+
+    public void setArrivalRate(double arrivalRate) {
+        this.arrivalRate = arrivalRate;
+    }
+
+    public String getLastScaleTime() {
+        return lastScaleTime;
+    }
+
+    public void setLastScaleTime(String lastScaleTime) {
+        this.lastScaleTime = lastScaleTime;
+    }
+
+    public String getLastScaleDecision() {
+        return lastScaleDecision;
+    }
+
+    public void setLastScaleDecision(String lastScaleDecision) {
+        this.lastScaleDecision = lastScaleDecision;
+    }
+
+    @Override
+    public String toString() {
+        return "WarmPoolStatus [size=" + size + ", free=" + free + ", target=" + target + ", arrivalRate="
+                + arrivalRate + ", lastScaleTime=" + lastScaleTime + ", lastScaleDecision=" + lastScaleDecision
+                + "]";
+    }
+}
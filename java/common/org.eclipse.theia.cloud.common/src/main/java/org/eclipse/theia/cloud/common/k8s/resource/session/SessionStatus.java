@@ -16,6 +16,7 @@
 package org.eclipse.theia.cloud.common.k8s.resource.session;
 
 import org.eclipse.theia.cloud.common.k8s.resource.ResourceStatus;
+import org.eclipse.theia.cloud.common.k8s.resource.StatusStep;
 import org.eclipse.theia.cloud.common.k8s.resource.session.hub.SessionHub;
 import org.eclipse.theia.cloud.common.util.TheiaCloudError;
 
@@ -42,6 +43,12 @@ public class SessionStatus extends ResourceStatus {
     @JsonProperty("lastActivity")
     private long lastActivity;
 
+    /**
+     * The last handling step the operator completed for this session. Used to resume handling after an interruption.
+     */
+    @JsonProperty("step")
+    private StatusStep step;
+
     public SessionStatus() {
     }
 
@@ -55,6 +62,9 @@ public class SessionStatus extends ResourceStatus {
         this.url = fromHub.getUrl().orElse(null);
         this.error = fromHub.getError().orElse(null);
         this.lastActivity = fromHub.getLastActivity().orElse((long) 0);
+        if (fromHub.getStepStatus().isPresent()) {
+            this.step = new StatusStep(fromHub.getStepStatus().get(), fromHub.getStepMessage().orElse(""));
+        }
     }
 
     public String getUrl() {
@@ -93,9 +103,17 @@ public class SessionStatus extends ResourceStatus {
         this.lastActivity = lastActivity;
     }
 
+    public StatusStep getStep() {
+        return step;
+    }
+
+    public void setStep(StatusStep step) {
+        this.step = step;
+    }
+
     @Override
     public String toString() {
-        return "SessionStatus [url=" + url + ", error=" + error + ", lastActivity=" + lastActivity
+        return "SessionStatus [url=" + url + ", error=" + error + ", lastActivity=" + lastActivity + ", step=" + step
                 + ", getOperatorStatus()=" + getOperatorStatus() + ", getOperatorMessage()=" + getOperatorMessage()
                 + "]";
     }
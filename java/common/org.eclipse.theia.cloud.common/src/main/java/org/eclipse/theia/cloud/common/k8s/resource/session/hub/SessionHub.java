@@ -42,6 +42,9 @@ public class SessionHub {
     final Optional<String> operatorStatus;
     final Optional<String> operatorMessage;
 
+    final Optional<String> stepStatus;
+    final Optional<String> stepMessage;
+
     final Optional<Map<String, String>> options;
 
     public SessionHub(Session toHub) {
@@ -62,12 +65,21 @@ public class SessionHub {
             this.error = Optional.ofNullable(toHub.getNonNullStatus().getError());
             this.operatorStatus = Optional.ofNullable(toHub.getNonNullStatus().getOperatorStatus());
             this.operatorMessage = Optional.ofNullable(toHub.getNonNullStatus().getOperatorMessage());
+            if (toHub.getNonNullStatus().getStep() != null) {
+                this.stepStatus = Optional.ofNullable(toHub.getNonNullStatus().getStep().getStatus());
+                this.stepMessage = Optional.ofNullable(toHub.getNonNullStatus().getStep().getMessage());
+            } else {
+                this.stepStatus = Optional.empty();
+                this.stepMessage = Optional.empty();
+            }
         } else {
             this.lastActivity = Optional.empty();
             this.url = Optional.empty();
             this.error = Optional.empty();
             this.operatorStatus = Optional.empty();
             this.operatorMessage = Optional.empty();
+            this.stepStatus = Optional.empty();
+            this.stepMessage = Optional.empty();
         }
     }
 
@@ -83,6 +95,8 @@ public class SessionHub {
         this.envVars = Optional.ofNullable(toHub.getSpec().getEnvVars());
         this.envVarsFromConfigMaps = Optional.ofNullable(toHub.getSpec().getEnvVarsFromConfigMaps());
         this.envVarsFromSecrets = Optional.ofNullable(toHub.getSpec().getEnvVarsFromSecrets());
+        this.stepStatus = Optional.empty();
+        this.stepMessage = Optional.empty();
         // Status is not a required field
         if (toHub.getStatus() != null) {
             this.lastActivity = Optional.ofNullable(toHub.getNonNullStatus().getLastActivity());
@@ -114,6 +128,8 @@ public class SessionHub {
         this.envVars = Optional.ofNullable(toHub.getSpec().getEnvVars());
         this.envVarsFromConfigMaps = Optional.ofNullable(toHub.getSpec().getEnvVarsFromConfigMaps());
         this.envVarsFromSecrets = Optional.ofNullable(toHub.getSpec().getEnvVarsFromSecrets());
+        this.stepStatus = Optional.empty();
+        this.stepMessage = Optional.empty();
         // Status is not a required field
         if (toHub.getStatus() != null) {
             this.operatorStatus = Optional.ofNullable(toHub.getNonNullStatus().getOperatorStatus());
@@ -184,4 +200,12 @@ public class SessionHub {
         return options;
     }
 
+    public Optional<String> getStepStatus() {
+        return stepStatus;
+    }
+
+    public Optional<String> getStepMessage() {
+        return stepMessage;
+    }
+
 }
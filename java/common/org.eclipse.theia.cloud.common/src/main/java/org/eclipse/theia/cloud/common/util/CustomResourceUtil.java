@@ -17,6 +17,9 @@
 package org.eclipse.theia.cloud.common.util;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.eclipse.theia.cloud.common.k8s.client.KubernetesTracingInterceptor;
 
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
@@ -24,6 +27,7 @@ import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.http.HttpClient;
 
 public final class CustomResourceUtil {
 
@@ -35,7 +39,29 @@ public final class CustomResourceUtil {
     }
 
     public static NamespacedKubernetesClient createClient(Config config) {
-        KubernetesClient client = new KubernetesClientBuilder().withConfig(config).build();
+        return createClient(config, httpClient -> {
+        });
+    }
+
+    /**
+     * Creates a client whose HTTP client is customized by the given consumer, e.g. to add interceptors.
+     */
+    public static NamespacedKubernetesClient createClient(Consumer<HttpClient.Builder> httpClientCustomization) {
+        return createClient(new ConfigBuilder().build(), httpClientCustomization);
+    }
+
+    /**
+     * Creates a client that traces its requests, see {@link KubernetesTracingInterceptor}, and whose HTTP client is
+     * further customized by the given consumer.
+     */
+    public static NamespacedKubernetesClient createClient(Config config,
+            Consumer<HttpClient.Builder> httpClientCustomization) {
+        KubernetesClient client = new KubernetesClientBuilder().withConfig(config)
+                .withHttpClientBuilderConsumer(httpClient -> {
+                    httpClient.addOrReplaceInterceptor(KubernetesTracingInterceptor.NAME,
+                            new KubernetesTracingInterceptor());
+                    httpClientCustomization.accept(httpClient);
+                }).build();
         return client.adapt(NamespacedKubernetesClient.class);
     }
 
@@ -0,0 +1,117 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.util;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+/**
+ * Creates JSON merge patches (RFC 7386) from the changes a consumer applies to a resource. Only changed fields are
+ * part of the patch, so concurrent changes to other fields are preserved on the server.
+ */
+public final class JsonMergePatch {
+
+    public static final String STATUS = "status";
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * Applies the given change to a copy of the resource and returns the differences as merge patch.
+     *
+     * @param resource            the resource to change, stays untouched
+     * @param change              the change to apply
+     * @param statusOnly          whether the patch should only contain the status (for the status subresource) or
+     *                            everything but the status
+     * @param lockResourceVersion whether the resource version of the given resource should be added as precondition
+     * @return the patch or empty if the change did not modify anything
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends HasMetadata> Optional<String> create(T resource, Consumer<T> change, boolean statusOnly,
+            boolean lockResourceVersion) {
+        ObjectMapper mapper = Serialization.jsonMapper();
+        try {
+            JsonNode source = mapper.valueToTree(resource);
+            T copy = (T) mapper.treeToValue(source, resource.getClass());
+            change.accept(copy);
+            JsonNode target = mapper.valueToTree(copy);
+
+            ObjectNode patch = diff(source, target);
+            if (statusOnly) {
+                patch.retain(STATUS);
+            } else {
+                patch.remove(STATUS);
+            }
+            if (patch.isEmpty()) {
+                return Optional.empty();
+            }
+            if (lockResourceVersion && resource.getMetadata().getResourceVersion() != null) {
+                // the server rejects the patch with a conflict if the resource was changed in the meantime
+                ObjectNode metadata = patch.has("metadata") ? (ObjectNode) patch.get("metadata")
+                        : patch.putObject("metadata");
+                metadata.put("resourceVersion", resource.getMetadata().getResourceVersion());
+            }
+            return Optional.of(mapper.writeValueAsString(patch));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new KubernetesClientException("Could not create patch for " + resource.getMetadata().getName(), e);
+        }
+    }
+
+    /**
+     * @return a merge patch that turns the source object into the target object
+     */
+    public static ObjectNode diff(JsonNode source, JsonNode target) {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode();
+        Iterator<String> sourceFields = source.fieldNames();
+        while (sourceFields.hasNext()) {
+            String field = sourceFields.next();
+            if (!target.has(field) && !source.get(field).isNull()) {
+                patch.putNull(field);
+            }
+        }
+        Iterator<Entry<String, JsonNode>> targetFields = target.fields();
+        while (targetFields.hasNext()) {
+            Entry<String, JsonNode> field = targetFields.next();
+            JsonNode sourceValue = source.get(field.getKey());
+            JsonNode targetValue = field.getValue();
+            if (sourceValue == null) {
+                if (!targetValue.isNull()) {
+                    patch.set(field.getKey(), targetValue);
+                }
+            } else if (!sourceValue.equals(targetValue)) {
+                if (sourceValue.isObject() && targetValue.isObject()) {
+                    patch.set(field.getKey(), diff(sourceValue, targetValue));
+                } else {
+                    // arrays and values are replaced as a whole
+                    patch.set(field.getKey(), targetValue);
+                }
+            }
+        }
+        return patch;
+    }
+}
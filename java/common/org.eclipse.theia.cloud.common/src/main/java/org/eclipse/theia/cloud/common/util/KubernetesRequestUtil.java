@@ -0,0 +1,123 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.util;
+
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+
+/**
+ * Describes requests of the Kubernetes client by Kubernetes verb and resource type, e.g. for metrics and traces.
+ */
+public final class KubernetesRequestUtil {
+
+    /**
+     * Header carrying the id of the request that was passed to
+     * {@link io.fabric8.kubernetes.client.http.Interceptor#before}. The client sends a copy of that request, which has
+     * a new id, so the response can only be matched to the request via this header.
+     */
+    public static final String REQUEST_ID_HEADER = "X-Theia-Cloud-Request-Id";
+
+    private KubernetesRequestUtil() {
+    }
+
+    /**
+     * Adds the id of the given request to the request that is built by the given builder.
+     *
+     * @return the id to match the response with, see {@link #requestId(HttpRequest)}
+     */
+    public static String tagRequest(BasicBuilder builder, HttpRequest request) {
+        String id = request.id().toString();
+        builder.setHeader(REQUEST_ID_HEADER, id);
+        return id;
+    }
+
+    /**
+     * @return the id stored by {@link #tagRequest(BasicBuilder, HttpRequest)}. Connection failures are reported with
+     *         the request passed to <code>before</code>, which has no such header, so its own id is returned then.
+     */
+    public static String requestId(HttpRequest request) {
+        String id = request.header(REQUEST_ID_HEADER);
+        return id != null ? id : request.id().toString();
+    }
+
+    public static boolean isWatch(HttpRequest request) {
+        String query = request.uri().getQuery();
+        return "GET".equals(request.method()) && query != null && query.contains("watch=true");
+    }
+
+    /**
+     * Maps the HTTP method to the Kubernetes verb, a GET without a resource name is a list or a watch.
+     */
+    public static String verb(HttpRequest request) {
+        switch (request.method()) {
+        case "GET":
+            if (isWatch(request)) {
+                return "watch";
+            }
+            return hasName(request.uri().getPath()) ? "get" : "list";
+        case "POST":
+            return "create";
+        case "PUT":
+            return "update";
+        case "PATCH":
+            return "patch";
+        case "DELETE":
+            return hasName(request.uri().getPath()) ? "delete" : "deletecollection";
+        default:
+            return request.method().toLowerCase();
+        }
+    }
+
+    /**
+     * Returns the resource type of paths like <code>/api/v1/namespaces/ns/pods/name</code> or
+     * <code>/apis/group/version/namespaces/ns/sessions/name/status</code>, including the subresource.
+     */
+    public static String resource(String path) {
+        String[] segments = resourceSegments(path);
+        if (segments.length == 0) {
+            return "unknown";
+        }
+        return segments.length > 2 ? segments[0] + "/" + segments[2] : segments[0];
+    }
+
+    public static boolean hasName(String path) {
+        return resourceSegments(path).length > 1;
+    }
+
+    /**
+     * @return the segments after the api version and namespace: type, name and subresource
+     */
+    private static String[] resourceSegments(String path) {
+        String[] segments = path.replaceAll("^/+", "").split("/");
+        int start;
+        if (segments.length > 0 && "api".equals(segments[0])) {
+            start = 2;
+        } else if (segments.length > 0 && "apis".equals(segments[0])) {
+            start = 3;
+        } else {
+            return new String[0];
+        }
+        if (segments.length > start + 1 && "namespaces".equals(segments[start])) {
+            start += 2;
+        }
+        if (segments.length <= start) {
+            return new String[0];
+        }
+        String[] result = new String[segments.length - start];
+        System.arraycopy(segments, start, result, 0, result.length);
+        return result;
+    }
+}
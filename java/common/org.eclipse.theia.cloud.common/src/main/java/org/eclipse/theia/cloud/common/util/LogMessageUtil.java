@@ -16,14 +16,18 @@
  ********************************************************************************/
 package org.eclipse.theia.cloud.common.util;
 
-import java.text.MessageFormat;
 import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.CloseableThreadContext;
+import org.apache.logging.log4j.ThreadContext;
 
 public final class LogMessageUtil {
 
-    private static final String LOG_MSG_PATTERN = "[{0}] {1}";
+    /** Key of the correlation id in the log context (MDC). */
+    public static final String CORRELATION_ID = "correlationId";
 
-    private static final String METRIC_PATTERN = "[{0}] METRIC: {1}";
+    private static final String METRIC = "METRIC: ";
 
     private LogMessageUtil() {
     }
@@ -32,16 +36,41 @@ public final class LogMessageUtil {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * Puts the given correlation id into the log context of the current thread until the returned instance is closed.
+     * Messages formatted for this correlation id while the context is open are not prefixed with the id, as it is
+     * already part of the log event.
+     */
+    public static CloseableThreadContext.Instance correlationContext(String correlationID) {
+        return CloseableThreadContext.put(CORRELATION_ID, correlationID);
+    }
+
     public static String formatLogMessage(String prefix, String correlationID, String message) {
-        return MessageFormat.format(LOG_MSG_PATTERN, (prefix + correlationID), message);
+        return formatLogMessage(prefix + correlationID, message);
     }
 
     public static String formatLogMessage(String correlationID, String message) {
-        return MessageFormat.format(LOG_MSG_PATTERN, correlationID, message);
+        if (isCurrentContext(correlationID)) {
+            return message;
+        }
+        return "[" + correlationID + "] " + message;
     }
 
     public static String formatMetric(String correlationID, String message) {
-        return MessageFormat.format(METRIC_PATTERN, correlationID, message);
+        return formatLogMessage(correlationID, METRIC + message);
+    }
+
+    /**
+     * Like {@link #formatLogMessage(String, String)} but only computes the message if the log event is enabled, e.g.
+     * <code>LOGGER.trace(lazyLogMessage(correlationId, () -&gt; "Patch " + resource))</code>.
+     */
+    public static org.apache.logging.log4j.util.Supplier<String> lazyLogMessage(String correlationID,
+            Supplier<String> message) {
+        return () -> formatLogMessage(correlationID, message.get());
+    }
+
+    private static boolean isCurrentContext(String correlationID) {
+        return correlationID != null && correlationID.equals(ThreadContext.get(CORRELATION_ID));
     }
 
 }
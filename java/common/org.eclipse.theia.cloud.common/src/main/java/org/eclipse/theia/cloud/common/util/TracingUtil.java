@@ -0,0 +1,167 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+
+/**
+ * Creates OpenTelemetry spans for the steps of Theia Cloud. The service and the operator set the OpenTelemetry instance
+ * on start up. Until then, or if tracing is disabled, all spans are no-ops.
+ * <p>
+ * The trace context is handed over from the service to the operator via annotations on the created resources, see
+ * {@link #inject(HasMetadata)} and {@link #extract(HasMetadata)}.
+ * </p>
+ */
+public final class TracingUtil {
+
+    /** Annotation holding the W3C trace context of the request that created the resource. */
+    public static final String TRACEPARENT_ANNOTATION = "theia-cloud.io/traceparent";
+    public static final String TRACESTATE_ANNOTATION = "theia-cloud.io/tracestate";
+
+    public static final AttributeKey<String> CORRELATION_ID = AttributeKey.stringKey("theia_cloud.correlation_id");
+
+    private static final String INSTRUMENTATION_SCOPE = "org.eclipse.theia.cloud";
+    private static final String TRACEPARENT = "traceparent";
+    private static final String TRACESTATE = "tracestate";
+
+    /** Reads the trace context from the annotations of a resource. */
+    private static final TextMapGetter<Map<String, String>> ANNOTATION_GETTER = new TextMapGetter<>() {
+        @Override
+        public Iterable<String> keys(Map<String, String> annotations) {
+            return List.of(TRACEPARENT, TRACESTATE);
+        }
+
+        @Override
+        public String get(Map<String, String> annotations, String key) {
+            if (annotations == null) {
+                return null;
+            }
+            if (TRACEPARENT.equals(key)) {
+                return annotations.get(TRACEPARENT_ANNOTATION);
+            }
+            if (TRACESTATE.equals(key)) {
+                return annotations.get(TRACESTATE_ANNOTATION);
+            }
+            return null;
+        }
+    };
+
+    private static volatile Tracer tracer = OpenTelemetry.noop().getTracer(INSTRUMENTATION_SCOPE);
+
+    private TracingUtil() {
+    }
+
+    public static void setOpenTelemetry(OpenTelemetry openTelemetry) {
+        TracingUtil.tracer = openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+    }
+
+    public static Tracer tracer() {
+        return tracer;
+    }
+
+    /**
+     * @return a builder for a span that is a child of the current span and is tagged with the given correlation id
+     */
+    public static SpanBuilder spanBuilder(String name, String correlationId) {
+        SpanBuilder builder = tracer.spanBuilder(name);
+        if (correlationId != null) {
+            builder.setAttribute(CORRELATION_ID, correlationId);
+        }
+        return builder;
+    }
+
+    /**
+     * Runs the given operation in a new span that is a child of the current span. Exceptions are recorded on the span.
+     */
+    public static <T> T trace(String name, String correlationId, Supplier<T> operation) {
+        return trace(spanBuilder(name, correlationId).startSpan(), operation);
+    }
+
+    public static void trace(String name, String correlationId, Runnable operation) {
+        trace(name, correlationId, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the given operation with the given span as current span and ends the span afterwards.
+     */
+    public static <T> T trace(Span span, Supplier<T> operation) {
+        try (Scope scope = span.makeCurrent()) {
+            return operation.get();
+        } catch (RuntimeException | Error e) {
+            recordError(span, e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    public static void recordError(Span span, Throwable throwable) {
+        span.recordException(throwable);
+        span.setStatus(StatusCode.ERROR);
+    }
+
+    /**
+     * Stores the current trace context in the annotations of the given resource, so that the operator can continue the
+     * trace when it handles the resource. Does nothing if there is no current span.
+     */
+    public static void inject(HasMetadata resource) {
+        Map<String, String> context = new HashMap<>();
+        W3CTraceContextPropagator.getInstance().inject(Context.current(), context, Map::put);
+        if (!context.containsKey(TRACEPARENT)) {
+            return;
+        }
+        ObjectMeta metadata = resource.getMetadata();
+        if (metadata.getAnnotations() == null) {
+            metadata.setAnnotations(new HashMap<>());
+        }
+        metadata.getAnnotations().put(TRACEPARENT_ANNOTATION, context.get(TRACEPARENT));
+        if (context.containsKey(TRACESTATE)) {
+            metadata.getAnnotations().put(TRACESTATE_ANNOTATION, context.get(TRACESTATE));
+        }
+    }
+
+    /**
+     * @return the trace context stored in the annotations of the given resource or the current context if there is
+     *         none
+     */
+    public static Context extract(HasMetadata resource) {
+        Map<String, String> annotations = resource.getMetadata() == null ? null
+                : resource.getMetadata().getAnnotations();
+        if (annotations == null || !annotations.containsKey(TRACEPARENT_ANNOTATION)) {
+            return Context.current();
+        }
+        return W3CTraceContextPropagator.getInstance().extract(Context.current(), annotations, ANNOTATION_GETTER);
+    }
+}
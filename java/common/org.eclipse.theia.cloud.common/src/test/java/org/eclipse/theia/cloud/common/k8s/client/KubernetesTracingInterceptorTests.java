@@ -0,0 +1,119 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.k8s.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.theia.cloud.common.util.CustomResourceUtil;
+import org.eclipse.theia.cloud.common.util.TracingUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+/**
+ * Runs {@link KubernetesTracingInterceptor} through a real client against a mock server.
+ */
+@EnableKubernetesMockClient
+class KubernetesTracingInterceptorTests {
+
+    private static final AttributeKey<Long> STATUS_CODE = AttributeKey.longKey("http.response.status_code");
+
+    KubernetesMockServer server;
+    KubernetesClient mockClient;
+
+    private InMemorySpanExporter exporter;
+    private OpenTelemetrySdk openTelemetry;
+
+    @BeforeEach
+    void setUp() {
+        exporter = InMemorySpanExporter.create();
+        openTelemetry = OpenTelemetrySdk.builder()//
+                .setTracerProvider(SdkTracerProvider.builder()//
+                        .addSpanProcessor(SimpleSpanProcessor.create(exporter))//
+                        .build())//
+                .build();
+        TracingUtil.setOpenTelemetry(openTelemetry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TracingUtil.setOpenTelemetry(OpenTelemetry.noop());
+        openTelemetry.close();
+    }
+
+    @Test
+    void get_Responses_EndsClientSpans() {
+        server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1")
+                .andReturn(200, new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build()).once();
+        server.expect().get().withPath("/api/v1/namespaces/test/pods/pod2").andReturn(404, null).once();
+
+        try (NamespacedKubernetesClient client = CustomResourceUtil.createClient(mockClient.getConfiguration())) {
+            client.pods().inNamespace("test").withName("pod1").get();
+            client.pods().inNamespace("test").withName("pod2").get();
+        }
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertEquals(2, spans.size());
+        for (SpanData span : spans) {
+            assertEquals("get pods", span.getName());
+            assertEquals(SpanKind.CLIENT, span.getKind());
+            assertTrue(span.hasEnded());
+        }
+        assertEquals(200L, spans.get(0).getAttributes().get(STATUS_CODE));
+        assertEquals(StatusCode.UNSET, spans.get(0).getStatus().getStatusCode());
+        assertEquals(404L, spans.get(1).getAttributes().get(STATUS_CODE));
+        assertEquals(StatusCode.ERROR, spans.get(1).getStatus().getStatusCode());
+    }
+
+    @Test
+    void get_CurrentSpan_CreatesChildSpan() {
+        server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1")
+                .andReturn(200, new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build()).once();
+
+        Span parent = TracingUtil.tracer().spanBuilder("parent").startSpan();
+        try (NamespacedKubernetesClient client = CustomResourceUtil.createClient(mockClient.getConfiguration());
+                Scope scope = parent.makeCurrent()) {
+            client.pods().inNamespace("test").withName("pod1").get();
+        } finally {
+            parent.end();
+        }
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertEquals(2, spans.size());
+        assertEquals("get pods", spans.get(0).getName());
+        assertEquals(parent.getSpanContext().getSpanId(), spans.get(0).getParentSpanId());
+    }
+}
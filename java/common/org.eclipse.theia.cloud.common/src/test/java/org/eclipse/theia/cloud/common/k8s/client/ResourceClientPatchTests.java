@@ -0,0 +1,108 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.k8s.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.theia.cloud.common.k8s.resource.OperatorStatus;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.common.k8s.resource.session.SessionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+
+/**
+ * Unit tests for the patch methods of {@link ResourceClient}, run against a mock server.
+ */
+@EnableKubernetesMockClient
+class ResourceClientPatchTests {
+
+    private static final String SESSION_PATH = "/apis/theia.cloud/v1beta8/namespaces/test/sessions/session";
+
+    KubernetesMockServer server;
+    KubernetesClient mockClient;
+
+    private SessionResourceClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new DefaultSessionResourceClient(mockClient.adapt(NamespacedKubernetesClient.class));
+    }
+
+    @Test
+    void updateStatus_OutdatedStateWithoutChange_PatchesCurrentState() {
+        server.expect().get().withPath(SESSION_PATH).andReturn(200, session("2", OperatorStatus.HANDLING)).once();
+        server.expect().patch().withPath(SESSION_PATH + "/status")
+                .andReturn(200, session("3", OperatorStatus.HANDLED)).once();
+
+        Session updated = client.updateStatus("cor", session("1", OperatorStatus.NEW), status -> {
+            if (OperatorStatus.HANDLING.equals(status.getOperatorStatus())) {
+                status.setOperatorStatus(OperatorStatus.HANDLED);
+            }
+        });
+
+        assertEquals("3", updated.getMetadata().getResourceVersion());
+        assertEquals(2, server.getRequestCount());
+        String patch = server.getLastRequest().getBody().readUtf8();
+        assertTrue(patch.contains("\"operatorStatus\":\"HANDLED\""), patch);
+        assertTrue(patch.contains("\"resourceVersion\":\"2\""), patch);
+    }
+
+    @Test
+    void updateStatus_Conflict_PatchesAgainOnCurrentState() {
+        server.expect().patch().withPath(SESSION_PATH + "/status").andReturn(409, null).once();
+        server.expect().get().withPath(SESSION_PATH).andReturn(200, session("2", OperatorStatus.HANDLING)).once();
+        server.expect().patch().withPath(SESSION_PATH + "/status")
+                .andReturn(200, session("3", OperatorStatus.HANDLING)).once();
+
+        client.updateStatus("cor", session("1", OperatorStatus.HANDLING), status -> status.setUrl("url"));
+
+        assertEquals(3, server.getRequestCount());
+        String patch = server.getLastRequest().getBody().readUtf8();
+        assertTrue(patch.contains("\"url\":\"url\""), patch);
+        assertTrue(patch.contains("\"resourceVersion\":\"2\""), patch);
+    }
+
+    @Test
+    void updateStatus_CurrentStateWithChange_SingleRequest() {
+        server.expect().patch().withPath(SESSION_PATH + "/status")
+                .andReturn(200, session("2", OperatorStatus.HANDLED)).once();
+
+        client.updateStatus("cor", session("1", OperatorStatus.HANDLING),
+                status -> status.setOperatorStatus(OperatorStatus.HANDLED));
+
+        assertEquals(1, server.getRequestCount());
+    }
+
+    private static Session session(String resourceVersion, String operatorStatus) {
+        Session session = new Session();
+        session.setMetadata(new ObjectMetaBuilder()//
+                .withName("session")//
+                .withNamespace("test")//
+                .withResourceVersion(resourceVersion)//
+                .build());
+        SessionStatus status = new SessionStatus();
+        status.setOperatorStatus(operatorStatus);
+        session.setStatus(status);
+        return session;
+    }
+}
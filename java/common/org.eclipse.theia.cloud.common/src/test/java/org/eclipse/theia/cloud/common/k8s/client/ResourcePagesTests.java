@@ -0,0 +1,108 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.k8s.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.common.k8s.resource.session.SessionSpecResourceList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.dsl.Listable;
+
+/**
+ * Unit tests for {@link ResourcePages}.
+ */
+class ResourcePagesTests {
+
+    private Listable<SessionSpecResourceList> operation;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        operation = mock(Listable.class);
+    }
+
+    @Test
+    void stream_multiplePages_followsContinueTokens() {
+        when(operation.list(any(ListOptions.class))).thenReturn(page("token-1", "a", "b"), page("token-2", "c"),
+                page(null, "d"));
+
+        List<String> names = ResourcePages.stream(operation, 2).map(session -> session.getMetadata().getName())
+                .collect(Collectors.toList());
+
+        assertEquals(List.of("a", "b", "c", "d"), names);
+        ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+        verify(operation, times(3)).list(options.capture());
+        assertEquals(Long.valueOf(2), options.getAllValues().get(0).getLimit());
+        assertNull(options.getAllValues().get(0).getContinue());
+        assertEquals("token-1", options.getAllValues().get(1).getContinue());
+        assertEquals("token-2", options.getAllValues().get(2).getContinue());
+    }
+
+    @Test
+    void stream_emptyPageWithToken_requestsNextPage() {
+        when(operation.list(any(ListOptions.class))).thenReturn(page("token-1"), page("", "a"));
+
+        assertEquals(1, ResourcePages.stream(operation).count());
+        verify(operation, times(2)).list(any(ListOptions.class));
+    }
+
+    @Test
+    void stream_shortCircuit_doesNotRequestRemainingPages() {
+        when(operation.list(any(ListOptions.class))).thenReturn(page("token-1", "a", "b"), page(null, "c"));
+
+        assertEquals("a", ResourcePages.stream(operation).findFirst().get().getMetadata().getName());
+        verify(operation, times(1)).list(any(ListOptions.class));
+    }
+
+    @Test
+    void stream_notConsumed_noRequest() {
+        ResourcePages.stream(operation);
+        verify(operation, never()).list(any(ListOptions.class));
+    }
+
+    private static SessionSpecResourceList page(String continueToken, String... names) {
+        SessionSpecResourceList list = new SessionSpecResourceList();
+        ListMeta metadata = new ListMeta();
+        metadata.setContinue(continueToken);
+        list.setMetadata(metadata);
+        List<Session> items = new ArrayList<>();
+        for (String name : names) {
+            Session session = new Session();
+            session.setMetadata(new ObjectMetaBuilder().withName(name).build());
+            items.add(session);
+        }
+        list.setItems(items);
+        return list;
+    }
+}
@@ -0,0 +1,100 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.k8s.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Consumer;
+
+import org.eclipse.theia.cloud.common.k8s.resource.OperatorStatus;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.common.k8s.resource.session.SessionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link StatusWriteBuffer}.
+ */
+class StatusWriteBufferTests {
+
+    private SessionResourceClient client;
+    private Session session;
+    private Session updatedSession;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(SessionResourceClient.class);
+        session = new Session();
+        updatedSession = new Session();
+        when(client.updateStatus(eq("cor"), any(), any())).thenReturn(updatedSession);
+    }
+
+    @Test
+    void flush_noUpdates_noRequest() {
+        StatusWriteBuffer<SessionStatus, Session> buffer = new StatusWriteBuffer<>(client, "cor", session);
+        assertSame(session, buffer.flush());
+        verify(client, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void flush_multipleUpdates_singleRequestInOrder() {
+        StatusWriteBuffer<SessionStatus, Session> buffer = new StatusWriteBuffer<>(client, "cor", session);
+        buffer.update(s -> s.setOperatorStatus(OperatorStatus.HANDLING));
+        buffer.update(s -> s.setOperatorMessage("first"));
+        buffer.update(s -> s.setOperatorMessage("second"));
+        assertTrue(buffer.hasPendingUpdates());
+
+        assertSame(updatedSession, buffer.flush());
+
+        SessionStatus status = applyCapturedMutation(1);
+        assertEquals(OperatorStatus.HANDLING, status.getOperatorStatus());
+        assertEquals("second", status.getOperatorMessage());
+        assertFalse(buffer.hasPendingUpdates());
+        assertSame(updatedSession, buffer.getResource());
+    }
+
+    @Test
+    void updateNow_includesPendingUpdates() {
+        StatusWriteBuffer<SessionStatus, Session> buffer = new StatusWriteBuffer<>(client, "cor", session);
+        buffer.update(s -> s.setOperatorStatus(OperatorStatus.HANDLING));
+        buffer.updateNow(s -> s.setUrl("http://example.com"));
+
+        SessionStatus status = applyCapturedMutation(1);
+        assertEquals(OperatorStatus.HANDLING, status.getOperatorStatus());
+        assertEquals("http://example.com", status.getUrl());
+        assertFalse(buffer.hasPendingUpdates());
+    }
+
+    @SuppressWarnings("unchecked")
+    private SessionStatus applyCapturedMutation(int expectedRequests) {
+        ArgumentCaptor<Consumer<SessionStatus>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(client, times(expectedRequests)).updateStatus(eq("cor"), eq(session), captor.capture());
+        SessionStatus status = new SessionStatus();
+        captor.getValue().accept(status);
+        return status;
+    }
+}
@@ -0,0 +1,90 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.eclipse.theia.cloud.common.k8s.resource.OperatorStatus;
+import org.eclipse.theia.cloud.common.k8s.resource.workspace.Workspace;
+import org.eclipse.theia.cloud.common.k8s.resource.workspace.WorkspaceSpec;
+import org.eclipse.theia.cloud.common.k8s.resource.workspace.WorkspaceStatus;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+
+/**
+ * Unit tests for {@link JsonMergePatch}.
+ */
+class JsonMergePatchTests {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void diff_changedAddedAndRemovedFields() throws Exception {
+        JsonNode source = mapper.readTree("{\"a\":1,\"b\":{\"c\":\"x\",\"d\":\"y\"},\"e\":[1,2],\"f\":true}");
+        JsonNode target = mapper.readTree("{\"a\":1,\"b\":{\"c\":\"z\",\"d\":\"y\"},\"e\":[1],\"g\":\"new\"}");
+        assertEquals(mapper.readTree("{\"b\":{\"c\":\"z\"},\"e\":[1],\"f\":null,\"g\":\"new\"}"),
+                JsonMergePatch.diff(source, target));
+    }
+
+    @Test
+    void diff_equalObjects_emptyPatch() throws Exception {
+        JsonNode source = mapper.readTree("{\"a\":1,\"b\":{\"c\":\"x\"}}");
+        assertTrue(JsonMergePatch.diff(source, source.deepCopy()).isEmpty());
+    }
+
+    @Test
+    void create_statusOnly_containsOnlyChangedStatusFields() throws Exception {
+        Workspace workspace = createWorkspace();
+        Optional<String> patch = JsonMergePatch.create(workspace,
+                toEdit -> toEdit.getStatus().setOperatorStatus(OperatorStatus.HANDLED), true, false);
+        assertEquals(mapper.readTree("{\"status\":{\"operatorStatus\":\"HANDLED\"}}"), mapper.readTree(patch.get()));
+        assertEquals(OperatorStatus.HANDLING, workspace.getStatus().getOperatorStatus());
+    }
+
+    @Test
+    void create_specWithResourceVersion_containsPrecondition() throws Exception {
+        Workspace workspace = createWorkspace();
+        Optional<String> patch = JsonMergePatch.create(workspace, toEdit -> {
+            toEdit.getSpec().setStorage("storage");
+            toEdit.getStatus().setOperatorMessage("ignored");
+        }, false, true);
+        assertEquals(mapper.readTree("{\"spec\":{\"storage\":\"storage\"},\"metadata\":{\"resourceVersion\":\"42\"}}"),
+                mapper.readTree(patch.get()));
+    }
+
+    @Test
+    void create_noChange_empty() {
+        assertTrue(JsonMergePatch.create(createWorkspace(), toEdit -> {
+        }, false, true).isEmpty());
+    }
+
+    private static Workspace createWorkspace() {
+        Workspace workspace = new Workspace();
+        workspace.setMetadata(new ObjectMetaBuilder().withName("workspace").withResourceVersion("42").build());
+        workspace.setSpec(new WorkspaceSpec("workspace", "label", "appdef", "foo"));
+        WorkspaceStatus status = new WorkspaceStatus();
+        status.setOperatorStatus(OperatorStatus.HANDLING);
+        workspace.setStatus(status);
+        return workspace;
+    }
+}
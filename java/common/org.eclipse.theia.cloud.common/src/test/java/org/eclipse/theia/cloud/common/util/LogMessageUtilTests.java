@@ -0,0 +1,64 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.logging.log4j.CloseableThreadContext;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LogMessageUtil}.
+ */
+class LogMessageUtilTests {
+
+    @Test
+    void formatLogMessage_PrefixesCorrelationId() {
+        assertEquals("[abc] Some message", LogMessageUtil.formatLogMessage("abc", "Some message"));
+        assertEquals("[timeout-abc] Some message", LogMessageUtil.formatLogMessage("timeout-", "abc", "Some message"));
+        assertEquals("[abc] METRIC: Some metric", LogMessageUtil.formatMetric("abc", "Some metric"));
+    }
+
+    @Test
+    void formatLogMessage_KeepsPlaceholderSyntax() {
+        assertEquals("[abc] {0} it's", LogMessageUtil.formatLogMessage("abc", "{0} it's"));
+    }
+
+    @Test
+    void formatLogMessage_CorrelationIdInContext_NoPrefix() {
+        try (CloseableThreadContext.Instance context = LogMessageUtil.correlationContext("abc")) {
+            assertEquals("abc", ThreadContext.get(LogMessageUtil.CORRELATION_ID));
+            assertEquals("Some message", LogMessageUtil.formatLogMessage("abc", "Some message"));
+            assertEquals("[other] Some message", LogMessageUtil.formatLogMessage("other", "Some message"));
+        }
+        assertNull(ThreadContext.get(LogMessageUtil.CORRELATION_ID));
+        assertEquals("[abc] Some message", LogMessageUtil.formatLogMessage("abc", "Some message"));
+    }
+
+    @Test
+    void lazyLogMessage_SupplierOnlyCalledOnGet() {
+        boolean[] called = { false };
+        org.apache.logging.log4j.util.Supplier<String> message = LogMessageUtil.lazyLogMessage("abc", () -> {
+            called[0] = true;
+            return "Some message";
+        });
+        assertFalse(called[0]);
+        assertEquals("[abc] Some message", message.get());
+    }
+}
@@ -0,0 +1,95 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
+
+/**
+ * Unit tests for {@link TracingUtil}.
+ */
+class TracingUtilTests {
+
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+    private static final String SPAN_ID = "b7ad6b7169203331";
+
+    @Test
+    void inject_CurrentSpan_AddsTraceparentAnnotation() {
+        Session session = session(null);
+        try (Scope scope = Span.wrap(spanContext()).makeCurrent()) {
+            TracingUtil.inject(session);
+        }
+        assertEquals("00-" + TRACE_ID + "-" + SPAN_ID + "-01",
+                session.getMetadata().getAnnotations().get(TracingUtil.TRACEPARENT_ANNOTATION));
+    }
+
+    @Test
+    void inject_NoCurrentSpan_NoAnnotations() {
+        Session session = session(null);
+        TracingUtil.inject(session);
+        assertNull(session.getMetadata().getAnnotations());
+    }
+
+    @Test
+    void extract_TraceparentAnnotation_ReturnsRemoteParent() {
+        Session session = session(
+                Map.of(TracingUtil.TRACEPARENT_ANNOTATION, "00-" + TRACE_ID + "-" + SPAN_ID + "-01", "other", "value"));
+        SpanContext parent = Span.fromContext(TracingUtil.extract(session)).getSpanContext();
+        assertTrue(parent.isValid());
+        assertTrue(parent.isRemote());
+        assertEquals(TRACE_ID, parent.getTraceId());
+        assertEquals(SPAN_ID, parent.getSpanId());
+    }
+
+    @Test
+    void extract_NoAnnotations_NoParent() {
+        assertFalse(Span.fromContext(TracingUtil.extract(session(null))).getSpanContext().isValid());
+        assertFalse(Span.fromContext(TracingUtil.extract(session(Map.of("other", "value")))).getSpanContext()
+                .isValid());
+    }
+
+    @Test
+    void trace_ReturnsResultOfOperation() {
+        assertEquals("result", TracingUtil.trace("operation", "abc", () -> "result"));
+    }
+
+    private static SpanContext spanContext() {
+        return SpanContext.create(TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault());
+    }
+
+    private static Session session(Map<String, String> annotations) {
+        ObjectMeta metadata = new ObjectMeta();
+        metadata.setName("session");
+        metadata.setAnnotations(annotations);
+        Session session = new Session();
+        session.setMetadata(metadata);
+        return session;
+    }
+}
@@ -16,38 +16,60 @@
 package org.eclipse.theia.cloud.operator;
 
 import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatMetric;
 import static org.eclipse.theia.cloud.common.util.LogMessageUtil.generateCorrelationId;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.resource.OperatorStatus;
+import org.eclipse.theia.cloud.common.k8s.resource.ResourceStatus;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
 import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
 import org.eclipse.theia.cloud.common.k8s.resource.workspace.Workspace;
+import org.eclipse.theia.cloud.common.util.TheiaCloudError;
+import org.eclipse.theia.cloud.common.util.TracingUtil;
+import org.eclipse.theia.cloud.operator.cache.CacheEventHandler;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
 import org.eclipse.theia.cloud.operator.handler.appdef.AppDefinitionHandler;
 import org.eclipse.theia.cloud.operator.handler.session.SessionHandler;
 import org.eclipse.theia.cloud.operator.handler.ws.WorkspaceHandler;
+import org.eclipse.theia.cloud.operator.leader.Leadership;
+import org.eclipse.theia.cloud.operator.metrics.OperatorMetrics;
 import org.eclipse.theia.cloud.operator.plugins.OperatorPlugin;
-import org.eclipse.theia.cloud.operator.util.SpecWatch;
+import org.eclipse.theia.cloud.operator.pool.SlotAllocator;
+import org.eclipse.theia.cloud.operator.pool.WarmPoolController;
+import org.eclipse.theia.cloud.operator.queue.KeyedWorkQueue;
+import org.eclipse.theia.cloud.operator.queue.RetryQueue;
+import org.eclipse.theia.cloud.operator.readiness.SessionReadinessWatcher;
+import org.eclipse.theia.cloud.operator.timeout.SessionTimeoutScheduler;
+import org.eclipse.theia.cloud.operator.tracing.OperatorTracing;
+import org.eclipse.theia.cloud.operator.util.TriConsumer;
 
 import com.google.inject.Inject;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.Watcher;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
 
 public class BasicTheiaCloudOperator implements TheiaCloudOperator {
 
-    private static final ScheduledExecutorService STOP_EXECUTOR = Executors.newSingleThreadScheduledExecutor();
     private static final ScheduledExecutorService WATCH_EXECUTOR = Executors.newSingleThreadScheduledExecutor();
 
     private static final Logger LOGGER = LogManager.getLogger(BasicTheiaCloudOperator.class);
@@ -56,6 +78,10 @@ public class BasicTheiaCloudOperator implements TheiaCloudOperator {
     private static final String COR_ID_WORKSPACEPREFIX = "workspace-watch-";
     private static final String COR_ID_SESSIONPREFIX = "session-watch-";
     private static final String COR_ID_TIMEOUTPREFIX = "timeout-";
+    private static final String COR_ID_QUEUE = "queue";
+    private static final String COR_ID_STARTUP = "startup";
+
+    private static final long STARTUP_REPORT_INTERVAL_S = 10;
 
     @Inject
     private TheiaCloudClient resourceClient;
@@ -75,89 +101,266 @@ public class BasicTheiaCloudOperator implements TheiaCloudOperator {
     @Inject
     private TheiaCloudOperatorArguments arguments;
 
-    private final Map<String, AppDefinition> appDefinitionCache = new ConcurrentHashMap<>();
-    private final Map<String, Workspace> workspaceCache = new ConcurrentHashMap<>();
-    private final Map<String, Session> sessionCache = new ConcurrentHashMap<>();
-    private final Set<SpecWatch<?>> watches = new LinkedHashSet<>();
+    @Inject
+    private TheiaCloudCache cache;
+
+    @Inject
+    private KeyedWorkQueue workQueue;
+
+    @Inject
+    private RetryQueue retryQueue;
+
+    @Inject
+    private SessionTimeoutScheduler timeoutScheduler;
+
+    @Inject
+    private SessionReadinessWatcher readinessWatcher;
+
+    @Inject
+    private WarmPoolController warmPoolController;
+
+    @Inject
+    private SlotAllocator slotAllocator;
+
+    @Inject
+    private Leadership leadership;
+
+    @Inject
+    private OperatorMetrics metrics;
+
+    @Inject
+    private OperatorTracing tracing;
+
+    private long lastWatching = System.currentTimeMillis();
+
+    private final long startupBegin = System.currentTimeMillis();
+    private final LongAdder startupAdded = new LongAdder();
+    private final LongAdder startupSkipped = new LongAdder();
+    private volatile int startupTotal;
+    /** Set once the resources found on start were handled, later added events are no longer startup progress. */
+    private volatile boolean startupDone;
+    private volatile ScheduledFuture<?> startupReport;
+
+    /** Deletions received while in standby, the previous leader may have missed them right before it stopped. */
+    private final Queue<StandbyEvent> standbyDeletions = new ConcurrentLinkedQueue<>();
+    /** Latest modification per resource uid received while in standby, for the same reason. */
+    private final Map<String, StandbyEvent> standbyModifications = new ConcurrentHashMap<>();
 
     @Override
     public void start() {
+        leadership.addListener(leader -> {
+            if (leader) {
+                onPromoted();
+            }
+        });
+        try {
+            // the eager start handler resizes the pools of handled app definitions on start, so they are not skipped
+            cache.addAppDefinitionHandler(new CacheEventHandler<>(
+                    skipHandled(enqueue(this::handleAppDefnitionEvent), AppDefinition::getStatus,
+                            !arguments.isEagerStart()),
+                    "App Definition", COR_ID_APPDEFINITIONPREFIX));
+            cache.addWorkspaceHandler(new CacheEventHandler<>(
+                    skipHandled(enqueue(this::handleWorkspaceEvent), Workspace::getStatus, true), "Workspace",
+                    COR_ID_WORKSPACEPREFIX));
+            cache.addSessionHandler(new CacheEventHandler<>(
+                    skipHandled(enqueue(this::handleSessionEvent), Session::getStatus, true), "Session",
+                    COR_ID_SESSIONPREFIX));
+            tracing.start();
+            metrics.start();
+            timeoutScheduler.start();
+            readinessWatcher.start();
+            warmPoolController.start();
+            slotAllocator.start();
+            cache.start();
+            startupTotal = cache.getAppDefinitions().size() + cache.getWorkspaces().size()
+                    + cache.getSessions().size();
+            startupReport = WATCH_EXECUTOR.scheduleWithFixedDelay(this::logStartupProgress,
+                    STARTUP_REPORT_INTERVAL_S, STARTUP_REPORT_INTERVAL_S, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            LOGGER.error(formatLogMessage(TheiaCloudOperatorLauncher.COR_ID_INIT, "Error while initializing informers"),
+                    e);
+            System.exit(-1);
+        }
+        // plugins read from the cache, so only start them once it is synced
         this.operatorPlugins.forEach(plugin -> plugin.start());
-        watches.add(initAppDefinitionsAndWatchForChanges());
-        watches.add(initWorkspacesAndWatchForChanges());
-        watches.add(initSessionsAndWatchForChanges());
 
-        STOP_EXECUTOR.scheduleWithFixedDelay(this::stopTimedOutSessions, 1, 1, TimeUnit.MINUTES);
         WATCH_EXECUTOR.scheduleWithFixedDelay(this::lookForIdleWatches, 1, 1, TimeUnit.MINUTES);
+        WATCH_EXECUTOR.scheduleWithFixedDelay(this::logQueueMetrics, 1, 1, TimeUnit.MINUTES);
     }
 
-    protected SpecWatch<AppDefinition> initAppDefinitionsAndWatchForChanges() {
-        try {
-            resourceClient.appDefinitions().list().forEach(this::initAppDefinition);
-            SpecWatch<AppDefinition> watcher = new SpecWatch<>(appDefinitionCache, this::handleAppDefnitionEvent,
-                    "App Definition", COR_ID_APPDEFINITIONPREFIX);
-            resourceClient.appDefinitions().operation().watch(watcher);
-            return watcher;
-        } catch (Exception e) {
-            LOGGER.error(formatLogMessage(TheiaCloudOperatorLauncher.COR_ID_INIT,
-                    "Error while initializing app definitions watch"), e);
-            System.exit(-1);
-            throw new IllegalStateException();
+    /**
+     * Informers report every existing resource as added when they start. Resources that were handled before are
+     * dropped right away instead of being queued for a handler that would only skip them again. Only the events
+     * received until the startup reconciliation finished are counted as its progress.
+     */
+    protected <T extends HasMetadata> TriConsumer<Watcher.Action, T, String> skipHandled(
+            TriConsumer<Watcher.Action, T, String> handler, Function<T, ? extends ResourceStatus> status,
+            boolean enabled) {
+        return (action, resource, correlationId) -> {
+            if (action == Watcher.Action.ADDED) {
+                boolean startup = !startupDone;
+                if (startup) {
+                    startupAdded.increment();
+                }
+                if (enabled && Optional.ofNullable(status.apply(resource)).map(ResourceStatus::getOperatorStatus)
+                        .filter(OperatorStatus.HANDLED::equals).isPresent()) {
+                    if (startup) {
+                        startupSkipped.increment();
+                    }
+                    return;
+                }
+            }
+            handler.accept(action, resource, correlationId);
+        };
+    }
+
+    /**
+     * Reports how many of the resources found on start were received, skipped and are still queued, until all of them
+     * were handled. The progress is logged and exposed as metrics.
+     */
+    protected void logStartupProgress() {
+        long added = startupAdded.sum();
+        long skipped = startupSkipped.sum();
+        int pending = workQueue.getDepth() + workQueue.getActive();
+        long durationMs = System.currentTimeMillis() - startupBegin;
+        boolean done = added >= startupTotal && pending == 0;
+        LOGGER.info(formatMetric(COR_ID_STARTUP,
+                "Startup reconciliation " + (done ? "finished" : "in progress") + ": total=" + startupTotal
+                        + ", received=" + added + ", skipped=" + skipped + ", pending=" + pending + ", durationMs="
+                        + durationMs));
+        metrics.setStartupProgress(startupTotal, added, skipped, durationMs, done);
+        if (done) {
+            startupDone = true;
+            startupReport.cancel(false);
         }
     }
 
-    protected SpecWatch<Workspace> initWorkspacesAndWatchForChanges() {
-        try {
-            resourceClient.workspaces().list().forEach(this::initWorkspace);
-            SpecWatch<Workspace> watcher = new SpecWatch<>(workspaceCache, this::handleWorkspaceEvent, "Workspace",
-                    COR_ID_WORKSPACEPREFIX);
-            resourceClient.workspaces().operation().watch(watcher);
-            return watcher;
-        } catch (Exception e) {
-            LOGGER.error(formatLogMessage(TheiaCloudOperatorLauncher.COR_ID_INIT,
-                    "Error while initializing workspace watch"), e);
-            System.exit(-1);
-            throw new IllegalStateException();
+    /**
+     * Events are handled on the work queue, keyed by the uid of the resource. This way events of the same resource are
+     * handled in order while a slow handler does not block events of other resources. Events that are still queued
+     * when this replica stops being responsible for the resource are treated like events received in standby.
+     */
+    protected <T extends HasMetadata> TriConsumer<Watcher.Action, T, String> enqueue(
+            TriConsumer<Watcher.Action, T, String> handler) {
+        return (action, resource, correlationId) -> {
+            if (!leadership.isResponsibleFor(resource)) {
+                onStandbyEvent(action, resource, correlationId, handler);
+                return;
+            }
+            workQueue.submit(resource.getMetadata().getUid(), correlationId, () -> {
+                if (!leadership.runIfResponsible(resource, () -> handler.accept(action, resource, correlationId))) {
+                    onStandbyEvent(action, resource, correlationId, handler);
+                }
+            });
+        };
+    }
+
+    /**
+     * In standby the cache is kept in sync but events are not handled. Deletions and the latest modification of each
+     * resource are remembered for the lease duration because a leader that stops may not have handled the last ones.
+     */
+    protected <T extends HasMetadata> void onStandbyEvent(Watcher.Action action, T resource, String correlationId,
+            TriConsumer<Watcher.Action, T, String> handler) {
+        long now = System.currentTimeMillis();
+        long maxAgeMs = TimeUnit.SECONDS.toMillis(arguments.getLeaderLeaseDuration());
+        standbyDeletions.removeIf(deletion -> now - deletion.receivedAt > maxAgeMs);
+        standbyModifications.values().removeIf(modification -> now - modification.receivedAt > maxAgeMs);
+        String uid = resource.getMetadata().getUid();
+        StandbyEvent event = new StandbyEvent(now, resource, correlationId,
+                () -> handler.accept(action, resource, correlationId));
+        if (action == Watcher.Action.DELETED) {
+            standbyModifications.remove(uid);
+            standbyDeletions.add(event);
+        } else if (action == Watcher.Action.MODIFIED) {
+            standbyModifications.put(uid, event);
         }
     }
 
-    protected SpecWatch<Session> initSessionsAndWatchForChanges() {
-        try {
-            resourceClient.sessions().list().forEach(this::initSession);
-            SpecWatch<Session> watcher = new SpecWatch<>(sessionCache, this::handleSessionEvent, "Session",
-                    COR_ID_SESSIONPREFIX);
-            resourceClient.sessions().operation().watch(watcher);
-            return watcher;
-        } catch (Exception e) {
-            LOGGER.error(
-                    formatLogMessage(TheiaCloudOperatorLauncher.COR_ID_INIT, "Error while initializing session watch"),
-                    e);
-            System.exit(-1);
-            throw new IllegalStateException();
+    /**
+     * Takes over from a previous leader using the already synced cache. Instead of replaying all resources, only the
+     * resources that were not handled yet and the deletions and modifications of the last lease duration are handled.
+     * App definitions are few and their handlers keep state like the prewarmed instances in line with the spec, so all
+     * handled app definitions are reconciled as modified. When running with shards this is called whenever shards
+     * were acquired and only handles the resources of the owned shards.
+     */
+    protected void onPromoted() {
+        String correlationId = generateCorrelationId();
+        LOGGER.info(formatLogMessage(TheiaCloudOperatorLauncher.COR_ID_INIT, correlationId,
+                "Switching to active mode with a synced cache"));
+        int pending = 0;
+        pending += handleUnfinished(cache.getAppDefinitions(), AppDefinition::getStatus,
+                enqueue(this::handleAppDefnitionEvent));
+        pending += handleUnfinished(cache.getWorkspaces(), Workspace::getStatus, enqueue(this::handleWorkspaceEvent));
+        pending += handleUnfinished(cache.getSessions(), Session::getStatus, enqueue(this::handleSessionEvent));
+        pending += reconcileHandled(cache.getAppDefinitions(), AppDefinition::getStatus,
+                enqueue(this::handleAppDefnitionEvent));
+        for (StandbyEvent modification : standbyModifications.values()) {
+            String uid = modification.resource.getMetadata().getUid();
+            if (!(modification.resource instanceof AppDefinition) && leadership.isResponsibleFor(modification.resource)
+                    && standbyModifications.remove(uid, modification)) {
+                submitStandbyEvent(modification);
+                pending++;
+            }
+        }
+        for (StandbyEvent deletion : standbyDeletions) {
+            if (leadership.isResponsibleFor(deletion.resource) && standbyDeletions.remove(deletion)) {
+                submitStandbyEvent(deletion);
+                pending++;
+            }
         }
+        LOGGER.info(formatLogMessage(TheiaCloudOperatorLauncher.COR_ID_INIT, correlationId,
+                "Active mode: " + pending + " resources left unhandled by the previous leader are handled now"));
     }
 
-    protected void initAppDefinition(AppDefinition resource) {
-        appDefinitionCache.put(resource.getMetadata().getUid(), resource);
-        String uid = resource.getMetadata().getUid();
-        handleAppDefnitionEvent(Watcher.Action.ADDED, uid, TheiaCloudOperatorLauncher.COR_ID_INIT);
+    protected void submitStandbyEvent(StandbyEvent event) {
+        workQueue.submit(event.resource.getMetadata().getUid(), event.correlationId,
+                () -> leadership.runIfResponsible(event.resource, event.handler));
     }
 
-    protected void initWorkspace(Workspace resource) {
-        workspaceCache.put(resource.getMetadata().getUid(), resource);
-        String uid = resource.getMetadata().getUid();
-        handleWorkspaceEvent(Watcher.Action.ADDED, uid, TheiaCloudOperatorLauncher.COR_ID_INIT);
+    /**
+     * Handles the given handled resources as modified, so the handlers reconcile changes the previous leader missed.
+     */
+    protected <T extends HasMetadata> int reconcileHandled(List<T> resources,
+            Function<T, ? extends ResourceStatus> status, TriConsumer<Watcher.Action, T, String> handler) {
+        int pending = 0;
+        for (T resource : resources) {
+            String operatorStatus = Optional.ofNullable(status.apply(resource)).map(ResourceStatus::getOperatorStatus)
+                    .orElse(OperatorStatus.NEW);
+            if (OperatorStatus.HANDLED.equals(operatorStatus) && leadership.isResponsibleFor(resource)) {
+                handler.accept(Watcher.Action.MODIFIED, resource, generateCorrelationId());
+                pending++;
+            }
+        }
+        return pending;
     }
 
-    protected void initSession(Session resource) {
-        sessionCache.put(resource.getMetadata().getUid(), resource);
-        String uid = resource.getMetadata().getUid();
-        handleSessionEvent(Watcher.Action.ADDED, uid, TheiaCloudOperatorLauncher.COR_ID_INIT);
+    protected <T extends HasMetadata> int handleUnfinished(List<T> resources,
+            Function<T, ? extends ResourceStatus> status, TriConsumer<Watcher.Action, T, String> handler) {
+        int pending = 0;
+        for (T resource : resources) {
+            String operatorStatus = Optional.ofNullable(status.apply(resource)).map(ResourceStatus::getOperatorStatus)
+                    .orElse(OperatorStatus.NEW);
+            if (!OperatorStatus.HANDLED.equals(operatorStatus) && !OperatorStatus.ERROR.equals(operatorStatus)
+                    && leadership.isResponsibleFor(resource)) {
+                handler.accept(Watcher.Action.ADDED, resource, generateCorrelationId());
+                pending++;
+            }
+        }
+        return pending;
     }
 
-    protected void handleAppDefnitionEvent(Watcher.Action action, String uid, String correlationId) {
-        try {
-            AppDefinition appDefinition = appDefinitionCache.get(uid);
+    protected void logQueueMetrics() {
+        LOGGER.info(formatMetric(COR_ID_QUEUE,
+                workQueue.getName() + " queue: depth=" + workQueue.getDepth() + ", active=" + workQueue.getActive()
+                        + ", processed=" + workQueue.getProcessed() + ", averageWaitMs="
+                        + workQueue.getAverageWaitTime() + ", maxWaitMs=" + workQueue.getMaxWaitTime()));
+    }
+
+    protected void handleAppDefnitionEvent(Watcher.Action action, AppDefinition appDefinition, String correlationId) {
+        long start = System.nanoTime();
+        boolean success = false;
+        Span span = startHandlerSpan(handlerName("appDefinition", action), action, appDefinition, correlationId);
+        try (Scope scope = span.makeCurrent()) {
             switch (action) {
             case ADDED:
                 appDefinitionAddedHandler.appDefinitionAdded(appDefinition, correlationId);
@@ -175,14 +378,24 @@ public class BasicTheiaCloudOperator implements TheiaCloudOperator {
                 appDefinitionAddedHandler.appDefinitionBookmarked(appDefinition, correlationId);
                 break;
             }
+            success = true;
+            retryQueue.reset(attemptKey(action, appDefinition));
         } catch (Exception e) {
+            TracingUtil.recordError(span, e);
             LOGGER.error(formatLogMessage(correlationId, "Error while handling app definitions"), e);
+            retryOrDeadLetter(action, appDefinition, correlationId, cache::getAppDefinition,
+                    this::handleAppDefnitionEvent, this::deadLetterAppDefinition, e);
+        } finally {
+            metrics.recordReconcile(handlerName("appDefinition", action), System.nanoTime() - start, success);
+            span.end();
         }
     }
 
-    protected void handleSessionEvent(Watcher.Action action, String uid, String correlationId) {
-        try {
-            Session session = sessionCache.get(uid);
+    protected void handleSessionEvent(Watcher.Action action, Session session, String correlationId) {
+        long start = System.nanoTime();
+        boolean success = false;
+        Span span = startHandlerSpan(handlerName("session", action), action, session, correlationId);
+        try (Scope scope = span.makeCurrent()) {
             switch (action) {
             case ADDED:
                 sessionHandler.sessionAdded(session, correlationId);
@@ -200,17 +413,24 @@ public class BasicTheiaCloudOperator implements TheiaCloudOperator {
                 sessionHandler.sessionBookmarked(session, correlationId);
                 break;
             }
+            success = true;
+            retryQueue.reset(attemptKey(action, session));
         } catch (Exception e) {
+            TracingUtil.recordError(span, e);
             LOGGER.error(formatLogMessage(correlationId, "Error while handling sessions"), e);
-            if (!arguments.isContinueOnException()) {
-                System.exit(-1);
-            }
+            retryOrDeadLetter(action, session, correlationId, cache::getSession, this::handleSessionEvent,
+                    this::deadLetterSession, e);
+        } finally {
+            metrics.recordReconcile(handlerName("session", action), System.nanoTime() - start, success);
+            span.end();
         }
     }
 
-    protected void handleWorkspaceEvent(Watcher.Action action, String uid, String correlationId) {
-        try {
-            Workspace workspace = workspaceCache.get(uid);
+    protected void handleWorkspaceEvent(Watcher.Action action, Workspace workspace, String correlationId) {
+        long start = System.nanoTime();
+        boolean success = false;
+        Span span = startHandlerSpan(handlerName("workspace", action), action, workspace, correlationId);
+        try (Scope scope = span.makeCurrent()) {
             switch (action) {
             case ADDED:
                 workspaceHandler.workspaceAdded(workspace, correlationId);
@@ -228,80 +448,138 @@ public class BasicTheiaCloudOperator implements TheiaCloudOperator {
                 workspaceHandler.workspaceBookmarked(workspace, correlationId);
                 break;
             }
+            success = true;
+            retryQueue.reset(attemptKey(action, workspace));
         } catch (Exception e) {
+            TracingUtil.recordError(span, e);
             LOGGER.error(formatLogMessage(correlationId, "Error while handling workspaces"), e);
-            if (!arguments.isContinueOnException()) {
-                System.exit(-1);
-            }
+            retryOrDeadLetter(action, workspace, correlationId, cache::getWorkspace, this::handleWorkspaceEvent,
+                    this::deadLetterWorkspace, e);
+        } finally {
+            metrics.recordReconcile(handlerName("workspace", action), System.nanoTime() - start, success);
+            span.end();
         }
     }
 
-    protected void stopTimedOutSessions() {
-        String correlationId = generateCorrelationId();
+    /**
+     * Starts the span of a handler call. Handling an added resource continues the trace of the request that created
+     * the resource, e.g. the launch request of the service.
+     */
+    protected Span startHandlerSpan(String handler, Watcher.Action action, HasMetadata resource,
+            String correlationId) {
+        Context parent = action == Watcher.Action.ADDED ? TracingUtil.extract(resource) : Context.current();
+        return TracingUtil.spanBuilder(handler, correlationId)//
+                .setParent(parent)//
+                .setAttribute("theia_cloud.resource", resource.getMetadata().getName())//
+                .startSpan();
+    }
 
-        try {
-            Set<String> timedOutSessions = new LinkedHashSet<>();
-            Instant now = Instant.now();
-            for (Session session : resourceClient.sessions().list()) {
-                if (isSessionTimedOut(correlationId, now, session)) {
-                    timedOutSessions.add(session.getSpec().getName());
-                }
-            }
+    /**
+     * @return the name of the handler method for the given action, e.g. <code>sessionAdded</code>
+     */
+    protected static String handlerName(String resource, Watcher.Action action) {
+        switch (action) {
+        case ADDED:
+            return resource + "Added";
+        case DELETED:
+            return resource + "Deleted";
+        case MODIFIED:
+            return resource + "Modified";
+        case ERROR:
+            return resource + "Errored";
+        default:
+            return resource + "Bookmarked";
+        }
+    }
 
-            for (String sessionName : timedOutSessions) {
-                resourceClient.sessions().delete(COR_ID_TIMEOUTPREFIX + correlationId, sessionName);
-            }
-        } catch (Exception e) {
-            LOGGER.error(formatLogMessage(COR_ID_TIMEOUTPREFIX, correlationId, "Exception in kill after runnable"), e);
-            if (!arguments.isContinueOnException()) {
-                System.exit(-1);
-            }
+    /**
+     * Schedules another attempt to handle the event. Unless the resource was deleted, later attempts use the latest
+     * known state of the resource. Once the maximum number of attempts is reached the resource is marked as failed.
+     */
+    protected <T extends HasMetadata> void retryOrDeadLetter(Watcher.Action action, T resource, String correlationId,
+            Function<String, Optional<T>> lookup, TriConsumer<Watcher.Action, T, String> handler,
+            TriConsumer<T, String, String> deadLetter, Exception error) {
+        String attemptKey = attemptKey(action, resource);
+        Runnable attempt;
+        if (action == Watcher.Action.DELETED) {
+            attempt = () -> handler.accept(action, resource, correlationId);
+        } else {
+            String name = resource.getMetadata().getName();
+            attempt = () -> lookup.apply(name).ifPresentOrElse(latest -> handler.accept(action, latest, correlationId),
+                    () -> retryQueue.reset(attemptKey));
+        }
+        // a new leader takes over unfinished resources from its cache
+        Runnable retry = () -> leadership.runIfResponsible(resource, attempt);
+        if (!retryQueue.retry(resource.getMetadata().getUid(), attemptKey, correlationId, retry)
+                && action != Watcher.Action.DELETED) {
+            String message = "Giving up after " + retryQueue.getMaxAttempts() + " attempts to handle " + action
+                    + " event: " + error.getMessage();
+            deadLetter.accept(resource, correlationId, message);
         }
     }
 
     /**
-     * If watches have not been called at all (neither reconnecting calls or actual actions), this might mean that the
-     * watch can't communicate with the kube API anymore. In this case we want to hand over to a different operator
-     * which will start up fresh watches.
+     * Attempts are counted per resource and event type. Otherwise the status updates of a failing handler would
+     * trigger successful MODIFIED events that reset the attempts of a failing ADDED event.
+     */
+    protected String attemptKey(Watcher.Action action, HasMetadata resource) {
+        return resource.getMetadata().getUid() + "/" + action;
+    }
+
+    protected void deadLetterAppDefinition(AppDefinition appDefinition, String correlationId, String message) {
+        resourceClient.appDefinitions().updateStatus(correlationId, appDefinition, status -> {
+            status.setOperatorStatus(OperatorStatus.ERROR);
+            status.setOperatorMessage(message);
+        });
+    }
+
+    protected void deadLetterWorkspace(Workspace workspace, String correlationId, String message) {
+        resourceClient.workspaces().updateStatus(correlationId, workspace, status -> {
+            status.setOperatorStatus(OperatorStatus.ERROR);
+            status.setOperatorMessage(message);
+            status.setError(new TheiaCloudError(message));
+        });
+    }
+
+    protected void deadLetterSession(Session session, String correlationId, String message) {
+        resourceClient.sessions().updateStatus(correlationId, session, status -> {
+            status.setOperatorStatus(OperatorStatus.ERROR);
+            status.setOperatorMessage(message);
+            status.setError(new TheiaCloudError(message));
+        });
+    }
+
+    /**
+     * If the informers have not been watching for a long time, this might mean that they can't communicate with the
+     * kube API anymore. The informers keep reconnecting on their own, so this is only reported.
      */
     protected void lookForIdleWatches() {
         String correlationId = generateCorrelationId();
         long now = System.currentTimeMillis();
-        for (SpecWatch<?> watch : watches) {
-            long idleForMs = now - watch.getLastActive();
-            LOGGER.trace(formatLogMessage(COR_ID_TIMEOUTPREFIX, correlationId,
-                    watch.getResourceName() + " watch was idle for " + idleForMs + " ms"));
-            if (idleForMs > arguments.getMaxWatchIdleTime()) {
-                LOGGER.error(formatLogMessage(COR_ID_TIMEOUTPREFIX, correlationId, watch.getResourceName()
-                        + " was idle for too long and is assumed to be disconnected. Exit operator.."));
-                System.exit(-1);
-            }
+        if (cache.isWatching()) {
+            lastWatching = now;
+            return;
+        }
+        long idleForMs = now - lastWatching;
+        LOGGER.trace(formatLogMessage(COR_ID_TIMEOUTPREFIX, correlationId,
+                "Informers were not watching for " + idleForMs + " ms"));
+        if (idleForMs > arguments.getMaxWatchIdleTime()) {
+            LOGGER.error(formatLogMessage(COR_ID_TIMEOUTPREFIX, correlationId, "Informers were not watching for "
+                    + idleForMs + " ms and are assumed to be disconnected. They keep trying to reconnect."));
         }
     }
 
-    protected boolean isSessionTimedOut(String correlationId, Instant now, Session session) {
-        Optional<Integer> timeout = resourceClient.appDefinitions().get(session.getSpec().getAppDefinition())
-                .map(appDef -> appDef.getSpec().getTimeout());
-        if (timeout.isEmpty() || timeout.get() <= 0) {
-            LOGGER.trace(formatLogMessage(COR_ID_TIMEOUTPREFIX, correlationId,
-                    "Session " + session.getSpec().getName() + " will not be stopped automatically [NoTimeout]."));
-            return false;
+    protected static final class StandbyEvent {
+        private final long receivedAt;
+        private final HasMetadata resource;
+        private final String correlationId;
+        private final Runnable handler;
+
+        StandbyEvent(long receivedAt, HasMetadata resource, String correlationId, Runnable handler) {
+            this.receivedAt = receivedAt;
+            this.resource = resource;
+            this.correlationId = correlationId;
+            this.handler = handler;
         }
-        int limit = timeout.get();
-        String creationTimestamp = session.getMetadata().getCreationTimestamp();
-        Instant parse = Instant.parse(creationTimestamp);
-        long minutesSinceCreation = ChronoUnit.MINUTES.between(parse, now);
-        LOGGER.trace(formatLogMessage(correlationId, "Checking " + session.getSpec().getName()
-                + ". minutesSinceLastActivity: " + minutesSinceCreation + ". limit: " + limit));
-        if (minutesSinceCreation > limit) {
-            LOGGER.trace(formatLogMessage(COR_ID_TIMEOUTPREFIX, correlationId,
-                    "Session " + session.getSpec().getName() + " was stopped after " + limit + " minutes."));
-            return true;
-        } else {
-            LOGGER.trace(formatLogMessage(COR_ID_TIMEOUTPREFIX, correlationId, "Session " + session.getSpec().getName()
-                    + " will keep running until the limit of " + limit + " is hit."));
-        }
-        return false;
     }
-
 }
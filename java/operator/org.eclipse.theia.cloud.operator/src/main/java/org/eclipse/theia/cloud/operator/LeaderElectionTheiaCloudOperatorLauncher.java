@@ -23,6 +23,8 @@ import java.util.UUID;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.theia.cloud.operator.di.AbstractTheiaCloudOperatorModule;
+import org.eclipse.theia.cloud.operator.leader.Leadership;
+import org.eclipse.theia.cloud.operator.leader.ShardedLeadership;
 
 import com.google.inject.Guice;
 import com.google.inject.Injector;
@@ -31,6 +33,7 @@ import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.extended.leaderelection.LeaderCallbacks;
 import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectionConfig;
 import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectionConfigBuilder;
@@ -43,19 +46,37 @@ public abstract class LeaderElectionTheiaCloudOperatorLauncher extends TheiaClou
 
     protected static final String LEASE_LOCK_NAME = "theia-cloud-operator-leaders";
 
+    private final String lockIdentity = UUID.randomUUID().toString();
+
+    private Leadership leadership;
+
+    private volatile LeaderElector leaderElector;
+
     @Override
     public void runMain(String[] args) throws InterruptedException {
         this.args = createArguments(args);
 
+        // replicas that are not leading keep their caches in sync, so they can take over without a cold start
+        startOperatorAsStandby(this.args);
+
+        if (leadership instanceof ShardedLeadership sharded) {
+            // all replicas are active and split the sessions and workspaces between them
+            LOGGER.info(
+                    formatLogMessage(COR_ID_INIT, "Launching Theia Cloud with " + this.args.getShards() + " shards"));
+            sharded.run();
+            return;
+        }
+
         LOGGER.info(formatLogMessage(COR_ID_INIT, "Launching Theia Cloud Leader Election now"));
 
-        this.runLeaderElection(this.args);
+        while (!Thread.currentThread().isInterrupted()) {
+            this.runLeaderElection(this.args);
+        }
 
         LOGGER.info(formatLogMessage(COR_ID_INIT, "Theia Cloud Leader Election Loop Ended"));
     }
 
     protected void runLeaderElection(TheiaCloudOperatorArguments args) {
-        final String lockIdentity = UUID.randomUUID().toString();
         LOGGER.info(formatLogMessage(COR_ID_INIT, "Own lock identity is " + lockIdentity));
 
         long leaseDurationInSeconds = this.args.getLeaderLeaseDuration();
@@ -68,7 +89,8 @@ public abstract class LeaderElectionTheiaCloudOperatorLauncher extends TheiaClou
             String leaseLockNamespace = k8sClient.getNamespace();
 
             LeaderElectionConfig leaderElectionConfig = new LeaderElectionConfigBuilder()//
-                    .withReleaseOnCancel(true)//
+                    // the lease is released in onStopLeading once the running work finished
+                    .withReleaseOnCancel(false)//
                     .withName("Theia Cloud Operator Leader Election")//
 
                     // non leaders will check after this time if they can become leader
@@ -86,33 +108,48 @@ public abstract class LeaderElectionTheiaCloudOperatorLauncher extends TheiaClou
                                     LeaderElectionTheiaCloudOperatorLauncher.this::onStopLeading,
                                     LeaderElectionTheiaCloudOperatorLauncher.this::onNewLeader))//
                     .build();
-            LeaderElector leaderElector = k8sClient.leaderElector().withConfig(leaderElectionConfig).build();
+            leaderElector = k8sClient.leaderElector().withConfig(leaderElectionConfig).build();
             leaderElector.run();
         }
     }
 
     protected void onStartLeading() {
         LOGGER.info(formatLogMessage(COR_ID_INIT, "Elected as new leader!"));
-        startOperatorAsLeader(args);
+        leadership.setLeader(true);
     }
 
+    /**
+     * Queued work is skipped and running work is given time to finish before the lease is released, so the next leader
+     * does not handle resources this replica is still working on.
+     */
     protected void onStopLeading() {
-        LOGGER.info(formatLogMessage(COR_ID_INIT, "Removed as leader!"));
-        System.exit(0);
+        LOGGER.info(formatLogMessage(COR_ID_INIT, "Removed as leader! Switching to standby."));
+        leadership.setLeader(false);
+        LeaderElector elector = leaderElector;
+        if (elector != null) {
+            try {
+                // only releases the lease if this replica still holds it
+                elector.release();
+            } catch (KubernetesClientException e) {
+                LOGGER.warn(formatLogMessage(COR_ID_INIT, "Could not release the leader lease"), e);
+            }
+        }
     }
 
     protected void onNewLeader(String newLeader) {
         LOGGER.info(formatLogMessage(COR_ID_INIT, newLeader + " is the new leader."));
     }
 
-    protected void startOperatorAsLeader(TheiaCloudOperatorArguments arguments) {
+    protected void startOperatorAsStandby(TheiaCloudOperatorArguments arguments) {
         AbstractTheiaCloudOperatorModule module = createModule(arguments);
         LOGGER.info(formatLogMessage(COR_ID_INIT, "Using " + module.getClass().getName() + " as DI module"));
 
         Injector injector = Guice.createInjector(module);
+        leadership = injector.getInstance(Leadership.class);
+        leadership.setLeader(false);
         TheiaCloudOperator theiaCloud = injector.getInstance(TheiaCloudOperator.class);
 
-        LOGGER.info(formatLogMessage(COR_ID_INIT, "Launching Theia Cloud Now"));
+        LOGGER.info(formatLogMessage(COR_ID_INIT, "Launching Theia Cloud in standby now"));
         theiaCloud.start();
     }
 
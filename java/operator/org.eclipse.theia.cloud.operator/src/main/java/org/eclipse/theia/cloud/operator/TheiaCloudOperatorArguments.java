@@ -29,6 +29,10 @@ public class TheiaCloudOperatorArguments {
         K8SANNOTATION, WONDERSHAPER, K8SANNOTATIONANDWONDERSHAPER
     }
 
+    public enum RoutingMode {
+        INGRESS, HTTPROUTE
+    }
+
     @Option(names = { "--keycloak" }, description = "Whether to use keycloak", required = false)
     private boolean useKeycloak;
 
@@ -115,11 +119,11 @@ public class TheiaCloudOperatorArguments {
     private int leaderRetryPeriod = 2;
 
     @Option(names = {
-            "--maxWatchIdleTime" }, description = "When a kubernetes watcher is idle for more than this time (in milliseconds) we assume that there is a problem and restart.", required = false)
+            "--maxWatchIdleTime" }, description = "When a kubernetes watcher is idle for more than this time (in milliseconds) we assume that there is a problem and report it. Informers keep reconnecting in-process.", required = false)
     private long maxWatchIdleTime = 1000 * 60 * 60; // 1 Hour
 
     @Option(names = {
-            "--continueOnException" }, description = "Whether the operator will continue to run in case of unexpected exceptions.", required = false)
+            "--continueOnException" }, description = "(Deprecated) Failed events are retried and no longer stop the operator.", required = false, hidden = true)
     private boolean continueOnException;
 
     @Option(names = {
@@ -130,6 +134,70 @@ public class TheiaCloudOperatorArguments {
             "--ingressPathSuffix" }, description = "The suffix appended to ingress paths. For nginx use '(/|$)(.*)'. For HAProxy use empty string.", required = false, defaultValue = "(/|$)(.*)")
     private String ingressPathSuffix;
 
+    @Option(names = {
+            "--reconcileThreads" }, description = "Number of worker threads handling resource events. Events for the same resource are always handled in order.", required = false)
+    private int reconcileThreads = 10;
+
+    @Option(names = {
+            "--maxReconcileAttempts" }, description = "How often handling a resource event is attempted before the resource is marked as failed.", required = false)
+    private int maxReconcileAttempts = 5;
+
+    @Option(names = {
+            "--reconcileRetryBaseDelay" }, description = "Delay (in milliseconds) before the first retry of a failed resource event. Doubles with every attempt.", required = false)
+    private long reconcileRetryBaseDelay = 1000;
+
+    @Option(names = {
+            "--reconcileRetryMaxDelay" }, description = "Maximum delay (in milliseconds) between two retries of a failed resource event.", required = false)
+    private long reconcileRetryMaxDelay = 1000 * 60 * 2; // 2 Minutes
+
+    @Option(names = {
+            "--routingMode" }, description = "How sessions are exposed. INGRESS adds rules to the ingress of the app definition, HTTPROUTE creates a Gateway API HTTPRoute per session.", required = false)
+    private RoutingMode routingMode = RoutingMode.INGRESS;
+
+    @Option(names = {
+            "--gatewayName" }, description = "Name of the Gateway the HTTPRoutes of sessions are attached to, if the routing mode is HTTPROUTE.", required = false)
+    private String gatewayName;
+
+    @Option(names = {
+            "--gatewayNamespace" }, description = "Namespace of the Gateway. Defaults to the namespace of the operator.", required = false)
+    private String gatewayNamespace;
+
+    @Option(names = {
+            "--resourcePrototypes" }, description = "Whether session resources are created from pre-parsed templates instead of parsing the YAML template for every session.", required = false)
+    private boolean resourcePrototypes;
+
+    @Option(names = {
+            "--warmPoolAutoscaling" }, description = "Whether the number of prewarmed instances of an app definition is scaled between minInstances and maxInstances based on demand. Only used with eager start.", required = false)
+    private boolean warmPoolAutoscaling;
+
+    @Option(names = {
+            "--warmPoolHeadroom" }, description = "Number of free prewarmed instances that are kept in addition to the expected demand.", required = false)
+    private int warmPoolHeadroom = 1;
+
+    @Option(names = {
+            "--warmPoolLeadTime" }, description = "Time (in seconds) it takes a new prewarmed instance to become ready. Enough free instances are kept to serve the sessions expected within this time.", required = false)
+    private long warmPoolLeadTime = 120;
+
+    @Option(names = {
+            "--warmPoolScaleDownCooldown" }, description = "Time (in seconds) after the last change of a warm pool before it may be shrunk.", required = false)
+    private long warmPoolScaleDownCooldown = 600;
+
+    @Option(names = {
+            "--warmPoolEvaluationInterval" }, description = "Interval (in seconds) in which the size of the warm pools is evaluated.", required = false)
+    private long warmPoolEvaluationInterval = 30;
+
+    @Option(names = {
+            "--shards" }, description = "Number of shards sessions and workspaces are partitioned into. If set, all replicas are active and each handles the shards it holds a lease for instead of a single leader handling everything.", required = false)
+    private int shards;
+
+    @Option(names = {
+            "--metricsPort" }, description = "Port of the HTTP endpoint serving Prometheus metrics at /metrics. 0 disables the endpoint.", required = false)
+    private int metricsPort = 9464;
+
+    @Option(names = {
+            "--otlpEndpoint" }, description = "OTLP (gRPC) endpoint traces are exported to, e.g. http://localhost:4317 for a local collector. Tracing is disabled if not set.", required = false)
+    private String otlpEndpoint;
+
     public boolean isUseKeycloak() {
         return useKeycloak;
     }
@@ -245,6 +313,70 @@ public class TheiaCloudOperatorArguments {
     public String getIngressPathSuffix() {
         return ingressPathSuffix;
     }
+
+    public int getReconcileThreads() {
+        return reconcileThreads;
+    }
+
+    public int getMaxReconcileAttempts() {
+        return maxReconcileAttempts;
+    }
+
+    public long getReconcileRetryBaseDelay() {
+        return reconcileRetryBaseDelay;
+    }
+
+    public long getReconcileRetryMaxDelay() {
+        return reconcileRetryMaxDelay;
+    }
+
+    public RoutingMode getRoutingMode() {
+        return routingMode;
+    }
+
+    public String getGatewayName() {
+        return gatewayName;
+    }
+
+    public String getGatewayNamespace() {
+        return gatewayNamespace;
+    }
+
+    public boolean isResourcePrototypes() {
+        return resourcePrototypes;
+    }
+
+    public boolean isWarmPoolAutoscaling() {
+        return warmPoolAutoscaling;
+    }
+
+    public int getWarmPoolHeadroom() {
+        return warmPoolHeadroom;
+    }
+
+    public long getWarmPoolLeadTime() {
+        return warmPoolLeadTime;
+    }
+
+    public long getWarmPoolScaleDownCooldown() {
+        return warmPoolScaleDownCooldown;
+    }
+
+    public long getWarmPoolEvaluationInterval() {
+        return warmPoolEvaluationInterval;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public int getMetricsPort() {
+        return metricsPort;
+    }
+
+    public String getOtlpEndpoint() {
+        return otlpEndpoint;
+    }
     
     /**
      * Get the service auth token with fallback to deprecated app id argument.
@@ -296,6 +428,22 @@ public class TheiaCloudOperatorArguments {
         result = prime * result + ((wondershaperImage == null) ? 0 : wondershaperImage.hashCode());
         result = prime * result + ((oAuth2ProxyVersion == null) ? 0 : oAuth2ProxyVersion.hashCode());
         result = prime * result + ((ingressPathSuffix == null) ? 0 : ingressPathSuffix.hashCode());
+        result = prime * result + reconcileThreads;
+        result = prime * result + maxReconcileAttempts;
+        result = prime * result + (int) (reconcileRetryBaseDelay ^ (reconcileRetryBaseDelay >>> 32));
+        result = prime * result + (int) (reconcileRetryMaxDelay ^ (reconcileRetryMaxDelay >>> 32));
+        result = prime * result + ((routingMode == null) ? 0 : routingMode.hashCode());
+        result = prime * result + ((gatewayName == null) ? 0 : gatewayName.hashCode());
+        result = prime * result + ((gatewayNamespace == null) ? 0 : gatewayNamespace.hashCode());
+        result = prime * result + (resourcePrototypes ? 1231 : 1237);
+        result = prime * result + (warmPoolAutoscaling ? 1231 : 1237);
+        result = prime * result + warmPoolHeadroom;
+        result = prime * result + (int) (warmPoolLeadTime ^ (warmPoolLeadTime >>> 32));
+        result = prime * result + (int) (warmPoolScaleDownCooldown ^ (warmPoolScaleDownCooldown >>> 32));
+        result = prime * result + (int) (warmPoolEvaluationInterval ^ (warmPoolEvaluationInterval >>> 32));
+        result = prime * result + shards;
+        result = prime * result + metricsPort;
+        result = prime * result + ((otlpEndpoint == null) ? 0 : otlpEndpoint.hashCode());
         return result;
     }
 
@@ -407,6 +555,47 @@ public class TheiaCloudOperatorArguments {
                 return false;
         } else if (!ingressPathSuffix.equals(other.ingressPathSuffix))
             return false;
+        if (reconcileThreads != other.reconcileThreads)
+            return false;
+        if (maxReconcileAttempts != other.maxReconcileAttempts)
+            return false;
+        if (reconcileRetryBaseDelay != other.reconcileRetryBaseDelay)
+            return false;
+        if (reconcileRetryMaxDelay != other.reconcileRetryMaxDelay)
+            return false;
+        if (routingMode != other.routingMode)
+            return false;
+        if (gatewayName == null) {
+            if (other.gatewayName != null)
+                return false;
+        } else if (!gatewayName.equals(other.gatewayName))
+            return false;
+        if (gatewayNamespace == null) {
+            if (other.gatewayNamespace != null)
+                return false;
+        } else if (!gatewayNamespace.equals(other.gatewayNamespace))
+            return false;
+        if (resourcePrototypes != other.resourcePrototypes)
+            return false;
+        if (warmPoolAutoscaling != other.warmPoolAutoscaling)
+            return false;
+        if (warmPoolHeadroom != other.warmPoolHeadroom)
+            return false;
+        if (warmPoolLeadTime != other.warmPoolLeadTime)
+            return false;
+        if (warmPoolScaleDownCooldown != other.warmPoolScaleDownCooldown)
+            return false;
+        if (warmPoolEvaluationInterval != other.warmPoolEvaluationInterval)
+            return false;
+        if (shards != other.shards)
+            return false;
+        if (metricsPort != other.metricsPort)
+            return false;
+        if (otlpEndpoint == null) {
+            if (other.otlpEndpoint != null)
+                return false;
+        } else if (!otlpEndpoint.equals(other.otlpEndpoint))
+            return false;
         return true;
     }
 
@@ -422,7 +611,15 @@ public class TheiaCloudOperatorArguments {
                 + ", keycloakClientId=" + keycloakClientId + ", leaderLeaseDuration=" + leaderLeaseDuration
                 + ", leaderRenewDeadline=" + leaderRenewDeadline + ", leaderRetryPeriod=" + leaderRetryPeriod
                 + ", maxWatchIdleTime=" + maxWatchIdleTime + ", continueOnException=" + continueOnException
-                + ", oAuth2ProxyVersion=" + oAuth2ProxyVersion + ", ingressPathSuffix=" + ingressPathSuffix + "]";
+                + ", oAuth2ProxyVersion=" + oAuth2ProxyVersion + ", ingressPathSuffix=" + ingressPathSuffix
+                + ", reconcileThreads=" + reconcileThreads + ", maxReconcileAttempts=" + maxReconcileAttempts
+                + ", reconcileRetryBaseDelay=" + reconcileRetryBaseDelay + ", reconcileRetryMaxDelay="
+                + reconcileRetryMaxDelay + ", routingMode=" + routingMode + ", gatewayName=" + gatewayName
+                + ", gatewayNamespace=" + gatewayNamespace + ", resourcePrototypes=" + resourcePrototypes
+                + ", warmPoolAutoscaling=" + warmPoolAutoscaling + ", warmPoolHeadroom=" + warmPoolHeadroom
+                + ", warmPoolLeadTime=" + warmPoolLeadTime + ", warmPoolScaleDownCooldown="
+                + warmPoolScaleDownCooldown + ", warmPoolEvaluationInterval=" + warmPoolEvaluationInterval + ", shards="
+                + shards + ", metricsPort=" + metricsPort + ", otlpEndpoint=" + otlpEndpoint + "]";
     }
 
 }
@@ -0,0 +1,89 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.cache;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.correlationContext;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.generateCorrelationId;
+
+import java.util.Objects;
+
+import org.apache.logging.log4j.CloseableThreadContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.operator.util.TriConsumer;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.Watcher.Action;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+
+/**
+ * Translates informer notifications into the {@link Action}-based events the operator handlers are used to. Updates
+ * that do not change the resource version (e.g. after a relist) are dropped.
+ */
+public final class CacheEventHandler<T extends HasMetadata> implements ResourceEventHandler<T> {
+
+    private static final Logger LOGGER = LogManager.getLogger(CacheEventHandler.class);
+
+    private final TriConsumer<Action, T, String> eventHandler;
+    private final String resourceName;
+    private final String correlationIdPrefix;
+
+    public CacheEventHandler(TriConsumer<Action, T, String> eventHandler, String resourceName,
+            String correlationIdPrefix) {
+        this.eventHandler = eventHandler;
+        this.resourceName = resourceName;
+        this.correlationIdPrefix = correlationIdPrefix;
+    }
+
+    @Override
+    public void onAdd(T resource) {
+        handle(Action.ADDED, resource);
+    }
+
+    @Override
+    public void onUpdate(T oldResource, T newResource) {
+        if (Objects.equals(oldResource.getMetadata().getResourceVersion(),
+                newResource.getMetadata().getResourceVersion())) {
+            LOGGER.trace(formatLogMessage(correlationIdPrefix,
+                    resourceName + " " + newResource.getMetadata().getUid() + " : resource version unchanged"));
+            return;
+        }
+        handle(Action.MODIFIED, newResource);
+    }
+
+    @Override
+    public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+        handle(Action.DELETED, resource);
+    }
+
+    protected void handle(Action action, T resource) {
+        String correlationId = generateCorrelationId();
+        String uid = resource.getMetadata().getUid();
+        try (CloseableThreadContext.Instance context = correlationContext(correlationId)) {
+            LOGGER.trace(formatLogMessage(correlationIdPrefix, correlationId,
+                    resourceName + " " + uid + " : received an event: " + action));
+            eventHandler.accept(action, resource, correlationId);
+        } catch (Exception e) {
+            LOGGER.error(
+                    formatLogMessage(correlationIdPrefix, resourceName + " " + uid + " : error while handling event"), e);
+        }
+    }
+
+    public String getResourceName() {
+        return resourceName;
+    }
+}
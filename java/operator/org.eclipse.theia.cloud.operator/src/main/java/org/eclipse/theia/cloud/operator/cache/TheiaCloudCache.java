@@ -0,0 +1,109 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.cache;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.common.k8s.resource.workspace.Workspace;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointSlice;
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+
+/**
+ * Shared, informer-backed view on the Theia Cloud custom resources. Handlers should read app definitions, workspaces
+ * and sessions from here instead of querying the API server. The returned objects are shared and must not be
+ * modified.
+ * <p>
+ * Services, deployments, config maps and ingresses in the namespace are cached as well and indexed by the uid of their
+ * owners. Endpoint slices are indexed by the name of their service. Note that the cache may lag slightly behind
+ * changes this operator just made.
+ * </p>
+ */
+public interface TheiaCloudCache {
+
+    String INDEX_USER = "user";
+    String INDEX_APP_DEFINITION = "app-definition";
+    String INDEX_WORKSPACE = "workspace";
+    String INDEX_OWNER_UID = "owner-uid";
+    String INDEX_SERVICE_NAME = "service-name";
+
+    void addAppDefinitionHandler(ResourceEventHandler<AppDefinition> handler);
+
+    void addWorkspaceHandler(ResourceEventHandler<Workspace> handler);
+
+    void addSessionHandler(ResourceEventHandler<Session> handler);
+
+    void addServiceHandler(ResourceEventHandler<Service> handler);
+
+    void addEndpointSliceHandler(ResourceEventHandler<EndpointSlice> handler);
+
+    /**
+     * Starts the informers for the owned Kubernetes resources, then the informers for app definitions, workspaces and
+     * sessions (in this order) and blocks until each of them has synced its initial state.
+     */
+    void start();
+
+    /**
+     * @return <code>true</code> if all informers currently have an open watch
+     */
+    boolean isWatching();
+
+    Optional<AppDefinition> getAppDefinition(String name);
+
+    List<AppDefinition> getAppDefinitions();
+
+    Optional<Workspace> getWorkspace(String name);
+
+    List<Workspace> getWorkspaces();
+
+    List<Workspace> getWorkspacesByUser(String user);
+
+    List<Workspace> getWorkspacesByOwner(String ownerUid);
+
+    Optional<Session> getSession(String name);
+
+    List<Session> getSessions();
+
+    List<Session> getSessionsByUser(String user);
+
+    List<Session> getSessionsByAppDefinition(String appDefinitionName);
+
+    List<Session> getSessionsByWorkspace(String workspaceName);
+
+    List<Session> getSessionsByOwner(String ownerUid);
+
+    Optional<Service> getService(String name);
+
+    List<Service> getServicesByOwner(String ownerUid);
+
+    List<Deployment> getDeploymentsByOwner(String ownerUid);
+
+    List<ConfigMap> getConfigMapsByOwner(String ownerUid);
+
+    Optional<Ingress> getIngress(String name);
+
+    List<Ingress> getIngressesByOwner(String ownerUid);
+
+    List<EndpointSlice> getEndpointSlicesByService(String serviceName);
+
+}
@@ -0,0 +1,371 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.cache;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatMetric;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.common.k8s.resource.workspace.Workspace;
+import org.eclipse.theia.cloud.operator.metrics.OperatorMetrics;
+
+import com.google.inject.Inject;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointSlice;
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+
+public class TheiaCloudCacheImpl implements TheiaCloudCache {
+
+    private static final Logger LOGGER = LogManager.getLogger(TheiaCloudCacheImpl.class);
+
+    private static final String COR_ID_CACHE = "cache";
+
+    private static final String SERVICE_NAME_LABEL = "kubernetes.io/service-name";
+
+    /** Seconds between two checks whether the informers are watching. */
+    private static final long WATCH_CHECK_INTERVAL_S = 5;
+
+    private static final ScheduledExecutorService WATCH_MONITOR = Executors
+            .newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "watch-monitor");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final String namespace;
+    private final OperatorMetrics metrics;
+    private final SharedIndexInformer<AppDefinition> appDefinitionInformer;
+    private final SharedIndexInformer<Workspace> workspaceInformer;
+    private final SharedIndexInformer<Session> sessionInformer;
+    private final SharedIndexInformer<Service> serviceInformer;
+    private final SharedIndexInformer<Deployment> deploymentInformer;
+    private final SharedIndexInformer<ConfigMap> configMapInformer;
+    private final SharedIndexInformer<Ingress> ingressInformer;
+    private final SharedIndexInformer<EndpointSlice> endpointSliceInformer;
+    private final List<WatchMonitor> watchMonitors = new CopyOnWriteArrayList<>();
+
+    @Inject
+    public TheiaCloudCacheImpl(TheiaCloudClient client, OperatorMetrics metrics) {
+        this.namespace = client.namespace();
+        this.metrics = metrics;
+
+        this.appDefinitionInformer = monitored(client.appDefinitions().operation().runnableInformer(0),
+                "App Definition");
+
+        this.workspaceInformer = monitored(client.workspaces().operation().runnableInformer(0), "Workspace");
+        this.workspaceInformer.addIndexers(Map.of(//
+                INDEX_USER, workspace -> singleton(workspace.getSpec().getUser()), //
+                INDEX_APP_DEFINITION, workspace -> singleton(workspace.getSpec().getAppDefinition()), //
+                INDEX_OWNER_UID, TheiaCloudCacheImpl::ownerUids));
+
+        this.sessionInformer = monitored(client.sessions().operation().runnableInformer(0), "Session");
+        this.sessionInformer.addIndexers(Map.of(//
+                INDEX_USER, session -> singleton(session.getSpec().getUser()), //
+                INDEX_APP_DEFINITION, session -> singleton(session.getSpec().getAppDefinition()), //
+                INDEX_WORKSPACE, session -> singleton(session.getSpec().getWorkspace()), //
+                INDEX_OWNER_UID, TheiaCloudCacheImpl::ownerUids));
+
+        NamespacedKubernetesClient kubernetes = client.kubernetes();
+        this.serviceInformer = ownedInformer(
+                monitored(kubernetes.services().inNamespace(namespace).runnableInformer(0), "Service"));
+        this.deploymentInformer = ownedInformer(
+                monitored(kubernetes.apps().deployments().inNamespace(namespace).runnableInformer(0), "Deployment"));
+        this.configMapInformer = ownedInformer(
+                monitored(kubernetes.configMaps().inNamespace(namespace).runnableInformer(0), "ConfigMap"));
+        this.ingressInformer = ownedInformer(
+                monitored(kubernetes.network().v1().ingresses().inNamespace(namespace).runnableInformer(0), "Ingress"));
+        this.endpointSliceInformer = monitored(
+                kubernetes.discovery().v1().endpointSlices().inNamespace(namespace).runnableInformer(0),
+                "EndpointSlice");
+        this.endpointSliceInformer.addIndexers(Map.of(INDEX_SERVICE_NAME, TheiaCloudCacheImpl::serviceName));
+    }
+
+    /**
+     * Informers resume their watch from the last seen resource version, which bookmark events keep current, and only
+     * list again if that version is gone. The exception handler keeps them retrying instead of stopping for good.
+     * <p>
+     * Every failed list or watch passes the exception handler, so errors and the reconnects of running informers are
+     * counted there instead of by polling, which misses short interruptions. Restarting an expired watch is not an
+     * error, these restarts show up as watch requests in the Kubernetes API metrics.
+     * </p>
+     */
+    private <T extends HasMetadata> SharedIndexInformer<T> monitored(SharedIndexInformer<T> informer,
+            String resourceName) {
+        WatchMonitor monitor = new WatchMonitor(resourceName, informer);
+        watchMonitors.add(monitor);
+        metrics.bindInformer(resourceName, informer::isWatching);
+        informer.exceptionHandler((started, throwable) -> {
+            monitor.errors.increment();
+            metrics.recordInformerError(resourceName);
+            if (started) {
+                // a running informer lists or watches again after a backoff
+                monitor.reconnects.increment();
+                metrics.recordInformerReconnect(resourceName);
+            }
+            LOGGER.warn(formatLogMessage(COR_ID_CACHE,
+                    resourceName + " informer failed to list or watch, retrying: " + throwable.getMessage()));
+            return true;
+        });
+        return informer;
+    }
+
+    private static <T extends HasMetadata> SharedIndexInformer<T> ownedInformer(SharedIndexInformer<T> informer) {
+        informer.addIndexers(Map.of(INDEX_OWNER_UID, TheiaCloudCacheImpl::ownerUids));
+        return informer;
+    }
+
+    @Override
+    public void addAppDefinitionHandler(ResourceEventHandler<AppDefinition> handler) {
+        appDefinitionInformer.addEventHandler(handler);
+    }
+
+    @Override
+    public void addWorkspaceHandler(ResourceEventHandler<Workspace> handler) {
+        workspaceInformer.addEventHandler(handler);
+    }
+
+    @Override
+    public void addSessionHandler(ResourceEventHandler<Session> handler) {
+        sessionInformer.addEventHandler(handler);
+    }
+
+    @Override
+    public void addServiceHandler(ResourceEventHandler<Service> handler) {
+        serviceInformer.addEventHandler(handler);
+    }
+
+    @Override
+    public void addEndpointSliceHandler(ResourceEventHandler<EndpointSlice> handler) {
+        endpointSliceInformer.addEventHandler(handler);
+    }
+
+    @Override
+    public void start() {
+        // owned resources first, so that handlers of the custom resources see a synced state
+        start(serviceInformer, "Service");
+        start(deploymentInformer, "Deployment");
+        start(configMapInformer, "ConfigMap");
+        start(ingressInformer, "Ingress");
+        start(endpointSliceInformer, "EndpointSlice");
+        start(appDefinitionInformer, "App Definition");
+        start(workspaceInformer, "Workspace");
+        start(sessionInformer, "Session");
+        WATCH_MONITOR.scheduleWithFixedDelay(this::checkWatches, WATCH_CHECK_INTERVAL_S, WATCH_CHECK_INTERVAL_S,
+                TimeUnit.SECONDS);
+    }
+
+    protected void start(SharedIndexInformer<?> informer, String resourceName) {
+        LOGGER.info(formatLogMessage(COR_ID_CACHE, "Starting " + resourceName + " informer"));
+        informer.start().toCompletableFuture().join();
+        LOGGER.info(formatLogMessage(COR_ID_CACHE, resourceName + " informer synced "
+                + informer.getStore().list().size() + " resources at version " + informer.lastSyncResourceVersion()));
+    }
+
+    /**
+     * Reports when an informer was found not watching and when it resumed, including the gap in between. Interruptions
+     * shorter than the check interval are only visible in the error and reconnect counts.
+     */
+    protected void checkWatches() {
+        long now = System.currentTimeMillis();
+        for (WatchMonitor monitor : watchMonitors) {
+            boolean watching = monitor.informer.isWatching();
+            if (!watching && monitor.notWatchingSince == 0) {
+                monitor.notWatchingSince = now;
+                LOGGER.warn(formatMetric(COR_ID_CACHE, monitor.resourceName + " watch interrupted: reconnects="
+                        + monitor.reconnects.sum() + ", errors=" + monitor.errors.sum()));
+            } else if (watching && monitor.notWatchingSince != 0) {
+                long gapMs = now - monitor.notWatchingSince;
+                monitor.notWatchingSince = 0;
+                monitor.maxGapMs = Math.max(monitor.maxGapMs, gapMs);
+                LOGGER.info(formatMetric(COR_ID_CACHE,
+                        monitor.resourceName + " watch resumed at version "
+                                + monitor.informer.lastSyncResourceVersion() + ": gapMs=" + gapMs + ", maxGapMs="
+                                + monitor.maxGapMs + ", reconnects=" + monitor.reconnects.sum() + ", errors="
+                                + monitor.errors.sum()));
+            }
+        }
+    }
+
+    @Override
+    public boolean isWatching() {
+        return appDefinitionInformer.isWatching() && workspaceInformer.isWatching() && sessionInformer.isWatching()
+                && serviceInformer.isWatching() && deploymentInformer.isWatching() && configMapInformer.isWatching()
+                && ingressInformer.isWatching() && endpointSliceInformer.isWatching();
+    }
+
+    @Override
+    public Optional<AppDefinition> getAppDefinition(String name) {
+        return getByName(appDefinitionInformer, name);
+    }
+
+    @Override
+    public List<AppDefinition> getAppDefinitions() {
+        return appDefinitionInformer.getStore().list();
+    }
+
+    @Override
+    public Optional<Workspace> getWorkspace(String name) {
+        return getByName(workspaceInformer, name);
+    }
+
+    @Override
+    public List<Workspace> getWorkspaces() {
+        return workspaceInformer.getStore().list();
+    }
+
+    @Override
+    public List<Workspace> getWorkspacesByUser(String user) {
+        return getByIndex(workspaceInformer, INDEX_USER, user);
+    }
+
+    @Override
+    public List<Workspace> getWorkspacesByOwner(String ownerUid) {
+        return getByIndex(workspaceInformer, INDEX_OWNER_UID, ownerUid);
+    }
+
+    @Override
+    public Optional<Session> getSession(String name) {
+        return getByName(sessionInformer, name);
+    }
+
+    @Override
+    public List<Session> getSessions() {
+        return sessionInformer.getStore().list();
+    }
+
+    @Override
+    public List<Session> getSessionsByUser(String user) {
+        return getByIndex(sessionInformer, INDEX_USER, user);
+    }
+
+    @Override
+    public List<Session> getSessionsByAppDefinition(String appDefinitionName) {
+        return getByIndex(sessionInformer, INDEX_APP_DEFINITION, appDefinitionName);
+    }
+
+    @Override
+    public List<Session> getSessionsByWorkspace(String workspaceName) {
+        return getByIndex(sessionInformer, INDEX_WORKSPACE, workspaceName);
+    }
+
+    @Override
+    public List<Session> getSessionsByOwner(String ownerUid) {
+        return getByIndex(sessionInformer, INDEX_OWNER_UID, ownerUid);
+    }
+
+    @Override
+    public Optional<Service> getService(String name) {
+        return getByName(serviceInformer, name);
+    }
+
+    @Override
+    public List<Service> getServicesByOwner(String ownerUid) {
+        return getByIndex(serviceInformer, INDEX_OWNER_UID, ownerUid);
+    }
+
+    @Override
+    public List<Deployment> getDeploymentsByOwner(String ownerUid) {
+        return getByIndex(deploymentInformer, INDEX_OWNER_UID, ownerUid);
+    }
+
+    @Override
+    public List<ConfigMap> getConfigMapsByOwner(String ownerUid) {
+        return getByIndex(configMapInformer, INDEX_OWNER_UID, ownerUid);
+    }
+
+    @Override
+    public Optional<Ingress> getIngress(String name) {
+        return getByName(ingressInformer, name);
+    }
+
+    @Override
+    public List<Ingress> getIngressesByOwner(String ownerUid) {
+        return getByIndex(ingressInformer, INDEX_OWNER_UID, ownerUid);
+    }
+
+    @Override
+    public List<EndpointSlice> getEndpointSlicesByService(String serviceName) {
+        return getByIndex(endpointSliceInformer, INDEX_SERVICE_NAME, serviceName);
+    }
+
+    protected <T> Optional<T> getByName(SharedIndexInformer<T> informer, String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name)));
+    }
+
+    protected <T> List<T> getByIndex(SharedIndexInformer<T> informer, String index, String key) {
+        if (key == null) {
+            return Collections.emptyList();
+        }
+        return informer.getIndexer().byIndex(index, key);
+    }
+
+    private static List<String> singleton(String value) {
+        return value == null ? Collections.emptyList() : List.of(value);
+    }
+
+    private static List<String> serviceName(EndpointSlice endpointSlice) {
+        Map<String, String> labels = endpointSlice.getMetadata().getLabels();
+        return singleton(labels == null ? null : labels.get(SERVICE_NAME_LABEL));
+    }
+
+    private static List<String> ownerUids(HasMetadata resource) {
+        List<OwnerReference> ownerReferences = resource.getMetadata().getOwnerReferences();
+        if (ownerReferences == null) {
+            return Collections.emptyList();
+        }
+        return ownerReferences.stream().map(OwnerReference::getUid).toList();
+    }
+
+    protected static final class WatchMonitor {
+        private final String resourceName;
+        private final SharedIndexInformer<?> informer;
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder reconnects = new LongAdder();
+        private long notWatchingSince;
+        private long maxGapMs;
+
+        WatchMonitor(String resourceName, SharedIndexInformer<?> informer) {
+            this.resourceName = resourceName;
+            this.informer = informer;
+        }
+    }
+}
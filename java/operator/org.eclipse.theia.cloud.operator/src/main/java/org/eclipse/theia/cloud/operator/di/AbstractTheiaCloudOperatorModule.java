@@ -28,6 +28,8 @@ import org.eclipse.theia.cloud.operator.TheiaCloudOperator;
 import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
 import org.eclipse.theia.cloud.operator.bandwidth.BandwidthLimiter;
 import org.eclipse.theia.cloud.operator.bandwidth.BandwidthLimiterImpl;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCacheImpl;
 import org.eclipse.theia.cloud.operator.handler.appdef.AppDefinitionHandler;
 import org.eclipse.theia.cloud.operator.handler.appdef.EagerStartAppDefinitionAddedHandler;
 import org.eclipse.theia.cloud.operator.handler.appdef.LazyStartAppDefinitionHandler;
@@ -38,17 +40,40 @@ import org.eclipse.theia.cloud.operator.handler.ws.LazyWorkspaceHandler;
 import org.eclipse.theia.cloud.operator.handler.ws.WorkspaceHandler;
 import org.eclipse.theia.cloud.operator.ingress.IngressPathProvider;
 import org.eclipse.theia.cloud.operator.ingress.IngressPathProviderImpl;
+import org.eclipse.theia.cloud.operator.ingress.IngressWriter;
+import org.eclipse.theia.cloud.operator.ingress.IngressWriterImpl;
+import org.eclipse.theia.cloud.operator.leader.Leadership;
+import org.eclipse.theia.cloud.operator.leader.LeadershipImpl;
+import org.eclipse.theia.cloud.operator.leader.ShardedLeadership;
 import org.eclipse.theia.cloud.operator.messaging.MonitorMessagingService;
 import org.eclipse.theia.cloud.operator.messaging.MonitorMessagingServiceImpl;
+import org.eclipse.theia.cloud.operator.metrics.KubernetesApiMetricsInterceptor;
+import org.eclipse.theia.cloud.operator.metrics.OperatorMetrics;
+import org.eclipse.theia.cloud.operator.metrics.OperatorMetricsImpl;
 import org.eclipse.theia.cloud.operator.plugins.MonitorActivityTracker;
 import org.eclipse.theia.cloud.operator.plugins.OperatorPlugin;
+import org.eclipse.theia.cloud.operator.pool.SlotAllocator;
+import org.eclipse.theia.cloud.operator.pool.SlotAllocatorImpl;
+import org.eclipse.theia.cloud.operator.pool.WarmPoolController;
+import org.eclipse.theia.cloud.operator.pool.WarmPoolControllerImpl;
 import org.eclipse.theia.cloud.operator.pv.DefaultPersistentVolumeCreator;
 import org.eclipse.theia.cloud.operator.pv.MinikubePersistentVolumeCreator;
 import org.eclipse.theia.cloud.operator.pv.PersistentVolumeCreator;
+import org.eclipse.theia.cloud.operator.queue.KeyedWorkQueue;
+import org.eclipse.theia.cloud.operator.queue.RetryQueue;
+import org.eclipse.theia.cloud.operator.readiness.SessionReadinessWatcher;
+import org.eclipse.theia.cloud.operator.readiness.SessionReadinessWatcherImpl;
 import org.eclipse.theia.cloud.operator.replacements.DefaultDeploymentTemplateReplacements;
 import org.eclipse.theia.cloud.operator.replacements.DefaultPersistentVolumeTemplateReplacements;
 import org.eclipse.theia.cloud.operator.replacements.DeploymentTemplateReplacements;
 import org.eclipse.theia.cloud.operator.replacements.PersistentVolumeTemplateReplacements;
+import org.eclipse.theia.cloud.operator.routing.HTTPRouteSessionRouter;
+import org.eclipse.theia.cloud.operator.routing.IngressSessionRouter;
+import org.eclipse.theia.cloud.operator.routing.SessionRouter;
+import org.eclipse.theia.cloud.operator.timeout.SessionTimeoutScheduler;
+import org.eclipse.theia.cloud.operator.timeout.SessionTimeoutSchedulerImpl;
+import org.eclipse.theia.cloud.operator.tracing.OperatorTracing;
+import org.eclipse.theia.cloud.operator.tracing.OperatorTracingImpl;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
@@ -67,10 +92,20 @@ public abstract class AbstractTheiaCloudOperatorModule extends AbstractModule {
     @Override
     protected void configure() {
         bind(TheiaCloudOperator.class).to(bindTheiaCloudOperator()).in(Singleton.class);
+        bind(TheiaCloudCache.class).to(bindTheiaCloudCache()).in(Singleton.class);
+        bind(Leadership.class).to(bindLeadership()).in(Singleton.class);
+        bind(SessionTimeoutScheduler.class).to(bindSessionTimeoutScheduler()).in(Singleton.class);
+        bind(SessionReadinessWatcher.class).to(bindSessionReadinessWatcher()).in(Singleton.class);
+        bind(WarmPoolController.class).to(bindWarmPoolController()).in(Singleton.class);
+        bind(SlotAllocator.class).to(bindSlotAllocator()).in(Singleton.class);
+        bind(OperatorMetrics.class).to(bindOperatorMetrics()).in(Singleton.class);
+        bind(OperatorTracing.class).to(bindOperatorTracing()).in(Singleton.class);
 
         bind(BandwidthLimiter.class).to(bindBandwidthLimiter()).in(Singleton.class);
         bind(PersistentVolumeCreator.class).to(bindPersistentVolumeHandler()).in(Singleton.class);
         bind(IngressPathProvider.class).to(bindIngressPathProvider()).in(Singleton.class);
+        bind(IngressWriter.class).to(bindIngressWriter()).in(Singleton.class);
+        bind(SessionRouter.class).to(bindSessionRouter()).in(Singleton.class);
         bind(DeploymentTemplateReplacements.class).to(bindDeploymentTemplateReplacements()).in(Singleton.class);
         bind(PersistentVolumeTemplateReplacements.class).to(bindPersistentVolumeTemplateReplacements())
                 .in(Singleton.class);
@@ -91,6 +126,41 @@ public abstract class AbstractTheiaCloudOperatorModule extends AbstractModule {
 
     protected abstract Class<? extends TheiaCloudOperator> bindTheiaCloudOperator();
 
+    protected Class<? extends TheiaCloudCache> bindTheiaCloudCache() {
+        return TheiaCloudCacheImpl.class;
+    }
+
+    protected Class<? extends Leadership> bindLeadership() {
+        if (arguments.getShards() > 0) {
+            return ShardedLeadership.class;
+        }
+        return LeadershipImpl.class;
+    }
+
+    protected Class<? extends SessionTimeoutScheduler> bindSessionTimeoutScheduler() {
+        return SessionTimeoutSchedulerImpl.class;
+    }
+
+    protected Class<? extends SessionReadinessWatcher> bindSessionReadinessWatcher() {
+        return SessionReadinessWatcherImpl.class;
+    }
+
+    protected Class<? extends WarmPoolController> bindWarmPoolController() {
+        return WarmPoolControllerImpl.class;
+    }
+
+    protected Class<? extends SlotAllocator> bindSlotAllocator() {
+        return SlotAllocatorImpl.class;
+    }
+
+    protected Class<? extends OperatorMetrics> bindOperatorMetrics() {
+        return OperatorMetricsImpl.class;
+    }
+
+    protected Class<? extends OperatorTracing> bindOperatorTracing() {
+        return OperatorTracingImpl.class;
+    }
+
     protected Class<? extends BandwidthLimiter> bindBandwidthLimiter() {
         return BandwidthLimiterImpl.class;
     }
@@ -109,6 +179,20 @@ public abstract class AbstractTheiaCloudOperatorModule extends AbstractModule {
         return IngressPathProviderImpl.class;
     }
 
+    protected Class<? extends IngressWriter> bindIngressWriter() {
+        return IngressWriterImpl.class;
+    }
+
+    protected Class<? extends SessionRouter> bindSessionRouter() {
+        switch (arguments.getRoutingMode()) {
+        case HTTPROUTE:
+            return HTTPRouteSessionRouter.class;
+        case INGRESS:
+        default:
+            return IngressSessionRouter.class;
+        }
+    }
+
     protected Class<? extends DeploymentTemplateReplacements> bindDeploymentTemplateReplacements() {
         return DefaultDeploymentTemplateReplacements.class;
     }
@@ -151,14 +235,31 @@ public abstract class AbstractTheiaCloudOperatorModule extends AbstractModule {
 
     @Provides
     @Singleton
-    protected NamespacedKubernetesClient provideKubernetesClient() {
-        NamespacedKubernetesClient client = CustomResourceUtil.createClient();
+    protected NamespacedKubernetesClient provideKubernetesClient(final OperatorMetrics metrics) {
+        KubernetesApiMetricsInterceptor interceptor = new KubernetesApiMetricsInterceptor(metrics);
+        NamespacedKubernetesClient client = CustomResourceUtil.createClient(
+                httpClient -> httpClient.addOrReplaceInterceptor(KubernetesApiMetricsInterceptor.NAME, interceptor));
         CustomResourceUtil.validateCustomResource(client, Session.CRD_NAME);
         CustomResourceUtil.validateCustomResource(client, Workspace.CRD_NAME);
         CustomResourceUtil.validateCustomResource(client, AppDefinition.CRD_NAME);
         return client;
     }
 
+    @Provides
+    @Singleton
+    protected KeyedWorkQueue provideWorkQueue(final OperatorMetrics metrics) {
+        KeyedWorkQueue workQueue = new KeyedWorkQueue("reconcile", arguments.getReconcileThreads());
+        metrics.bindWorkQueue(workQueue);
+        return workQueue;
+    }
+
+    @Provides
+    @Singleton
+    protected RetryQueue provideRetryQueue(final KeyedWorkQueue workQueue) {
+        return new RetryQueue(workQueue, arguments.getMaxReconcileAttempts(), arguments.getReconcileRetryBaseDelay(),
+                arguments.getReconcileRetryMaxDelay());
+    }
+
     @Provides
     @Singleton
     protected TheiaCloudClient provideTheiaCloudClient(final NamespacedKubernetesClient client) {
@@ -16,16 +16,8 @@
  ********************************************************************************/
 package org.eclipse.theia.cloud.operator.handler;
 
-import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
-import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatMetric;
 import static org.eclipse.theia.cloud.operator.util.TheiaCloudDeploymentUtil.HOST_PROTOCOL;
 
-import java.io.IOException;
-import java.net.URL;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -34,20 +26,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSession;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
-
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.eclipse.theia.cloud.common.k8s.client.SessionResourceClient;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
 import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
 import org.eclipse.theia.cloud.common.util.LogMessageUtil;
@@ -68,8 +50,6 @@ public final class AddedHandlerUtil {
 
     private static final Logger LOGGER = LogManager.getLogger(AddedHandlerUtil.class);
 
-    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool();
-
     public static final String TEMPLATE_SERVICE_YAML = "/templateService.yaml";
     public static final String TEMPLATE_SERVICE_WITHOUT_AOUTH2_PROXY_YAML = "/templateServiceWithoutOAuthProxy.yaml";
     public static final String TEMPLATE_INTERNAL_SERVICE_YAML = "/templateInternalService.yaml";
@@ -95,31 +75,6 @@ public final class AddedHandlerUtil {
     public static final String INGRESS_REWRITE_PATH = "(/|$)(.*)";
     public static final String INGRESS_PATH_TYPE = "ImplementationSpecific";
 
-    private static final HostnameVerifier ALL_GOOD_HOSTNAME_VERIFIER = new HostnameVerifier() {
-        @Override
-        public boolean verify(String hostname, SSLSession session) {
-            return true;
-        }
-    };
-
-    private static final X509TrustManager TRUST_ALL_MANAGER = new X509TrustManager() {
-
-        @Override
-        public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
-            /* no op */
-        }
-
-        @Override
-        public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
-            /* no op */
-        }
-
-        @Override
-        public X509Certificate[] getAcceptedIssuers() {
-            return new X509Certificate[0];
-        }
-    };
-
     private AddedHandlerUtil() {
 
     }
@@ -135,86 +90,6 @@ public final class AddedHandlerUtil {
         configMap.setData(data);
     }
 
-    public static void updateSessionURLAsync(SessionResourceClient sessions, Session session, String namespace,
-            String url, String correlationId) {
-        EXECUTOR.execute(() -> {
-            boolean updateURL = false;
-            for (int i = 1; i <= 100; i++) {
-                try {
-                    /*
-                     * On the first 15 loops we will check every 2.5s whether URL is available. This will take at least
-                     * 37.5s. On the second 15 loops we will check every 5s. This will take at least 75s. On the next 15
-                     * loops we will check every 10s. This will take at least further 150s. If the pod has not started
-                     * within the first 4-5 minutes, we will continue to check every minute. We give up after an hour.
-                     */
-                    if (i <= 15) {
-                        Thread.sleep(2500);
-                    } else if (i <= 30) {
-                        Thread.sleep(5000);
-                    } else if (i <= 45) {
-                        Thread.sleep(10000);
-                    } else {
-                        Thread.sleep(60000);
-                    }
-                } catch (InterruptedException e) {
-                    /* silent */
-                }
-
-                HttpsURLConnection connection;
-                try {
-                    connection = (HttpsURLConnection) new URL(HOST_PROTOCOL + url).openConnection();
-                } catch (IOException e) {
-                    LOGGER.error(formatLogMessage(correlationId, "Error while checking session availability."), e);
-                    continue;
-                }
-                int code;
-
-                try {
-                    connection.setHostnameVerifier(ALL_GOOD_HOSTNAME_VERIFIER);
-                    SSLContext sc = SSLContext.getInstance("SSL");
-                    sc.init(null, new TrustManager[] { TRUST_ALL_MANAGER }, new java.security.SecureRandom());
-                    HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
-                    connection.setSSLSocketFactory(sc.getSocketFactory());
-                    connection.connect();
-                    code = connection.getResponseCode();
-                } catch (IOException e) {
-                    LOGGER.error(formatLogMessage(correlationId, url + " is NOT available yet."), e);
-                    continue;
-                } catch (NoSuchAlgorithmException | KeyManagementException e) {
-                    LOGGER.error(formatLogMessage(correlationId,
-                            "Error while checking session availability with SSL ignore."), e);
-                    continue;
-                }
-
-                LOGGER.trace(formatLogMessage(correlationId, url + " has response code " + code));
-
-                if (code == 200) {
-                    updateURL = true;
-                } else if (code != 404 && code != 503 && !updateURL) {
-                    /*
-                     * we don't get a 404 or 503, so something is available. Try accessing the URL once more then update
-                     * URL anyway
-                     */
-                    updateURL = true;
-                    continue;
-                }
-
-                if (updateURL) {
-                    LOGGER.info(formatLogMessage(correlationId, url + " is available."));
-                    sessions.updateStatus(correlationId, session, status -> status.setUrl(url));
-                    LOGGER.info(
-                            formatMetric(correlationId, "Running session for " + session.getSpec().getAppDefinition()));
-                    break;
-                } else {
-                    LOGGER.trace(formatLogMessage(correlationId, url + " is NOT available yet."));
-                }
-
-            }
-
-        });
-
-    }
-
     public static void removeEmptyResources(Deployment deployment) {
         for (Container container : deployment.getSpec().getTemplate().getSpec().getContainers()) {
             ResourceRequirements resources = container.getResources();
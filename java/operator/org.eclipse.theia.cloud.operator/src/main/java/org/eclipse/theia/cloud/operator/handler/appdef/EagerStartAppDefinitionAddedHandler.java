@@ -17,14 +17,24 @@
 package org.eclipse.theia.cloud.operator.handler.appdef;
 
 import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.lazyLogMessage;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,13 +43,16 @@ import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinitionSpec;
 import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
 import org.eclipse.theia.cloud.operator.bandwidth.BandwidthLimiter;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
 import org.eclipse.theia.cloud.operator.handler.AddedHandlerUtil;
 import org.eclipse.theia.cloud.operator.ingress.IngressPathProvider;
+import org.eclipse.theia.cloud.operator.pool.WarmPool;
 import org.eclipse.theia.cloud.operator.replacements.DeploymentTemplateReplacements;
 import org.eclipse.theia.cloud.operator.util.JavaResourceUtil;
 import org.eclipse.theia.cloud.operator.util.K8sUtil;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudConfigMapUtil;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudDeploymentUtil;
+import org.eclipse.theia.cloud.operator.util.TheiaCloudHandlerUtil;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudIngressUtil;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudServiceUtil;
 
@@ -48,13 +61,15 @@ import com.google.inject.Inject;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
 
 /**
  * A {@link AppDefinitionHandler} that will eagerly start up deployments ahead of usage time which will later be used as
- * sessions.
+ * sessions. The number of prewarmed instances starts at the minimum instances of the app definition and may be changed
+ * with {@link #resize(AppDefinition, int, String)}.
  */
-public class EagerStartAppDefinitionAddedHandler implements AppDefinitionHandler {
+public class EagerStartAppDefinitionAddedHandler implements AppDefinitionHandler, WarmPool {
 
     private static final Logger LOGGER = LogManager.getLogger(EagerStartAppDefinitionAddedHandler.class);
 
@@ -62,9 +77,18 @@ public class EagerStartAppDefinitionAddedHandler implements AppDefinitionHandler
     public static final String LABEL_VALUE_PROXY = "proxy";
     public static final String LABEL_VALUE_EMAILS = "emails";
 
+    /** Number of instances that are created at the same time. */
+    protected static final int PARALLEL_INSTANCE_CREATIONS = 4;
+
+    private static final ExecutorService INSTANCE_EXECUTOR = Executors
+            .newFixedThreadPool(PARALLEL_INSTANCE_CREATIONS);
+
     @Inject
     protected TheiaCloudClient client;
 
+    @Inject
+    protected TheiaCloudCache cache;
+
     @Inject
     protected TheiaCloudOperatorArguments arguments;
 
@@ -77,14 +101,17 @@ public class EagerStartAppDefinitionAddedHandler implements AppDefinitionHandler
     @Inject
     protected DeploymentTemplateReplacements deploymentReplacements;
 
+    /** Generation of the spec the pool of each app definition was last reconciled with, keyed by uid. */
+    private final Map<String, Long> handledGenerations = new ConcurrentHashMap<>();
+
     @Override
     public boolean appDefinitionAdded(AppDefinition appDefinition, String correlationId) {
         AppDefinitionSpec spec = appDefinition.getSpec();
-        LOGGER.info(formatLogMessage(correlationId, "Handling " + spec));
+        LOGGER.info(formatLogMessage(correlationId,
+                "Handling app definition " + appDefinition.getMetadata().getName()));
+        LOGGER.trace(lazyLogMessage(correlationId, () -> "Handling " + spec));
 
         String appDefinitionResourceName = appDefinition.getMetadata().getName();
-        String appDefinitionResourceUID = appDefinition.getMetadata().getUid();
-        int instances = spec.getMinInstances();
 
         /* Create ingress if not existing */
         if (!TheiaCloudIngressUtil.checkForExistingIngressAndAddOwnerReferencesIfMissing(client.kubernetes(),
@@ -97,32 +124,138 @@ public class EagerStartAppDefinitionAddedHandler implements AppDefinitionHandler
             LOGGER.trace(formatLogMessage(correlationId, "Ingress available already"));
         }
 
-        /* Get existing services for this app definition */
-        List<Service> existingServices = K8sUtil.getExistingServices(client.kubernetes(), client.namespace(),
-                appDefinitionResourceName, appDefinitionResourceUID);
+        resize(appDefinition, computePoolSize(appDefinition, correlationId), correlationId);
+        if (appDefinition.getMetadata().getGeneration() != null) {
+            handledGenerations.put(appDefinition.getMetadata().getUid(), appDefinition.getMetadata().getGeneration());
+        }
+        return true;
+    }
 
-        /* Compute missing services */
-        Set<Integer> missingServiceIds = TheiaCloudServiceUtil.computeIdsOfMissingServices(appDefinition, correlationId,
-                instances, existingServices);
+    @Override
+    public boolean appDefinitionModified(AppDefinition appDefinition, String correlationId) {
+        String uid = appDefinition.getMetadata().getUid();
+        Long generation = appDefinition.getMetadata().getGeneration();
+        if (generation != null && generation.equals(handledGenerations.get(uid))) {
+            // only status or metadata changed, e.g. by the operator itself
+            LOGGER.trace(formatLogMessage(correlationId,
+                    "Spec of app definition " + appDefinition.getMetadata().getName() + " is unchanged"));
+            return true;
+        }
+        int size = computePoolSize(appDefinition, correlationId);
+        LOGGER.info(formatLogMessage(correlationId, "Spec of app definition " + appDefinition.getMetadata().getName()
+                + " changed, reconciling " + size + " prewarmed instances"));
+        resize(appDefinition, size, correlationId);
+        if (generation != null) {
+            handledGenerations.put(uid, generation);
+        }
+        return true;
+    }
 
-        Map<String, String> labelsToAdd = new HashMap<String, String>();
+    @Override
+    public boolean appDefinitionDeleted(AppDefinition appDefinition, String correlationId) {
+        handledGenerations.remove(appDefinition.getMetadata().getUid());
+        return true;
+    }
 
-        /* Create missing services for this app definition */
-        for (int instance : missingServiceIds) {
-            createAndApplyService(client.kubernetes(), client.namespace(), correlationId, appDefinitionResourceName,
-                    appDefinitionResourceUID, instance, appDefinition, arguments.isUseKeycloak(), labelsToAdd);
+    /**
+     * Returns the number of prewarmed instances the app definition should have right now. Without autoscaling this is
+     * the minimum instances, otherwise the current size is kept within the bounds of the app definition and the warm
+     * pool controller adapts it from there.
+     */
+    protected int computePoolSize(AppDefinition appDefinition, String correlationId) {
+        AppDefinitionSpec spec = appDefinition.getSpec();
+        int min = spec.getMinInstances();
+        if (!arguments.isWarmPoolAutoscaling()) {
+            return min;
         }
+        Integer maxInstances = spec.getMaxInstances();
+        int max = maxInstances == null || maxInstances < min ? min : maxInstances;
+        return Math.max(min, Math.min(max, getInstanceServices(appDefinition, correlationId).size()));
+    }
 
-        /* Create missing internal services for this app definition */
-        for (int instance : missingServiceIds) {
-            createAndApplyInternalService(client.kubernetes(), client.namespace(), correlationId,
-                    appDefinitionResourceName, appDefinitionResourceUID, instance, appDefinition, labelsToAdd);
+    @Override
+    public void resize(AppDefinition appDefinition, int size, String correlationId) {
+        List<Service> instances = getInstanceServices(appDefinition, correlationId);
+        if (instances.size() <= size) {
+            Set<Integer> ids = instances.stream()//
+                    .map(service -> TheiaCloudServiceUtil.getId(correlationId, appDefinition, service))//
+                    .collect(Collectors.toCollection(TreeSet::new));
+            int existing = ids.size();
+            IntStream.iterate(1, id -> id + 1)//
+                    .boxed()//
+                    .filter(id -> !ids.contains(id))//
+                    .limit(size - existing)//
+                    .forEach(ids::add);
+            if (existing < size) {
+                LOGGER.info(formatLogMessage(correlationId, "Growing warm pool of app definition "
+                        + appDefinition.getMetadata().getName() + " from " + existing + " to " + size));
+            }
+            // also completes instances of which not all resources were created before
+            createInstances(appDefinition, ids, correlationId);
+        } else if (instances.size() > size) {
+            LOGGER.info(formatLogMessage(correlationId, "Shrinking warm pool of app definition "
+                    + appDefinition.getMetadata().getName() + " from " + instances.size() + " to " + size));
+            List<Service> unused = instances.stream()//
+                    .filter(TheiaCloudServiceUtil::isUnusedService)//
+                    .sorted(Comparator.comparing(
+                            (Service service) -> TheiaCloudServiceUtil.getId(correlationId, appDefinition, service))
+                            .reversed())//
+                    .limit(instances.size() - size)//
+                    .collect(Collectors.toList());
+            for (Service service : unused) {
+                removeInstance(appDefinition, service, correlationId);
+            }
         }
+    }
+
+    /**
+     * Returns the external services of the prewarmed instances of the given app definition. Every instance has exactly
+     * one such service.
+     */
+    protected List<Service> getInstanceServices(AppDefinition appDefinition, String correlationId) {
+        return cache.getServicesByOwner(appDefinition.getMetadata().getUid()).stream()//
+                .filter(service -> {
+                    Integer id = TheiaCloudServiceUtil.getId(correlationId, appDefinition, service);
+                    return id != null && TheiaCloudServiceUtil.getServiceName(appDefinition, id)
+                            .equals(service.getMetadata().getName());
+                })//
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the internal services of the prewarmed instances of the given app definition. The internal service of an
+     * instance always carries the id of the instance, so it selects the pod of that instance.
+     */
+    protected List<Service> getInternalServices(AppDefinition appDefinition, String correlationId) {
+        return cache.getServicesByOwner(appDefinition.getMetadata().getUid()).stream()//
+                .filter(service -> {
+                    Integer id = TheiaCloudServiceUtil.getId(correlationId, appDefinition, service);
+                    return id != null && TheiaCloudServiceUtil.getInternalServiceName(appDefinition, id)
+                            .equals(service.getMetadata().getName());
+                })//
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates all resources of the instances with the given ids that do not exist yet.
+     */
+    protected void createInstances(AppDefinition appDefinition, Set<Integer> ids, String correlationId) {
+        String appDefinitionResourceName = appDefinition.getMetadata().getName();
+        String appDefinitionResourceUID = appDefinition.getMetadata().getUid();
 
+        /* Compute missing services */
+        Set<Integer> missingServiceIds = TheiaCloudHandlerUtil.computeIdsOfMissingItems(ids,
+                getInstanceServices(appDefinition, correlationId),
+                service -> TheiaCloudServiceUtil.getId(correlationId, appDefinition, service));
+        Set<Integer> missingInternalServiceIds = TheiaCloudHandlerUtil.computeIdsOfMissingItems(ids,
+                getInternalServices(appDefinition, correlationId),
+                service -> TheiaCloudServiceUtil.getId(correlationId, appDefinition, service));
+
+        Set<Integer> missingProxyIds = Set.of();
+        Set<Integer> missingEmailIds = Set.of();
         if (arguments.isUseKeycloak()) {
             /* Get existing configmaps for this app definition */
-            List<ConfigMap> existingConfigMaps = K8sUtil.getExistingConfigMaps(client.kubernetes(), client.namespace(),
-                    appDefinitionResourceName, appDefinitionResourceUID);
+            List<ConfigMap> existingConfigMaps = cache.getConfigMapsByOwner(appDefinitionResourceUID);
             List<ConfigMap> existingProxyConfigMaps = existingConfigMaps.stream()//
                     .filter(configmap -> LABEL_VALUE_PROXY.equals(configmap.getMetadata().getLabels().get(LABEL_KEY)))//
                     .collect(Collectors.toList());
@@ -131,36 +264,106 @@ public class EagerStartAppDefinitionAddedHandler implements AppDefinitionHandler
                     .collect(Collectors.toList());
 
             /* Compute missing configmaps */
-            Set<Integer> missingProxyIds = TheiaCloudConfigMapUtil.computeIdsOfMissingProxyConfigMaps(appDefinition,
-                    correlationId, instances, existingProxyConfigMaps);
-            Set<Integer> missingEmailIds = TheiaCloudConfigMapUtil.computeIdsOfMissingEmailConfigMaps(appDefinition,
-                    correlationId, instances, existingEmailsConfigMaps);
-
-            /* Create missing configmaps for this app definition */
-            for (int instance : missingProxyIds) {
-                createAndApplyProxyConfigMap(client.kubernetes(), client.namespace(), correlationId,
-                        appDefinitionResourceName, appDefinitionResourceUID, instance, appDefinition, labelsToAdd);
-            }
-            for (int instance : missingEmailIds) {
-                createAndApplyEmailConfigMap(client.kubernetes(), client.namespace(), correlationId,
-                        appDefinitionResourceName, appDefinitionResourceUID, instance, appDefinition, labelsToAdd);
-            }
+            missingProxyIds = TheiaCloudHandlerUtil.computeIdsOfMissingItems(ids, existingProxyConfigMaps,
+                    configMap -> TheiaCloudConfigMapUtil.getProxyId(correlationId, appDefinition, configMap));
+            missingEmailIds = TheiaCloudHandlerUtil.computeIdsOfMissingItems(ids, existingEmailsConfigMaps,
+                    configMap -> TheiaCloudConfigMapUtil.getEmailId(correlationId, appDefinition, configMap));
         }
 
         /* Get existing deployments for this app definition */
-        List<Deployment> existingDeployments = K8sUtil.getExistingDeployments(client.kubernetes(), client.namespace(),
-                appDefinitionResourceName, appDefinitionResourceUID);
+        List<Deployment> existingDeployments = cache.getDeploymentsByOwner(appDefinitionResourceUID);
 
         /* Compute missing deployments */
-        Set<Integer> missingDeploymentIds = TheiaCloudDeploymentUtil.computeIdsOfMissingDeployments(appDefinition,
-                correlationId, instances, existingDeployments);
+        Set<Integer> missingDeploymentIds = TheiaCloudHandlerUtil.computeIdsOfMissingItems(ids, existingDeployments,
+                deployment -> TheiaCloudDeploymentUtil.getId(correlationId, appDefinition, deployment));
 
-        /* Create missing deployments for this app definition */
-        for (int instance : missingDeploymentIds) {
-            createAndApplyDeployment(client.kubernetes(), client.namespace(), correlationId, appDefinitionResourceName,
-                    appDefinitionResourceUID, instance, appDefinition, arguments.isUseKeycloak(), labelsToAdd);
+        Set<Integer> instances = new TreeSet<>(missingServiceIds);
+        instances.addAll(missingInternalServiceIds);
+        instances.addAll(missingProxyIds);
+        instances.addAll(missingEmailIds);
+        instances.addAll(missingDeploymentIds);
+
+        /* Create the missing resources, instances are independent of each other and created in parallel */
+        Map<String, String> labelsToAdd = new HashMap<String, String>();
+        NamespacedKubernetesClient kubernetes = client.kubernetes();
+        String namespace = client.namespace();
+        boolean useKeycloak = arguments.isUseKeycloak();
+        Set<Integer> proxyIds = missingProxyIds;
+        Set<Integer> emailIds = missingEmailIds;
+        List<CompletableFuture<Void>> creations = new ArrayList<>();
+        for (int instance : instances) {
+            creations.add(CompletableFuture.runAsync(() -> {
+                if (missingServiceIds.contains(instance)) {
+                    createAndApplyService(kubernetes, namespace, correlationId, appDefinitionResourceName,
+                            appDefinitionResourceUID, instance, appDefinition, useKeycloak, labelsToAdd);
+                }
+                if (missingInternalServiceIds.contains(instance)) {
+                    createAndApplyInternalService(kubernetes, namespace, correlationId, appDefinitionResourceName,
+                            appDefinitionResourceUID, instance, appDefinition, labelsToAdd);
+                }
+                if (proxyIds.contains(instance)) {
+                    createAndApplyProxyConfigMap(kubernetes, namespace, correlationId, appDefinitionResourceName,
+                            appDefinitionResourceUID, instance, appDefinition, labelsToAdd);
+                }
+                if (emailIds.contains(instance)) {
+                    createAndApplyEmailConfigMap(kubernetes, namespace, correlationId, appDefinitionResourceName,
+                            appDefinitionResourceUID, instance, appDefinition, labelsToAdd);
+                }
+                if (missingDeploymentIds.contains(instance)) {
+                    createAndApplyDeployment(kubernetes, namespace, correlationId, appDefinitionResourceName,
+                            appDefinitionResourceUID, instance, appDefinition, useKeycloak, labelsToAdd);
+                }
+            }, INSTANCE_EXECUTOR));
+        }
+        CompletableFuture.allOf(creations.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * Deletes the instance of the given unused service. The service is deleted first and only if it was not changed
+     * since it was read, so a session that claims the instance at the same time wins. The internal service of the
+     * instance is deleted with it, unless a session still holds it because it was not released yet. It is kept then and
+     * reused once the instance is created again.
+     */
+    protected void removeInstance(AppDefinition appDefinition, Service service, String correlationId) {
+        NamespacedKubernetesClient kubernetes = client.kubernetes();
+        String serviceName = service.getMetadata().getName();
+        Integer instance = TheiaCloudServiceUtil.getId(correlationId, appDefinition, service);
+        if (!deleteIfUnchanged(kubernetes, service)) {
+            LOGGER.info(formatLogMessage(correlationId,
+                    "Instance " + serviceName + " was claimed or changed before it could be removed"));
+            return;
+        }
+        LOGGER.info(formatLogMessage(correlationId, "Removing unused instance " + serviceName));
+
+        String internalServiceName = TheiaCloudServiceUtil.getInternalServiceName(appDefinition, instance);
+        Optional<Service> internal = cache.getService(internalServiceName);
+        if (internal.isPresent() && !(TheiaCloudServiceUtil.isUnusedService(internal.get())
+                && deleteIfUnchanged(kubernetes, internal.get()))) {
+            LOGGER.info(formatLogMessage(correlationId,
+                    "Keeping internal service " + internalServiceName + " which is still held by a session"));
+        }
+
+        kubernetes.apps().deployments().inNamespace(client.namespace())
+                .withName(TheiaCloudDeploymentUtil.getDeploymentName(appDefinition, instance)).delete();
+        if (arguments.isUseKeycloak()) {
+            kubernetes.configMaps().inNamespace(client.namespace())
+                    .withName(TheiaCloudConfigMapUtil.getProxyConfigName(appDefinition, instance)).delete();
+            kubernetes.configMaps().inNamespace(client.namespace())
+                    .withName(TheiaCloudConfigMapUtil.getEmailConfigName(appDefinition, instance)).delete();
+        }
+    }
+
+    /**
+     * Deletes the given service unless it was changed since it was read, e.g. because a session claimed it.
+     */
+    protected boolean deleteIfUnchanged(NamespacedKubernetesClient kubernetes, Service service) {
+        try {
+            kubernetes.services().inNamespace(client.namespace()).withName(service.getMetadata().getName())
+                    .lockResourceVersion(service.getMetadata().getResourceVersion()).delete();
+            return true;
+        } catch (KubernetesClientException e) {
+            return false;
         }
-        return true;
     }
 
     protected void createAndApplyService(NamespacedKubernetesClient client, String namespace, String correlationId,
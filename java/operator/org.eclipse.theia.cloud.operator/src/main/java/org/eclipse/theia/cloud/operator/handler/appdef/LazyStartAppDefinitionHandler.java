@@ -17,18 +17,23 @@
 package org.eclipse.theia.cloud.operator.handler.appdef;
 
 import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.lazyLogMessage;
 
 import java.util.Optional;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.client.StatusWriteBuffer;
 import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
 import org.eclipse.theia.cloud.common.k8s.resource.OperatorStatus;
 import org.eclipse.theia.cloud.common.k8s.resource.ResourceStatus;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinitionSpec;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinitionStatus;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments.RoutingMode;
 import org.eclipse.theia.cloud.operator.ingress.IngressPathProvider;
+import org.eclipse.theia.cloud.operator.queue.RetryQueue;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudIngressUtil;
 
 import com.google.inject.Inject;
@@ -43,11 +48,16 @@ public class LazyStartAppDefinitionHandler implements AppDefinitionHandler {
     @Inject
     protected IngressPathProvider ingressPathProvider;
 
+    @Inject
+    protected TheiaCloudOperatorArguments arguments;
+
     @Override
     public boolean appDefinitionAdded(AppDefinition appDefinition, String correlationId) {
         try {
             return doAppDefinitionAdded(appDefinition, correlationId);
         } catch (Throwable ex) {
+            // transient errors are retried by the operator and only fail the app definition once all attempts are used up
+            RetryQueue.rethrowIfRetryable(ex);
             LOGGER.error(formatLogMessage(correlationId,
                     "An unexpected exception occurred while adding AppDefinition: " + appDefinition), ex);
             client.appDefinitions().updateStatus(correlationId, appDefinition, status -> {
@@ -59,14 +69,16 @@ public class LazyStartAppDefinitionHandler implements AppDefinitionHandler {
     }
 
     protected boolean doAppDefinitionAdded(AppDefinition appDefinition, String correlationId) {
-        LOGGER.info(formatLogMessage(correlationId, "Handling " + appDefinition));
+        LOGGER.info(formatLogMessage(correlationId,
+                "Handling app definition " + appDefinition.getMetadata().getName()));
+        LOGGER.trace(lazyLogMessage(correlationId, () -> "Handling " + appDefinition));
 
         // Check current session status and ignore if handling failed or finished before
         Optional<AppDefinitionStatus> status = Optional.ofNullable(appDefinition.getStatus());
         String operatorStatus = status.map(ResourceStatus::getOperatorStatus).orElse(OperatorStatus.NEW);
         if (OperatorStatus.HANDLED.equals(operatorStatus)) {
-            LOGGER.trace(formatLogMessage(correlationId,
-                    "AppDefinition was successfully handled before and is skipped now. AppDefinition: "
+            LOGGER.trace(lazyLogMessage(correlationId,
+                    () -> "AppDefinition was successfully handled before and is skipped now. AppDefinition: "
                             + appDefinition));
             return true;
         }
@@ -87,8 +99,11 @@ public class LazyStartAppDefinitionHandler implements AppDefinitionHandler {
             return false;
         }
 
+        StatusWriteBuffer<AppDefinitionStatus, AppDefinition> statusBuffer = client.appDefinitions()
+                .statusBuffer(correlationId, appDefinition);
+
         // Set app definition status to being handled
-        client.appDefinitions().updateStatus(correlationId, appDefinition, s -> {
+        statusBuffer.update(s -> {
             s.setOperatorStatus(OperatorStatus.HANDLING);
         });
 
@@ -96,12 +111,14 @@ public class LazyStartAppDefinitionHandler implements AppDefinitionHandler {
         String appDefinitionResourceName = appDefinition.getMetadata().getName();
 
         /* Create ingress if not existing */
-        if (!TheiaCloudIngressUtil.checkForExistingIngressAndAddOwnerReferencesIfMissing(client.kubernetes(),
+        if (arguments.getRoutingMode() == RoutingMode.HTTPROUTE) {
+            LOGGER.trace(formatLogMessage(correlationId, "Sessions are routed via HTTPRoutes, no ingress required"));
+        } else if (!TheiaCloudIngressUtil.checkForExistingIngressAndAddOwnerReferencesIfMissing(client.kubernetes(),
                 client.namespace(), appDefinition, correlationId)) {
             LOGGER.error(formatLogMessage(correlationId,
                     "Expected ingress '" + spec.getIngressname() + "' for app definition '" + appDefinitionResourceName
                             + "' does not exist. Abort handling app definition."));
-            client.appDefinitions().updateStatus(correlationId, appDefinition, s -> {
+            statusBuffer.updateNow(s -> {
                 s.setOperatorStatus(OperatorStatus.ERROR);
                 s.setOperatorMessage("Ingress does not exist.");
             });
@@ -110,7 +127,7 @@ public class LazyStartAppDefinitionHandler implements AppDefinitionHandler {
             LOGGER.trace(formatLogMessage(correlationId, "Ingress available already"));
         }
 
-        client.appDefinitions().updateStatus(correlationId, appDefinition, s -> {
+        statusBuffer.updateNow(s -> {
             s.setOperatorStatus(OperatorStatus.HANDLED);
         });
         return true;
@@ -17,13 +17,20 @@
 package org.eclipse.theia.cloud.operator.handler.session;
 
 import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatMetric;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.lazyLogMessage;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.patch;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.withAnnotation;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.withData;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.withLabels;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.withOwnerReference;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.withoutLabels;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.withoutOwnerReference;
 
 import java.time.Instant;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Map;
-import java.util.HashMap;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -36,14 +43,21 @@ import org.eclipse.theia.cloud.common.k8s.resource.session.SessionSpec;
 import org.eclipse.theia.cloud.common.util.JavaUtil;
 import org.eclipse.theia.cloud.common.util.LabelsUtil;
 import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
 import org.eclipse.theia.cloud.operator.handler.AddedHandlerUtil;
 import org.eclipse.theia.cloud.operator.ingress.IngressPathProvider;
-import org.eclipse.theia.cloud.operator.util.K8sUtil;
+import org.eclipse.theia.cloud.operator.ingress.IngressWriter;
+import org.eclipse.theia.cloud.operator.metrics.OperatorMetrics;
+import org.eclipse.theia.cloud.operator.pool.SlotAllocator;
+import org.eclipse.theia.cloud.operator.queue.RetryQueue;
+import org.eclipse.theia.cloud.operator.readiness.SessionReadinessWatcher;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudConfigMapUtil;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudDeploymentUtil;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudHandlerUtil;
+import org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudServiceUtil;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.inject.Inject;
 
 import io.fabric8.kubernetes.api.model.Pod;
@@ -57,9 +71,7 @@ import io.fabric8.kubernetes.api.model.networking.v1.IngressRule;
 import io.fabric8.kubernetes.api.model.networking.v1.IngressServiceBackend;
 import io.fabric8.kubernetes.api.model.networking.v1.ServiceBackendPort;
 import io.fabric8.kubernetes.client.KubernetesClientException;
-import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
-import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.ServiceResource;
 
 /**
@@ -75,16 +87,32 @@ public class EagerSessionHandler implements SessionHandler {
     @Inject
     private TheiaCloudClient client;
 
+    @Inject
+    protected TheiaCloudCache cache;
+
     @Inject
     protected IngressPathProvider ingressPathProvider;
 
+    @Inject
+    protected IngressWriter ingressWriter;
+
     @Inject
     protected TheiaCloudOperatorArguments arguments;
 
+    @Inject
+    protected SessionReadinessWatcher readinessWatcher;
+
+    @Inject
+    protected SlotAllocator slotAllocator;
+
+    @Inject
+    protected OperatorMetrics metrics;
+
     @Override
     public boolean sessionAdded(Session session, String correlationId) {
         SessionSpec spec = session.getSpec();
-        LOGGER.info(formatLogMessage(correlationId, "Handling sessionAdded " + spec));
+        LOGGER.info(formatLogMessage(correlationId, "Handling sessionAdded " + session.getMetadata().getName()));
+        LOGGER.trace(lazyLogMessage(correlationId, () -> "Handling sessionAdded " + spec));
 
         String sessionResourceName = session.getMetadata().getName();
         String sessionResourceUID = session.getMetadata().getUid();
@@ -93,7 +121,7 @@ public class EagerSessionHandler implements SessionHandler {
         String userEmail = spec.getUser();
 
         /* find app definition for session */
-        Optional<AppDefinition> appDefinition = client.appDefinitions().get(appDefinitionID);
+        Optional<AppDefinition> appDefinition = cache.getAppDefinition(appDefinitionID);
         if (appDefinition.isEmpty()) {
             LOGGER.error(formatLogMessage(correlationId, "No App Definition with name " + appDefinitionID + " found."));
             return false;
@@ -104,8 +132,7 @@ public class EagerSessionHandler implements SessionHandler {
         int port = appDefinition.get().getSpec().getPort();
 
         /* find ingress */
-        Optional<Ingress> ingress = K8sUtil.getExistingIngress(client.kubernetes(), client.namespace(),
-                appDefinitionResourceName, appDefinitionResourceUID);
+        Optional<Ingress> ingress = cache.getIngressesByOwner(appDefinitionResourceUID).stream().findAny();
         if (ingress.isEmpty()) {
             LOGGER.error(
                     formatLogMessage(correlationId, "No Ingress for app definition " + appDefinitionID + " found."));
@@ -113,245 +140,273 @@ public class EagerSessionHandler implements SessionHandler {
         }
 
         /* get a service to use */
-        Entry<Optional<Service>, Boolean> reserveServiceResult = reserveService(client.kubernetes(), client.namespace(),
-                appDefinitionResourceName, appDefinitionResourceUID, appDefinitionID, sessionResourceName,
-                sessionResourceUID, correlationId);
-        if (reserveServiceResult.getValue()) {
-            LOGGER.info(formatLogMessage(correlationId, "Found an already reserved service"));
-            return true;
-        }
+        Entry<Optional<Service>, Boolean> reserveServiceResult = reserve(appDefinitionResourceUID,
+                sessionResourceName, sessionResourceUID, correlationId);
         Optional<Service> serviceToUse = reserveServiceResult.getKey();
         if (serviceToUse.isEmpty()) {
             LOGGER.error(
                     formatLogMessage(correlationId, "No Service for app definition " + appDefinitionID + " found."));
             return false;
         }
-
-        /* get an internal service to use */
-        Entry<Optional<Service>, Boolean> reserveInternalServiceResult = reserveInternalService(client.kubernetes(),
-                client.namespace(), appDefinitionResourceName, appDefinitionResourceUID, appDefinitionID,
-                sessionResourceName, sessionResourceUID, correlationId);
-        if (reserveInternalServiceResult.getValue()) {
-            LOGGER.info(formatLogMessage(correlationId, "Found an already reserved internal service"));
-            return true;
-        }
-        Optional<Service> internalServiceToUse = reserveInternalServiceResult.getKey();
-        if (internalServiceToUse.isEmpty()) {
-            LOGGER.error(formatLogMessage(correlationId,
-                    "No Internal Service for app definition " + appDefinitionID + " found."));
-            return false;
-        }
-
-        try {
-            client.services().inNamespace(client.namespace()).withName(serviceToUse.get().getMetadata().getName())
-                    .edit(service -> {
-                        LOGGER.debug("Setting session labels");
-                        Map<String, String> labels = service.getMetadata().getLabels();
-                        if (labels == null) {
-                            labels = new HashMap<>();
-                            service.getMetadata().setLabels(labels);
-                        }
-                        Map<String, String> newLabels = LabelsUtil.createSessionLabels(session, appDefinition.get());
-                        labels.putAll(newLabels);
-                        return service;
-                    });
-        } catch (KubernetesClientException e) {
-            LOGGER.error(formatLogMessage(correlationId,
-                    "Error while adding labels to service " + (serviceToUse.get().getMetadata().getName())), e);
-            return false;
+        // the session was handled before, e.g. by a previous attempt or leader. All following steps are idempotent, so
+        // the ones that did not complete are done now.
+        boolean resumed = reserveServiceResult.getValue();
+        if (resumed) {
+            LOGGER.info(formatLogMessage(correlationId, "Found an already reserved service, resuming the setup"));
         }
 
+        // the session owns the service now, so every failure from here on has to give the instance back unless it
+        // was reserved before and may already be in use
+        Integer instance = null;
+        Service internalService = null;
+        String host = null;
         try {
-            client.services().inNamespace(client.namespace())
-                    .withName(internalServiceToUse.get().getMetadata().getName()).edit(service -> {
-                        LOGGER.debug("Setting session labels on internal service");
-                        Map<String, String> labels = service.getMetadata().getLabels();
-                        if (labels == null) {
-                            labels = new HashMap<>();
-                            service.getMetadata().setLabels(labels);
-                        }
-                        Map<String, String> newLabels = LabelsUtil.createSessionLabels(session, appDefinition.get());
-                        labels.putAll(newLabels);
-                        return service;
-                    });
-        } catch (KubernetesClientException e) {
-            LOGGER.error(formatLogMessage(correlationId, "Error while adding labels to internal service "
-                    + (internalServiceToUse.get().getMetadata().getName())), e);
-            return false;
-        }
-
-        /* get the deployment for the service and add as owner */
-        Integer instance = TheiaCloudServiceUtil.getId(correlationId, appDefinition.get(), serviceToUse.get());
-        if (instance == null) {
-            LOGGER.error(formatLogMessage(correlationId, "Error while getting instance from Service"));
-            return false;
-        }
+            instance = TheiaCloudServiceUtil.getId(correlationId, appDefinition.get(), serviceToUse.get());
+            if (instance == null) {
+                LOGGER.error(formatLogMessage(correlationId, "Error while getting instance from Service"));
+                return false;
+            }
 
-        final String deploymentName = TheiaCloudDeploymentUtil.getDeploymentName(appDefinition.get(), instance);
-        try {
-            client.kubernetes().apps().deployments().withName(deploymentName).edit(deployment -> TheiaCloudHandlerUtil
-                    .addOwnerReferenceToItem(correlationId, sessionResourceName, sessionResourceUID, deployment));
-        } catch (KubernetesClientException e) {
-            LOGGER.error(formatLogMessage(correlationId, "Error while editing deployment "
-                    + (appDefinitionID + TheiaCloudDeploymentUtil.DEPLOYMENT_NAME + instance)), e);
-            return false;
-        }
+            /* get the internal service of the same instance */
+            String internalServiceName = TheiaCloudServiceUtil.getInternalServiceName(appDefinition.get(), instance);
+            Optional<Service> internalServiceToUse = slotAllocator.claimByName(internalServiceName,
+                    sessionResourceName, sessionResourceUID, correlationId);
+            if (internalServiceToUse.isEmpty()) {
+                LOGGER.error(formatLogMessage(correlationId,
+                        "Internal service " + internalServiceName + " is not available."));
+                return false;
+            }
+            internalService = internalServiceToUse.get();
 
-        if (arguments.isUseKeycloak()) {
-            /* add user to allowed emails */
             try {
-                client.kubernetes().configMaps()
-                        .withName(TheiaCloudConfigMapUtil.getEmailConfigName(appDefinition.get(), instance))
-                        .edit(configmap -> {
-                            configmap.setData(Collections
-                                    .singletonMap(AddedHandlerUtil.FILENAME_AUTHENTICATED_EMAILS_LIST, userEmail));
-                            return configmap;
-                        });
+                LOGGER.debug("Setting session labels");
+                TheiaCloudPatchUtil.mergePatch(client.services().withName(serviceToUse.get().getMetadata().getName()),
+                        withLabels(patch(), LabelsUtil.createSessionLabels(session, appDefinition.get())));
+            } catch (KubernetesClientException e) {
+                RetryQueue.rethrowIfRetryable(e);
+                LOGGER.error(formatLogMessage(correlationId,
+                        "Error while adding labels to service " + (serviceToUse.get().getMetadata().getName())), e);
+                return false;
+            }
 
+            try {
+                LOGGER.debug("Setting session labels on internal service");
+                TheiaCloudPatchUtil.mergePatch(client.services().withName(internalServiceName),
+                        withLabels(patch(), LabelsUtil.createSessionLabels(session, appDefinition.get())));
             } catch (KubernetesClientException e) {
-                LOGGER.error(
-                        formatLogMessage(correlationId,
-                                "Error while editing email configmap "
-                                        + (appDefinitionID + TheiaCloudConfigMapUtil.CONFIGMAP_EMAIL_NAME + instance)),
-                        e);
+                RetryQueue.rethrowIfRetryable(e);
+                LOGGER.error(formatLogMessage(correlationId,
+                        "Error while adding labels to internal service " + internalServiceName), e);
                 return false;
             }
 
-            // Add/update annotation to the session pod to trigger a sync with the Kubelet.
-            // Otherwise, the pod might not be updated with the new email list for the OAuth proxy in time.
-            // This is the case because ConfigMap changes are not propagated to the pod immediately but during a
-            // periodic sync. See
-            // https://kubernetes.io/docs/concepts/configuration/configmap/#mounted-configmaps-are-updated-automatically
-            // NOTE that this is still not a one hundred percent guarantee that the pod is updated in time.
+            /* get the deployment for the service and add as owner */
+            final String deploymentName = TheiaCloudDeploymentUtil.getDeploymentName(appDefinition.get(), instance);
             try {
-                LOGGER.info(formatLogMessage(correlationId, "Adding update annotation to pods..."));
-                client.kubernetes().pods().list().getItems().forEach(pod -> {
-                    // Use startsWith because the actual owner is the deployment's ReplicaSet
-                    // whose name starts with the deployment name
-                    if (pod.getMetadata().getOwnerReferences().stream()
-                            .anyMatch(or -> or.getName().startsWith(deploymentName))) {
-
-                        LOGGER.debug(formatLogMessage(correlationId,
-                                "Adding update annotation to pod " + pod.getMetadata().getName()));
-                        pod.getMetadata().getAnnotations().put(EAGER_START_REFRESH_ANNOTATION,
-                                Instant.now().toString());
-                        // Apply the changes
-                        PodResource podResource = client.pods().withName(pod.getMetadata().getName());
-                        podResource.edit(p -> pod);
-                        LOGGER.debug(formatLogMessage(correlationId,
-                                "Added update annotation to pod " + pod.getMetadata().getName()));
-                    }
-                });
+                LOGGER.info(formatLogMessage(correlationId, "Adding a new owner reference to " + deploymentName));
+                TheiaCloudPatchUtil.strategicMergePatch(
+                        client.kubernetes().apps().deployments().withName(deploymentName), withOwnerReference(patch(),
+                                TheiaCloudHandlerUtil.createOwnerReference(sessionResourceName, sessionResourceUID)));
             } catch (KubernetesClientException e) {
-                LOGGER.error(formatLogMessage(correlationId, "Error while editing pod annotations"), e);
+                RetryQueue.rethrowIfRetryable(e);
+                LOGGER.error(formatLogMessage(correlationId, "Error while editing deployment "
+                        + (appDefinitionID + TheiaCloudDeploymentUtil.DEPLOYMENT_NAME + instance)), e);
                 return false;
             }
-        }
 
-        /* adjust the ingress */
-        String host;
-        try {
-            host = updateIngress(ingress, serviceToUse, appDefinitionID, instance, port, appDefinition.get(),
-                    correlationId);
-        } catch (KubernetesClientException e) {
-            LOGGER.error(formatLogMessage(correlationId,
-                    "Error while editing ingress " + ingress.get().getMetadata().getName()), e);
-            return false;
+            if (arguments.isUseKeycloak()
+                    && !updateAllowList(session, appDefinition.get(), instance, userEmail, correlationId)) {
+                return false;
+            }
+
+            /* adjust the ingress */
+            try {
+                host = updateIngress(ingress, serviceToUse, appDefinitionID, instance, port, appDefinition.get(),
+                        correlationId);
+            } catch (KubernetesClientException e) {
+                RetryQueue.rethrowIfRetryable(e);
+                LOGGER.error(formatLogMessage(correlationId,
+                        "Error while editing ingress " + ingress.get().getMetadata().getName()), e);
+                return false;
+            }
+        } finally {
+            if (host == null && !resumed) {
+                releaseReservation(session, appDefinition.get(), serviceToUse.get(), internalService, instance,
+                        correlationId);
+            }
         }
 
-        /* Update session resource */
-        try {
-            AddedHandlerUtil.updateSessionURLAsync(client.sessions(), session, client.namespace(), host, correlationId);
-        } catch (KubernetesClientException e) {
-            LOGGER.error(
-                    formatLogMessage(correlationId, "Error while editing session " + session.getMetadata().getName()),
-                    e);
-            return false;
+        /* Update session resource once it is available */
+        if (resumed) {
+            watchIfWithoutUrl(session, appDefinition.get(), serviceToUse.get(), correlationId);
+        } else {
+            readinessWatcher.watch(session, serviceToUse.get().getMetadata().getName(), host, correlationId);
         }
 
         return true;
     }
 
-    protected synchronized Entry<Optional<Service>, Boolean> reserveService(NamespacedKubernetesClient client,
-            String namespace, String appDefinitionResourceName, String appDefinitionResourceUID, String appDefinitionID,
-            String sessionResourceName, String sessionResourceUID, String correlationId) {
-        List<Service> existingServices = K8sUtil.getExistingServices(client, namespace, appDefinitionResourceName,
-                appDefinitionResourceUID);
-
-        // Filter for external services (those without "-int" suffix)
-        List<Service> existingExternalServices = existingServices.stream()
-                .filter(service -> !service.getMetadata().getName().endsWith("-int")).collect(Collectors.toList());
-
-        Optional<Service> alreadyReservedService = TheiaCloudServiceUtil.getServiceOwnedBySession(sessionResourceName,
-                sessionResourceUID, existingExternalServices);
-        if (alreadyReservedService.isPresent()) {
-            return JavaUtil.tuple(alreadyReservedService, true);
+    /**
+     * Gives back the instance a session reserved when the session could not be set up. The changes of the instance are
+     * undone before the services are released, so the instance is clean when the next session claims it. Every step is
+     * attempted even if an earlier one fails.
+     */
+    protected void releaseReservation(Session session, AppDefinition appDefinition, Service service,
+            Service internalService, Integer instance, String correlationId) {
+        String sessionResourceUID = session.getMetadata().getUid();
+        LOGGER.info(formatLogMessage(correlationId, "Releasing instance " + service.getMetadata().getName()
+                + " reserved for session " + session.getSpec().getName()));
+        if (instance != null) {
+            String deploymentName = TheiaCloudDeploymentUtil.getDeploymentName(appDefinition, instance);
+            try {
+                TheiaCloudPatchUtil.strategicMergePatch(
+                        client.kubernetes().apps().deployments().withName(deploymentName),
+                        withoutOwnerReference(patch(), sessionResourceUID));
+            } catch (KubernetesClientException e) {
+                LOGGER.error(formatLogMessage(correlationId, "Error while releasing deployment " + deploymentName), e);
+            }
+            if (arguments.isUseKeycloak()) {
+                String configMapName = TheiaCloudConfigMapUtil.getEmailConfigName(appDefinition, instance);
+                try {
+                    TheiaCloudPatchUtil.mergePatch(client.kubernetes().configMaps().withName(configMapName),
+                            withData(patch(), AddedHandlerUtil.FILENAME_AUTHENTICATED_EMAILS_LIST, null));
+                } catch (KubernetesClientException e) {
+                    LOGGER.error(
+                            formatLogMessage(correlationId, "Error while releasing email configmap " + configMapName),
+                            e);
+                }
+            }
         }
-
-        Optional<Service> serviceToUse = TheiaCloudServiceUtil.getUnusedService(existingExternalServices,
-                appDefinitionResourceUID);
-        if (serviceToUse.isEmpty()) {
-            return JavaUtil.tuple(serviceToUse, false);
+        for (Service reserved : internalService == null ? List.of(service) : List.of(internalService, service)) {
+            String name = reserved.getMetadata().getName();
+            try {
+                TheiaCloudPatchUtil.strategicMergePatch(client.services().withName(name),
+                        releasePatch(sessionResourceUID));
+            } catch (KubernetesClientException e) {
+                LOGGER.error(formatLogMessage(correlationId, "Error while releasing service " + name), e);
+            }
         }
+    }
 
-        /* add our session as owner to the service */
+    /**
+     * Writes the user to the allowed emails of the instance's OAuth proxy and asks the kubelet to sync the pods of the
+     * instance right away.
+     * <p>
+     * ConfigMap changes only reach mounted volumes during the periodic sync of the kubelet, see
+     * https://kubernetes.io/docs/concepts/configuration/configmap/#mounted-configmaps-are-updated-automatically. Changing
+     * an annotation of the pod triggers this sync for the pod. The pods are looked up by the app label of the instance.
+     * The OAuth proxy picks up the changed file on its own. This is still not a one hundred percent guarantee that the
+     * pod is updated in time.
+     * </p>
+     */
+    protected boolean updateAllowList(Session session, AppDefinition appDefinition, int instance, String userEmail,
+            String correlationId) {
+        long start = System.currentTimeMillis();
+        String configMapName = TheiaCloudConfigMapUtil.getEmailConfigName(appDefinition, instance);
+        String revision;
         try {
-            client.services().inNamespace(namespace).withName(serviceToUse.get().getMetadata().getName())
-                    .edit(service -> TheiaCloudHandlerUtil.addOwnerReferenceToItem(correlationId, sessionResourceName,
-                            sessionResourceUID, service));
+            revision = TheiaCloudPatchUtil.mergePatch(client.kubernetes().configMaps().withName(configMapName),
+                    withData(patch(), AddedHandlerUtil.FILENAME_AUTHENTICATED_EMAILS_LIST, userEmail)).getMetadata()
+                    .getResourceVersion();
         } catch (KubernetesClientException e) {
-            LOGGER.error(formatLogMessage(correlationId,
-                    "Error while editing service " + (serviceToUse.get().getMetadata().getName())), e);
-            return JavaUtil.tuple(Optional.empty(), false);
+            RetryQueue.rethrowIfRetryable(e);
+            LOGGER.error(formatLogMessage(correlationId, "Error while editing email configmap " + configMapName), e);
+            return false;
         }
-        return JavaUtil.tuple(serviceToUse, false);
-    }
 
-    protected synchronized Entry<Optional<Service>, Boolean> reserveInternalService(NamespacedKubernetesClient client,
-            String namespace, String appDefinitionResourceName, String appDefinitionResourceUID, String appDefinitionID,
-            String sessionResourceName, String sessionResourceUID, String correlationId) {
-        List<Service> existingServices = K8sUtil.getExistingServices(client, namespace, appDefinitionResourceName,
-                appDefinitionResourceUID);
+        String appSelector = TheiaCloudHandlerUtil.getAppSelector(appDefinition, instance);
+        List<Pod> pods;
+        try {
+            pods = client.kubernetes().pods().withLabel("app", appSelector).list().getItems();
+            for (Pod pod : pods) {
+                LOGGER.debug(formatLogMessage(correlationId,
+                        "Adding update annotation to pod " + pod.getMetadata().getName()));
+                // the revision of the allow list makes the annotation change even if two updates share a timestamp
+                TheiaCloudPatchUtil.mergePatch(client.pods().withName(pod.getMetadata().getName()), withAnnotation(
+                        patch(), EAGER_START_REFRESH_ANNOTATION, Instant.now().toString() + "/" + revision));
+            }
+        } catch (KubernetesClientException e) {
+            RetryQueue.rethrowIfRetryable(e);
+            LOGGER.error(formatLogMessage(correlationId, "Error while editing pod annotations"), e);
+            return false;
+        }
 
-        // Filter for internal services (those with "-int" suffix)
-        List<Service> existingInternalServices = existingServices.stream()
-                .filter(service -> service.getMetadata().getName().endsWith("-int")).collect(Collectors.toList());
+        long now = System.currentTimeMillis();
+        LOGGER.info(formatMetric(correlationId, "Allow list of " + appSelector + " written in " + (now - start)
+                + "ms, " + pods.size() + " pod(s) asked to sync"));
+        // only the write is measured, when the OAuth proxy reloads the list is not observed
+        metrics.recordAllowListWritten(session.getSpec().getAppDefinition(),
+                now - Instant.parse(session.getMetadata().getCreationTimestamp()).toEpochMilli());
+        return true;
+    }
 
+    /**
+     * Returns the external service already reserved by the session or claims a free one from the slot allocator. The
+     * boolean of the result is <code>true</code> if the service was reserved before. A reservation found in the cache is
+     * confirmed against the cluster, because it may have been rolled back after the cache was updated.
+     */
+    protected Entry<Optional<Service>, Boolean> reserve(String appDefinitionResourceUID, String sessionResourceName,
+            String sessionResourceUID, String correlationId) {
+        List<Service> reservedServices = cache.getServicesByOwner(sessionResourceUID).stream()
+                .filter(service -> !service.getMetadata().getName().endsWith("-int"))
+                .collect(Collectors.toList());
         Optional<Service> alreadyReservedService = TheiaCloudServiceUtil.getServiceOwnedBySession(sessionResourceName,
-                sessionResourceUID, existingInternalServices);
+                sessionResourceUID, reservedServices);
         if (alreadyReservedService.isPresent()) {
-            return JavaUtil.tuple(alreadyReservedService, true);
-        }
-
-        Optional<Service> serviceToUse = TheiaCloudServiceUtil.getUnusedService(existingInternalServices,
-                appDefinitionResourceUID);
-        if (serviceToUse.isEmpty()) {
-            return JavaUtil.tuple(serviceToUse, false);
+            Optional<Service> confirmed = slotAllocator.claimByName(alreadyReservedService.get().getMetadata().getName(),
+                    sessionResourceName, sessionResourceUID, correlationId);
+            if (confirmed.isPresent()) {
+                return JavaUtil.tuple(confirmed, true);
+            }
         }
 
-        /* add our session as owner to the internal service */
-        try {
-            client.services().inNamespace(namespace).withName(serviceToUse.get().getMetadata().getName())
-                    .edit(service -> TheiaCloudHandlerUtil.addOwnerReferenceToItem(correlationId, sessionResourceName,
-                            sessionResourceUID, service));
-        } catch (KubernetesClientException e) {
-            LOGGER.error(formatLogMessage(correlationId,
-                    "Error while editing internal service " + (serviceToUse.get().getMetadata().getName())), e);
-            return JavaUtil.tuple(Optional.empty(), false);
-        }
-        return JavaUtil.tuple(serviceToUse, false);
+        return JavaUtil.tuple(
+                slotAllocator.claim(appDefinitionResourceUID, sessionResourceName, sessionResourceUID, correlationId),
+                false);
     }
 
-    protected synchronized String updateIngress(Optional<Ingress> ingress, Optional<Service> serviceToUse,
+    protected String updateIngress(Optional<Ingress> ingress, Optional<Service> serviceToUse,
             String appDefinitionID, int instance, int port, AppDefinition appDefinition, String correlationId) {
         final String host = arguments.getInstancesHost();
         String path = ingressPathProvider.getPath(appDefinition, instance);
-        client.ingresses().edit(correlationId, ingress.get().getMetadata().getName(),
+        ingressWriter.editAndWait(correlationId, ingress.get().getMetadata().getName(),
                 ingressToUpdate -> addIngressRule(ingressToUpdate, serviceToUse.get(), host, port, path));
-        return host + path + "/";
+        return getSessionUrl(appDefinition, instance);
+    }
+
+    protected String getSessionUrl(AppDefinition appDefinition, int instance) {
+        return arguments.getInstancesHost() + ingressPathProvider.getPath(appDefinition, instance) + "/";
+    }
+
+    /**
+     * Sessions are handled again after an operator restart or a change of leadership. Sessions that were routed
+     * before but have no URL yet are registered with the readiness watcher again, which only keeps them in memory.
+     */
+    protected void watchIfWithoutUrl(Session session, AppDefinition appDefinition, Service service,
+            String correlationId) {
+        if (session.getStatus() != null && session.getStatus().getUrl() != null
+                && !session.getStatus().getUrl().isBlank()) {
+            return;
+        }
+        Integer instance = TheiaCloudServiceUtil.getId(correlationId, appDefinition, service);
+        if (instance == null) {
+            LOGGER.error(formatLogMessage(correlationId, "Error while getting instance from Service"));
+            return;
+        }
+        readinessWatcher.watch(session, service.getMetadata().getName(), getSessionUrl(appDefinition, instance),
+                correlationId);
     }
 
     protected Ingress addIngressRule(Ingress ingress, Service serviceToUse, String host, int port, String path) {
+        String rulePath = path + arguments.getIngressPathSuffix();
+        boolean exists = ingress.getSpec().getRules().stream()//
+                .filter(rule -> rule.getHttp() != null)//
+                .flatMap(rule -> rule.getHttp().getPaths().stream())//
+                .anyMatch(httpPath -> rulePath.equals(httpPath.getPath()));
+        if (exists) {
+            // added by an earlier attempt for this session
+            return ingress;
+        }
         IngressRule ingressRule = new IngressRule();
         ingress.getSpec().getRules().add(ingressRule);
 
@@ -362,7 +417,7 @@ public class EagerSessionHandler implements SessionHandler {
 
         HTTPIngressPath httpIngressPath = new HTTPIngressPath();
         http.getPaths().add(httpIngressPath);
-        httpIngressPath.setPath(path + arguments.getIngressPathSuffix());
+        httpIngressPath.setPath(rulePath);
         httpIngressPath.setPathType(AddedHandlerUtil.INGRESS_PATH_TYPE);
 
         IngressBackend ingressBackend = new IngressBackend();
@@ -382,12 +437,13 @@ public class EagerSessionHandler implements SessionHandler {
     @Override
     public boolean sessionDeleted(Session session, String correlationId) {
         SessionSpec spec = session.getSpec();
-        LOGGER.info(formatLogMessage(correlationId, "Handling sessionDeleted " + spec));
+        LOGGER.info(formatLogMessage(correlationId, "Handling sessionDeleted " + session.getMetadata().getName()));
+        LOGGER.trace(lazyLogMessage(correlationId, () -> "Handling sessionDeleted " + spec));
 
         // Find app definition for session. If it's not there anymore, we don't need to clean up because the resources
         // are deleted by Kubernetes garbage collection.
         String appDefinitionID = spec.getAppDefinition();
-        Optional<AppDefinition> appDefinition = client.appDefinitions().get(appDefinitionID);
+        Optional<AppDefinition> appDefinition = cache.getAppDefinition(appDefinitionID);
         if (appDefinition.isEmpty()) {
             LOGGER.info(formatLogMessage(correlationId, "No App Definition with name " + appDefinitionID
                     + " found. Thus, no cleanup is needed because associated resources are deleted by Kubernets garbage collecion."));
@@ -446,12 +502,8 @@ public class EagerSessionHandler implements SessionHandler {
         boolean editServiceSuccess = false;
         while (editServiceAttempts < 3 && !editServiceSuccess) {
             try {
-                cleanedService = client.services().withName(serviceName).edit(service -> {
-                    TheiaCloudHandlerUtil.removeOwnerReferenceFromItem(correlationId, sessionResourceName,
-                            sessionResourceUID, service);
-                    service.getMetadata().getLabels().keySet().removeAll(LabelsUtil.getSessionSpecificLabelKeys());
-                    return service;
-                });
+                cleanedService = TheiaCloudPatchUtil.strategicMergePatch(client.services().withName(serviceName),
+                        releasePatch(sessionResourceUID));
                 LOGGER.info(formatLogMessage(correlationId,
                         "Removed owner reference and user-specific session labels from service: " + serviceName));
                 editServiceSuccess = true;
@@ -477,12 +529,8 @@ public class EagerSessionHandler implements SessionHandler {
         boolean editInternalServiceSuccess = false;
         while (editInternalServiceAttempts < 3 && !editInternalServiceSuccess) {
             try {
-                cleanedInternalService = client.services().withName(internalServiceName).edit(service -> {
-                    TheiaCloudHandlerUtil.removeOwnerReferenceFromItem(correlationId, sessionResourceName,
-                            sessionResourceUID, service);
-                    service.getMetadata().getLabels().keySet().removeAll(LabelsUtil.getSessionSpecificLabelKeys());
-                    return service;
-                });
+                cleanedInternalService = TheiaCloudPatchUtil.strategicMergePatch(
+                        client.services().withName(internalServiceName), releasePatch(sessionResourceUID));
                 LOGGER.info(formatLogMessage(correlationId,
                         "Removed owner reference and user-specific session labels from internal service: "
                                 + internalServiceName));
@@ -502,8 +550,8 @@ public class EagerSessionHandler implements SessionHandler {
         Integer instance = TheiaCloudServiceUtil.getId(correlationId, appDefinition.get(), cleanedService);
 
         // Cleanup ingress rule to prevent further traffic to the session pod
-        Optional<Ingress> ingress = K8sUtil.getExistingIngress(client.kubernetes(), client.namespace(),
-                appDefinition.get().getMetadata().getName(), appDefinition.get().getMetadata().getUid());
+        Optional<Ingress> ingress = cache.getIngressesByOwner(appDefinition.get().getMetadata().getUid()).stream()
+                .findAny();
         if (ingress.isEmpty()) {
             LOGGER.error(
                     formatLogMessage(correlationId, "No Ingress for app definition " + appDefinitionID + " found."));
@@ -525,8 +573,8 @@ public class EagerSessionHandler implements SessionHandler {
         }
         final String deploymentName = TheiaCloudDeploymentUtil.getDeploymentName(appDefinition.get(), instance);
         try {
-            client.kubernetes().apps().deployments().withName(deploymentName).edit(deployment -> TheiaCloudHandlerUtil
-                    .removeOwnerReferenceFromItem(correlationId, sessionResourceName, sessionResourceUID, deployment));
+            TheiaCloudPatchUtil.strategicMergePatch(client.kubernetes().apps().deployments().withName(deploymentName),
+                    withoutOwnerReference(patch(), sessionResourceUID));
         } catch (KubernetesClientException e) {
             LOGGER.error(formatLogMessage(correlationId, "Error while editing deployment "
                     + (appDefinitionID + TheiaCloudDeploymentUtil.DEPLOYMENT_NAME + instance)), e);
@@ -535,13 +583,10 @@ public class EagerSessionHandler implements SessionHandler {
 
         // Remove user from allowed emails in config map
         try {
-            client.kubernetes().configMaps()
-                    .withName(TheiaCloudConfigMapUtil.getEmailConfigName(appDefinition.get(), instance))
-                    .edit(configmap -> {
-                        configmap.setData(
-                                Collections.singletonMap(AddedHandlerUtil.FILENAME_AUTHENTICATED_EMAILS_LIST, null));
-                        return configmap;
-                    });
+            TheiaCloudPatchUtil.mergePatch(
+                    client.kubernetes().configMaps()
+                            .withName(TheiaCloudConfigMapUtil.getEmailConfigName(appDefinition.get(), instance)),
+                    withData(patch(), AddedHandlerUtil.FILENAME_AUTHENTICATED_EMAILS_LIST, null));
         } catch (KubernetesClientException e) {
             LOGGER.error(formatLogMessage(correlationId, "Error while editing email configmap "
                     + (appDefinitionID + TheiaCloudConfigMapUtil.CONFIGMAP_EMAIL_NAME + instance)), e);
@@ -550,11 +595,12 @@ public class EagerSessionHandler implements SessionHandler {
 
         // Delete the pod to clean temporary workspace files. The deployment recreates a fresh pod automatically.
         try {
-            Optional<Pod> pod = client.kubernetes().pods().list().getItems().stream()
-                    .filter(p -> p.getMetadata().getName().startsWith(deploymentName)).findAny();
-            if (pod.isPresent()) {
-                LOGGER.info(formatLogMessage(correlationId, "Deleting pod " + pod.get().getMetadata().getName()));
-                client.pods().withName(pod.get().getMetadata().getName()).delete();
+            List<Pod> pods = client.kubernetes().pods()
+                    .withLabel("app", TheiaCloudHandlerUtil.getAppSelector(appDefinition.get(), instance)).list()
+                    .getItems();
+            for (Pod pod : pods) {
+                LOGGER.info(formatLogMessage(correlationId, "Deleting pod " + pod.getMetadata().getName()));
+                client.pods().withName(pod.getMetadata().getName()).delete();
             }
         } catch (KubernetesClientException e) {
             LOGGER.error(formatLogMessage(correlationId, "Error while deleting pod"), e);
@@ -564,12 +610,20 @@ public class EagerSessionHandler implements SessionHandler {
         return true;
     }
 
-    protected synchronized void removeIngressRule(String correlationId, AppDefinition appDefinition, Ingress ingress,
+    /**
+     * Removes the owner reference of the session and the session specific labels from a service with one patch.
+     */
+    protected ObjectNode releasePatch(String sessionResourceUID) {
+        return withoutLabels(withoutOwnerReference(patch(), sessionResourceUID),
+                LabelsUtil.getSessionSpecificLabelKeys());
+    }
+
+    protected void removeIngressRule(String correlationId, AppDefinition appDefinition, Ingress ingress,
             Integer instance) throws KubernetesClientException {
         final String ruleHttpPath = ingressPathProvider.getPath(appDefinition, instance)
                 + arguments.getIngressPathSuffix();
-        client.ingresses().resource(ingress.getMetadata().getName()).edit(ingressToUpdate -> {
-            ingressToUpdate.getSpec().getRules().removeIf(rule -> {
+        ingressWriter.editAndWait(correlationId, ingress.getMetadata().getName(), ingressToUpdate -> {
+            return ingressToUpdate.getSpec().getRules().removeIf(rule -> {
                 if (rule.getHttp() == null) {
                     LOGGER.warn(formatLogMessage(correlationId,
                             "Error while removing ingress rule: The rule's HTTP block is null"));
@@ -577,7 +631,6 @@ public class EagerSessionHandler implements SessionHandler {
                 }
                 return rule.getHttp().getPaths().stream().anyMatch(httpPath -> ruleHttpPath.equals(httpPath.getPath()));
             });
-            return ingressToUpdate;
         });
     }
 }
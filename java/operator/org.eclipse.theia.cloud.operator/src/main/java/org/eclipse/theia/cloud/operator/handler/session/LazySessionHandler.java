@@ -18,19 +18,22 @@ package org.eclipse.theia.cloud.operator.handler.session;
 
 import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
 import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatMetric;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.lazyLogMessage;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.client.StatusWriteBuffer;
 import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
 import org.eclipse.theia.cloud.common.k8s.resource.OperatorStatus;
 import org.eclipse.theia.cloud.common.k8s.resource.ResourceStatus;
@@ -45,13 +48,17 @@ import org.eclipse.theia.cloud.common.util.TheiaCloudError;
 import org.eclipse.theia.cloud.common.util.WorkspaceUtil;
 import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
 import org.eclipse.theia.cloud.operator.bandwidth.BandwidthLimiter;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
 import org.eclipse.theia.cloud.operator.handler.AddedHandlerUtil;
 import org.eclipse.theia.cloud.operator.ingress.IngressPathProvider;
+import org.eclipse.theia.cloud.operator.queue.RetryQueue;
+import org.eclipse.theia.cloud.operator.readiness.SessionReadinessWatcher;
 import org.eclipse.theia.cloud.operator.replacements.DeploymentTemplateReplacements;
+import org.eclipse.theia.cloud.operator.routing.SessionRouter;
 import org.eclipse.theia.cloud.operator.util.JavaResourceUtil;
 import org.eclipse.theia.cloud.operator.util.K8sUtil;
+import org.eclipse.theia.cloud.operator.util.ResourcePrototypes;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudConfigMapUtil;
-import org.eclipse.theia.cloud.operator.util.TheiaCloudIngressUtil;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudK8sUtil;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudPersistentVolumeUtil;
 import org.eclipse.theia.cloud.operator.util.TheiaCloudServiceUtil;
@@ -60,20 +67,15 @@ import com.google.inject.Inject;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimVolumeSource;
 import io.fabric8.kubernetes.api.model.PodSpec;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
-import io.fabric8.kubernetes.api.model.networking.v1.HTTPIngressPath;
-import io.fabric8.kubernetes.api.model.networking.v1.HTTPIngressRuleValue;
-import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
-import io.fabric8.kubernetes.api.model.networking.v1.IngressBackend;
-import io.fabric8.kubernetes.api.model.networking.v1.IngressRule;
-import io.fabric8.kubernetes.api.model.networking.v1.IngressServiceBackend;
-import io.fabric8.kubernetes.api.model.networking.v1.ServiceBackendPort;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.opentelemetry.api.trace.Span;
 
 public class LazySessionHandler implements SessionHandler {
 
@@ -82,6 +84,11 @@ public class LazySessionHandler implements SessionHandler {
 
     @Inject
     protected IngressPathProvider ingressPathProvider;
+
+    @Inject
+    protected SessionRouter sessionRouter;
+    @Inject
+    protected SessionReadinessWatcher readinessWatcher;
     @Inject
     protected TheiaCloudOperatorArguments arguments;
     @Inject
@@ -91,14 +98,19 @@ public class LazySessionHandler implements SessionHandler {
 
     @Inject
     protected TheiaCloudClient client;
+    @Inject
+    protected TheiaCloudCache cache;
 
     @Override
     public boolean sessionAdded(Session session, String correlationId) {
         try {
             return doSessionAdded(session, correlationId);
         } catch (Throwable ex) {
+            // transient errors are retried by the operator and only fail the session once all attempts are used up
+            RetryQueue.rethrowIfRetryable(ex);
             LOGGER.error(formatLogMessage(correlationId,
-                    "An unexpected exception occurred while adding Session: " + session), ex);
+                    "An unexpected exception occurred while adding session " + session.getSpec().getName()), ex);
+            LOGGER.trace(lazyLogMessage(correlationId, () -> "Failed session: " + session));
             client.sessions().updateStatus(correlationId, session, status -> {
                 status.setOperatorStatus(OperatorStatus.ERROR);
                 status.setOperatorMessage(
@@ -117,40 +129,42 @@ public class LazySessionHandler implements SessionHandler {
         Optional<SessionStatus> status = Optional.ofNullable(session.getStatus());
         String operatorStatus = status.map(ResourceStatus::getOperatorStatus).orElse(OperatorStatus.NEW);
         if (OperatorStatus.HANDLED.equals(operatorStatus)) {
-            LOGGER.trace(formatLogMessage(correlationId,
-                    "Session was successfully handled before and is skipped now. Session: " + session));
+            LOGGER.trace(lazyLogMessage(correlationId,
+                    () -> "Session was successfully handled before and is skipped now. Session: " + session));
             return true;
         }
-        if (OperatorStatus.HANDLING.equals(operatorStatus)) {
-            // TODO We should not return but continue where we left off.
-            LOGGER.warn(formatLogMessage(correlationId,
-                    "Session handling was unexpectedly interrupted before. Session is skipped now and its status is set to ERROR. Session: "
-                            + session));
-            client.sessions().updateStatus(correlationId, session, s -> {
-                s.setOperatorStatus(OperatorStatus.ERROR);
-                s.setOperatorMessage("Handling was unexpectedly interrupted before. CorrelationId: " + correlationId);
-            });
-            return false;
-        }
         if (OperatorStatus.ERROR.equals(operatorStatus)) {
-            LOGGER.warn(formatLogMessage(correlationId,
-                    "Session could not be handled before and is skipped now. Session: " + session));
+            LOGGER.warn(formatLogMessage(correlationId, "Session " + session.getSpec().getName()
+                    + " could not be handled before and is skipped now."));
+            LOGGER.trace(lazyLogMessage(correlationId, () -> "Skipped session: " + session));
             return false;
         }
-
-        // Set session status to being handled
-        client.sessions().updateStatus(correlationId, session, s -> {
-            s.setOperatorStatus(OperatorStatus.HANDLING);
-        });
+        // status changes of this pass are written at the checkpoints below and whenever an error is reported
+        StatusWriteBuffer<SessionStatus, Session> statusBuffer = client.sessions().statusBuffer(correlationId, session);
+        Optional<SessionStep> lastCompletedStep = Optional.empty();
+        if (OperatorStatus.HANDLING.equals(operatorStatus)) {
+            // Handling was interrupted, e.g. by an operator restart. All steps are idempotent, so we continue from the
+            // last checkpoint and re-use everything that was already created.
+            lastCompletedStep = SessionStep.lastCompleted(session);
+            LOGGER.info(formatLogMessage(correlationId, "Handling of session " + session.getSpec().getName()
+                    + " was interrupted before. Resuming after step "
+                    + lastCompletedStep.map(Enum::name).orElse("<none>")));
+            LOGGER.trace(lazyLogMessage(correlationId, () -> "Resumed session: " + session));
+        } else {
+            // Set session status to being handled
+            statusBuffer.update(s -> {
+                s.setOperatorStatus(OperatorStatus.HANDLING);
+            });
+        }
 
         SessionSpec sessionSpec = session.getSpec();
 
         /* find app definition for session */
         String appDefinitionID = sessionSpec.getAppDefinition();
-        Optional<AppDefinition> optionalAppDefinition = client.appDefinitions().get(appDefinitionID);
+        Optional<AppDefinition> optionalAppDefinition = cache.getAppDefinition(appDefinitionID);
         if (optionalAppDefinition.isEmpty()) {
             LOGGER.error(formatLogMessage(correlationId, "No App Definition with name " + appDefinitionID + " found."));
-            client.sessions().updateStatus(correlationId, session, s -> {
+            statusBuffer.updateNow(s -> {
                 s.setOperatorStatus(OperatorStatus.ERROR);
                 s.setOperatorMessage("App Definition not found.");
             });
@@ -162,54 +176,50 @@ public class LazySessionHandler implements SessionHandler {
         /* label maps */
         Map<String, String> labelsToAdd = LabelsUtil.createSessionLabels(session, appDefinition);
 
-        if (hasMaxInstancesReached(appDefinition, session, correlationId)) {
-            client.sessions().updateStatus(correlationId, session, s -> {
-                s.setOperatorStatus(OperatorStatus.ERROR);
-                s.setOperatorMessage("Max instances reached.");
-            });
-            return false;
-        }
+        if (lastCompletedStep.isEmpty()) {
+            // limits are only checked before the first resource is created for the session
+            if (hasMaxInstancesReached(appDefinition, session, statusBuffer, correlationId)) {
+                statusBuffer.updateNow(s -> {
+                    s.setOperatorStatus(OperatorStatus.ERROR);
+                    s.setOperatorMessage("Max instances reached.");
+                });
+                return false;
+            }
 
-        if (hasMaxSessionsReached(session, correlationId)) {
-            client.sessions().updateStatus(correlationId, session, s -> {
-                s.setOperatorStatus(OperatorStatus.ERROR);
-                s.setOperatorMessage("Max sessions reached.");
-            });
-            return false;
+            if (hasMaxSessionsReached(session, statusBuffer, correlationId)) {
+                statusBuffer.updateNow(s -> {
+                    s.setOperatorStatus(OperatorStatus.ERROR);
+                    s.setOperatorMessage("Max sessions reached.");
+                });
+                return false;
+            }
         }
 
-        Optional<Ingress> ingress = getIngress(appDefinition, correlationId);
-        if (ingress.isEmpty()) {
-            client.sessions().updateStatus(correlationId, session, s -> {
+        if (!sessionRouter.isAvailable(appDefinition, correlationId)) {
+            statusBuffer.updateNow(s -> {
                 s.setOperatorStatus(OperatorStatus.ERROR);
-                s.setOperatorMessage("Ingress not available.");
+                s.setOperatorMessage("Routing not available.");
             });
             return false;
         }
 
-        syncSessionDataToWorkspace(session, correlationId);
-
-        /* Create service for this session */
-        List<Service> existingServices = K8sUtil.getExistingServices(client.kubernetes(), client.namespace(),
-                sessionResourceName, sessionResourceUID);
-        if (!existingServices.isEmpty()) {
-            LOGGER.warn(formatLogMessage(correlationId,
-                    "Existing service for " + sessionSpec + ". Session already running?"));
-            client.sessions().updateStatus(correlationId, session, s -> {
-                s.setOperatorStatus(OperatorStatus.HANDLED);
-                s.setOperatorMessage("Service already exists.");
-                s.setLastActivity(Instant.now().toEpochMilli());
-            });
-            // TODO do not return true if the sessions was in handling state at the start of
-            // this handler
-            return true;
+        if (lastCompletedStep.isEmpty()) {
+            syncSessionDataToWorkspace(session, correlationId);
         }
 
-        Optional<Service> serviceToUse = createAndApplyService(correlationId, sessionResourceName, sessionResourceUID,
-                session, appDefinitionSpec, arguments.isUseKeycloak(), labelsToAdd);
+        /* Create services for this session */
+        List<Service> existingServices = cache.getServicesByOwner(sessionResourceUID);
+        Optional<Service> serviceToUse = findByName(existingServices, TheiaCloudServiceUtil.getServiceName(session));
+        if (serviceToUse.isEmpty()) {
+            serviceToUse = createAndApplyService(correlationId, sessionResourceName, sessionResourceUID, session,
+                    appDefinitionSpec, arguments.isUseKeycloak(), labelsToAdd);
+        } else {
+            LOGGER.info(formatLogMessage(correlationId, "Re-using existing service for " + sessionSpec.getName()));
+        }
         if (serviceToUse.isEmpty()) {
-            LOGGER.error(formatLogMessage(correlationId, "Unable to create service for session " + sessionSpec));
-            client.sessions().updateStatus(correlationId, session, s -> {
+            LOGGER.error(
+                    formatLogMessage(correlationId, "Unable to create service for session " + sessionSpec.getName()));
+            statusBuffer.updateNow(s -> {
                 s.setOperatorStatus(OperatorStatus.ERROR);
                 s.setOperatorMessage("Failed to create service.");
             });
@@ -217,106 +227,116 @@ public class LazySessionHandler implements SessionHandler {
         }
 
         /* Create internal service for this session */
-        Optional<Service> internalServiceToUse = createAndApplyInternalService(correlationId, sessionResourceName,
-                sessionResourceUID, session, appDefinitionSpec, labelsToAdd);
+        Optional<Service> internalServiceToUse = findByName(existingServices,
+                TheiaCloudServiceUtil.getInternalServiceName(session));
         if (internalServiceToUse.isEmpty()) {
-            LOGGER.error(
-                    formatLogMessage(correlationId, "Unable to create internal service for session " + sessionSpec));
-            client.sessions().updateStatus(correlationId, session, s -> {
+            internalServiceToUse = createAndApplyInternalService(correlationId, sessionResourceName,
+                    sessionResourceUID, session, appDefinitionSpec, labelsToAdd);
+        }
+        if (internalServiceToUse.isEmpty()) {
+            LOGGER.error(formatLogMessage(correlationId,
+                    "Unable to create internal service for session " + sessionSpec.getName()));
+            statusBuffer.updateNow(s -> {
                 s.setOperatorStatus(OperatorStatus.ERROR);
                 s.setOperatorMessage("Failed to create internal service.");
             });
             return false;
         }
+        completeStep(statusBuffer, SessionStep.SERVICES, lastCompletedStep, "Services available");
 
         if (arguments.isUseKeycloak()) {
             /* Create config maps for this session */
-            List<ConfigMap> existingConfigMaps = K8sUtil.getExistingConfigMaps(client.kubernetes(), client.namespace(),
-                    sessionResourceName, sessionResourceUID);
-            if (!existingConfigMaps.isEmpty()) {
-                LOGGER.warn(formatLogMessage(correlationId,
-                        "Existing configmaps for " + sessionSpec + ". Session already running?"));
-                client.sessions().updateStatus(correlationId, session, s -> {
-                    s.setOperatorStatus(OperatorStatus.HANDLED);
-                    s.setOperatorMessage("Configmaps already exist.");
-                    s.setLastActivity(Instant.now().toEpochMilli());
-                });
-                // TODO do not return true if the sessions was in handling state at the start of
-                // this handler
-                return true;
+            List<ConfigMap> existingConfigMaps = cache.getConfigMapsByOwner(sessionResourceUID);
+            if (findByName(existingConfigMaps, TheiaCloudConfigMapUtil.getEmailConfigName(session)).isEmpty()) {
+                createAndApplyEmailConfigMap(correlationId, sessionResourceName, sessionResourceUID, session,
+                        labelsToAdd);
+            }
+            if (findByName(existingConfigMaps, TheiaCloudConfigMapUtil.getProxyConfigName(session)).isEmpty()) {
+                createAndApplyProxyConfigMap(correlationId, sessionResourceName, sessionResourceUID, session,
+                        appDefinition, labelsToAdd);
             }
-            createAndApplyEmailConfigMap(correlationId, sessionResourceName, sessionResourceUID, session, labelsToAdd);
-            createAndApplyProxyConfigMap(correlationId, sessionResourceName, sessionResourceUID, session, appDefinition,
-                    labelsToAdd);
         }
+        completeStep(statusBuffer, SessionStep.CONFIGMAPS, lastCompletedStep, "Config maps available");
 
         /* Create deployment for this session */
-        List<Deployment> existingDeployments = K8sUtil.getExistingDeployments(client.kubernetes(), client.namespace(),
-                sessionResourceName, sessionResourceUID);
-        if (!existingDeployments.isEmpty()) {
-            LOGGER.warn(formatLogMessage(correlationId,
-                    "Existing deployments for " + sessionSpec + ". Session already running?"));
-            client.sessions().updateStatus(correlationId, session, s -> {
-                s.setOperatorStatus(OperatorStatus.HANDLED);
-                s.setOperatorMessage("Deployment already exists.");
-                s.setLastActivity(Instant.now().toEpochMilli());
-            });
-            return true;
-        }
-
-        Optional<String> storageName = getStorageName(session, correlationId);
-        createAndApplyDeployment(correlationId, sessionResourceName, sessionResourceUID, session, appDefinition,
-                storageName, arguments.isUseKeycloak(), labelsToAdd);
-
-        /* adjust the ingress */
+        List<Deployment> existingDeployments = cache.getDeploymentsByOwner(sessionResourceUID);
+        if (existingDeployments.isEmpty()) {
+            Optional<String> storageName = getStorageName(session, correlationId);
+            createAndApplyDeployment(correlationId, sessionResourceName, sessionResourceUID, session, appDefinition,
+                    storageName, arguments.isUseKeycloak(), labelsToAdd);
+        } else {
+            LOGGER.info(
+                    formatLogMessage(correlationId, "Re-using existing deployment for " + sessionSpec.getName()));
+        }
+        completeStep(statusBuffer, SessionStep.DEPLOYMENT, lastCompletedStep, "Deployment available");
+        // checkpoint: the deployment is the most expensive step to redo
+        statusBuffer.flush();
+
+        /* route requests to the session */
         String host;
         try {
-            host = updateIngress(ingress, serviceToUse, session, appDefinition, correlationId);
+            host = sessionRouter.addRoute(session, appDefinition, serviceToUse.get(), correlationId);
         } catch (KubernetesClientException e) {
-            LOGGER.error(formatLogMessage(correlationId,
-                    "Error while editing ingress " + ingress.get().getMetadata().getName()), e);
-            client.sessions().updateStatus(correlationId, session, s -> {
-                s.setOperatorStatus(OperatorStatus.ERROR);
-                s.setOperatorMessage("Failed to edit ingress");
-            });
-            return false;
-        }
-
-        /* Update session resource */
-        try {
-            AddedHandlerUtil.updateSessionURLAsync(client.sessions(), session, client.namespace(), host, correlationId);
-        } catch (KubernetesClientException e) {
-            LOGGER.error(
-                    formatLogMessage(correlationId, "Error while editing session " + session.getMetadata().getName()),
-                    e);
-            client.sessions().updateStatus(correlationId, session, s -> {
+            RetryQueue.rethrowIfRetryable(e);
+            LOGGER.error(formatLogMessage(correlationId, "Error while routing session " + sessionSpec.getName()), e);
+            statusBuffer.updateNow(s -> {
                 s.setOperatorStatus(OperatorStatus.ERROR);
-                s.setOperatorMessage("Failed to set session URL.");
+                s.setOperatorMessage("Failed to route session.");
             });
             return false;
         }
+        completeStep(statusBuffer, SessionStep.INGRESS, lastCompletedStep, "Route available");
 
-        client.sessions().updateStatus(correlationId, session, s -> {
-            s.setOperatorStatus(OperatorStatus.HANDLED);
+        // The session stays HANDLING until the readiness watcher sets the URL. If the operator restarts or the
+        // leadership changes before, the session is handled again and resumes waiting for the URL here.
+        Session waitingSession = statusBuffer.updateNow(s -> {
+            s.setStep(SessionStep.URL.toStatusStep("Waiting for session URL"));
             s.setLastActivity(Instant.now().toEpochMilli());
         });
+
+        /* Update session resource once it is available */
+        readinessWatcher.watch(waitingSession, serviceToUse.get().getMetadata().getName(), host, correlationId);
         return true;
     }
 
+    /**
+     * Records the given step as completed with the next status write, unless it was already completed before. The
+     * step is also added as event to the current span, so traces show when each step was done.
+     */
+    protected void completeStep(StatusWriteBuffer<SessionStatus, Session> statusBuffer, SessionStep step,
+            Optional<SessionStep> lastCompletedStep, String message) {
+        if (step.isCompletedBy(lastCompletedStep)) {
+            return;
+        }
+        Span.current().addEvent(message);
+        statusBuffer.update(s -> s.setStep(step.toStatusStep(message)));
+    }
+
+    protected static <T extends HasMetadata> Optional<T> findByName(List<T> resources, String name) {
+        return resources.stream().filter(resource -> name.equals(resource.getMetadata().getName())).findAny();
+    }
+
     protected void syncSessionDataToWorkspace(Session session, String correlationId) {
         if (!session.getSpec().isEphemeral() && session.getSpec().hasAppDefinition()) {
             // update last used workspace
-            client.workspaces().edit(correlationId, session.getSpec().getWorkspace(), workspace -> {
-                workspace.getSpec().setAppDefinition(session.getSpec().getAppDefinition());
-            });
+            cache.getWorkspace(session.getSpec().getWorkspace())
+                    .ifPresent(workspace -> client.workspaces().patch(correlationId, workspace, toEdit -> {
+                        toEdit.getSpec().setAppDefinition(session.getSpec().getAppDefinition());
+                    }));
         }
     }
 
-    protected boolean hasMaxInstancesReached(AppDefinition appDefinition, Session session, String correlationId) {
-        if (TheiaCloudK8sUtil.checkIfMaxInstancesReached(client.kubernetes(), client.namespace(), session.getSpec(),
+    /**
+     * Checks the instance limit of the app definition. If it is reached, the error is queued on the given buffer and
+     * written together with the final status of the session.
+     */
+    protected boolean hasMaxInstancesReached(AppDefinition appDefinition, Session session,
+            StatusWriteBuffer<SessionStatus, Session> statusBuffer, String correlationId) {
+        if (TheiaCloudK8sUtil.checkIfMaxInstancesReached(
+                cache.getSessionsByAppDefinition(appDefinition.getSpec().getName()), session.getSpec(),
                 appDefinition.getSpec(), correlationId)) {
             LOGGER.info(formatMetric(correlationId, "Max instances reached for " + appDefinition.getSpec().getName()));
-            client.sessions().updateStatus(correlationId, session, status -> {
+            statusBuffer.update(status -> {
                 status.setError(TheiaCloudError.SESSION_SERVER_LIMIT_REACHED);
             });
             return true;
@@ -324,23 +344,28 @@ public class LazySessionHandler implements SessionHandler {
         return false;
     }
 
-    protected boolean hasMaxSessionsReached(Session session, String correlationId) {
+    /**
+     * Checks the session limit of the user. If it is reached, the error is queued on the given buffer and written
+     * together with the final status of the session.
+     */
+    protected boolean hasMaxSessionsReached(Session session, StatusWriteBuffer<SessionStatus, Session> statusBuffer,
+            String correlationId) {
         /* check if max sessions reached already */
         if (arguments.getSessionsPerUser() != null && arguments.getSessionsPerUser() >= 0) {
             if (arguments.getSessionsPerUser() == 0) {
                 LOGGER.info(formatLogMessage(correlationId,
-                        "No sessions allowed for this user. Could not create session " + session.getSpec()));
-                client.sessions().updateStatus(correlationId, session, status -> {
+                        "No sessions allowed for this user. Could not create session " + session.getSpec().getName()));
+                statusBuffer.update(status -> {
                     status.setError(TheiaCloudError.SESSION_USER_NO_SESSIONS);
                 });
                 return true;
             }
 
-            long userSessions = client.sessions().list(session.getSpec().getUser()).size();
+            long userSessions = cache.getSessionsByUser(session.getSpec().getUser()).size();
             if (userSessions > arguments.getSessionsPerUser()) {
                 LOGGER.info(formatLogMessage(correlationId,
                         "No more sessions allowed for this user, limit is  " + arguments.getSessionsPerUser()));
-                client.sessions().updateStatus(correlationId, session, status -> {
+                statusBuffer.update(status -> {
                     status.setError(TheiaCloudError.SESSION_USER_LIMIT_REACHED);
                 });
                 return true;
@@ -349,23 +374,11 @@ public class LazySessionHandler implements SessionHandler {
         return false;
     }
 
-    protected Optional<Ingress> getIngress(AppDefinition appDefinition, String correlationId) {
-        String appDefinitionResourceName = appDefinition.getMetadata().getName();
-        String appDefinitionResourceUID = appDefinition.getMetadata().getUid();
-        Optional<Ingress> ingress = K8sUtil.getExistingIngress(client.kubernetes(), client.namespace(),
-                appDefinitionResourceName, appDefinitionResourceUID);
-        if (ingress.isEmpty()) {
-            LOGGER.error(formatLogMessage(correlationId,
-                    "No Ingress for app definition " + appDefinition.getSpec().getName() + " found."));
-        }
-        return ingress;
-    }
-
     protected Optional<String> getStorageName(Session session, String correlationId) {
         if (session.getSpec().isEphemeral()) {
             return Optional.empty();
         }
-        Optional<Workspace> workspace = client.workspaces().get(session.getSpec().getWorkspace());
+        Optional<Workspace> workspace = cache.getWorkspace(session.getSpec().getWorkspace());
         if (!workspace.isPresent()) {
             LOGGER.info(formatLogMessage(correlationId, "No workspace with name " + session.getSpec().getWorkspace()
                     + " found for session " + session.getSpec().getName(), correlationId));
@@ -396,12 +409,20 @@ public class LazySessionHandler implements SessionHandler {
                 appDefinitionSpec);
         String templateYaml = useOAuth2Proxy ? AddedHandlerUtil.TEMPLATE_SERVICE_YAML
                 : AddedHandlerUtil.TEMPLATE_SERVICE_WITHOUT_AOUTH2_PROXY_YAML;
+        Optional<Service> prototype = fromPrototype(templateYaml, replacements,
+                TheiaCloudServiceUtil.SESSION_PLACEHOLDERS, Service.class, correlationId);
+        if (prototype.isPresent()) {
+            return K8sUtil.createServiceWithOwnerReference(client.kubernetes(), client.namespace(), correlationId,
+                    prototype.get(), Session.API, Session.KIND, sessionResourceName, sessionResourceUID, 0,
+                    labelsToAdd);
+        }
         String serviceYaml;
         try {
             serviceYaml = JavaResourceUtil.readResourceAndReplacePlaceholders(templateYaml, replacements,
                     correlationId);
         } catch (IOException | URISyntaxException e) {
-            LOGGER.error(formatLogMessage(correlationId, "Error while adjusting template for session " + session), e);
+            LOGGER.error(formatLogMessage(correlationId,
+                    "Error while adjusting template for session " + session.getSpec().getName()), e);
             return Optional.empty();
         }
         return K8sUtil.loadAndCreateServiceWithOwnerReference(client.kubernetes(), client.namespace(), correlationId,
@@ -413,13 +434,20 @@ public class LazySessionHandler implements SessionHandler {
             Map<String, String> labelsToAdd) {
         Map<String, String> replacements = TheiaCloudServiceUtil.getInternalServiceReplacements(client.namespace(),
                 session, appDefinitionSpec);
+        Optional<Service> prototype = fromPrototype(AddedHandlerUtil.TEMPLATE_INTERNAL_SERVICE_YAML, replacements,
+                TheiaCloudServiceUtil.SESSION_PLACEHOLDERS, Service.class, correlationId);
+        if (prototype.isPresent()) {
+            return K8sUtil.createServiceWithOwnerReference(client.kubernetes(), client.namespace(), correlationId,
+                    prototype.get(), Session.API, Session.KIND, sessionResourceName, sessionResourceUID, 0,
+                    labelsToAdd);
+        }
         String serviceYaml;
         try {
             serviceYaml = JavaResourceUtil.readResourceAndReplacePlaceholders(
                     AddedHandlerUtil.TEMPLATE_INTERNAL_SERVICE_YAML, replacements, correlationId);
         } catch (IOException | URISyntaxException e) {
             LOGGER.error(formatLogMessage(correlationId,
-                    "Error while adjusting internal service template for session " + session), e);
+                    "Error while adjusting internal service template for session " + session.getSpec().getName()), e);
             return Optional.empty();
         }
         return K8sUtil.loadAndCreateServiceWithOwnerReference(client.kubernetes(), client.namespace(), correlationId,
@@ -430,42 +458,61 @@ public class LazySessionHandler implements SessionHandler {
             String sessionResourceUID, Session session, Map<String, String> labelsToAdd) {
         Map<String, String> replacements = TheiaCloudConfigMapUtil.getEmailConfigMapReplacements(client.namespace(),
                 session);
+        Consumer<ConfigMap> setEmails = configmap -> {
+            configmap.setData(Collections.singletonMap(AddedHandlerUtil.FILENAME_AUTHENTICATED_EMAILS_LIST,
+                    session.getSpec().getUser()));
+        };
+        Optional<ConfigMap> prototype = fromPrototype(AddedHandlerUtil.TEMPLATE_CONFIGMAP_EMAILS_YAML, replacements,
+                TheiaCloudConfigMapUtil.SESSION_PLACEHOLDERS, ConfigMap.class, correlationId);
+        if (prototype.isPresent()) {
+            K8sUtil.createConfigMapWithOwnerReference(client.kubernetes(), client.namespace(), correlationId,
+                    prototype.get(), Session.API, Session.KIND, sessionResourceName, sessionResourceUID, 0,
+                    labelsToAdd, setEmails);
+            return;
+        }
         String configMapYaml;
         try {
             configMapYaml = JavaResourceUtil.readResourceAndReplacePlaceholders(
                     AddedHandlerUtil.TEMPLATE_CONFIGMAP_EMAILS_YAML, replacements, correlationId);
         } catch (IOException | URISyntaxException e) {
-            LOGGER.error(formatLogMessage(correlationId, "Error while adjusting template for session " + session), e);
+            LOGGER.error(formatLogMessage(correlationId,
+                    "Error while adjusting template for session " + session.getSpec().getName()), e);
             return;
         }
         K8sUtil.loadAndCreateConfigMapWithOwnerReference(client.kubernetes(), client.namespace(), correlationId,
                 configMapYaml, Session.API, Session.KIND, sessionResourceName, sessionResourceUID, 0, labelsToAdd,
-                configmap -> {
-                    configmap.setData(Collections.singletonMap(AddedHandlerUtil.FILENAME_AUTHENTICATED_EMAILS_LIST,
-                            session.getSpec().getUser()));
-                });
+                setEmails);
     }
 
     protected void createAndApplyProxyConfigMap(String correlationId, String sessionResourceName,
             String sessionResourceUID, Session session, AppDefinition appDefinition, Map<String, String> labelsToAdd) {
         Map<String, String> replacements = TheiaCloudConfigMapUtil.getProxyConfigMapReplacements(client.namespace(),
                 session);
+        Consumer<ConfigMap> updateProxyConfig = configMap -> {
+            String host = arguments.getInstancesHost() + ingressPathProvider.getPath(appDefinition, session);
+            int port = appDefinition.getSpec().getPort();
+            AddedHandlerUtil.updateProxyConfigMap(client.kubernetes(), client.namespace(), configMap, host, port);
+        };
+        Optional<ConfigMap> prototype = fromPrototype(AddedHandlerUtil.TEMPLATE_CONFIGMAP_YAML, replacements,
+                TheiaCloudConfigMapUtil.SESSION_PLACEHOLDERS, ConfigMap.class, correlationId);
+        if (prototype.isPresent()) {
+            K8sUtil.createConfigMapWithOwnerReference(client.kubernetes(), client.namespace(), correlationId,
+                    prototype.get(), Session.API, Session.KIND, sessionResourceName, sessionResourceUID, 0,
+                    labelsToAdd, updateProxyConfig);
+            return;
+        }
         String configMapYaml;
         try {
             configMapYaml = JavaResourceUtil.readResourceAndReplacePlaceholders(
                     AddedHandlerUtil.TEMPLATE_CONFIGMAP_YAML, replacements, correlationId);
         } catch (IOException | URISyntaxException e) {
-            LOGGER.error(formatLogMessage(correlationId, "Error while adjusting template for session " + session), e);
+            LOGGER.error(formatLogMessage(correlationId,
+                    "Error while adjusting template for session " + session.getSpec().getName()), e);
             return;
         }
         K8sUtil.loadAndCreateConfigMapWithOwnerReference(client.kubernetes(), client.namespace(), correlationId,
                 configMapYaml, Session.API, Session.KIND, sessionResourceName, sessionResourceUID, 0, labelsToAdd,
-                configMap -> {
-                    String host = arguments.getInstancesHost() + ingressPathProvider.getPath(appDefinition, session);
-                    int port = appDefinition.getSpec().getPort();
-                    AddedHandlerUtil.updateProxyConfigMap(client.kubernetes(), client.namespace(), configMap, host,
-                            port);
-                });
+                updateProxyConfig);
     }
 
     protected void createAndApplyDeployment(String correlationId, String sessionResourceName, String sessionResourceUID,
@@ -475,39 +522,61 @@ public class LazySessionHandler implements SessionHandler {
                 session);
         String templateYaml = useOAuth2Proxy ? AddedHandlerUtil.TEMPLATE_DEPLOYMENT_YAML
                 : AddedHandlerUtil.TEMPLATE_DEPLOYMENT_WITHOUT_AOUTH2_PROXY_YAML;
+        Consumer<Deployment> adjustDeployment = deployment -> {
+            LOGGER.debug("Setting session labels");
+            Map<String, String> labels = deployment.getSpec().getTemplate().getMetadata().getLabels();
+            if (labels == null) {
+                labels = new HashMap<>();
+                deployment.getSpec().getTemplate().getMetadata().setLabels(labels);
+            }
+            labels.putAll(labelsToAdd);
+
+            pvName.ifPresent(name -> addVolumeClaim(deployment, name, appDefinition.getSpec()));
+            bandwidthLimiter.limit(deployment, appDefinition.getSpec().getDownlinkLimit(),
+                    appDefinition.getSpec().getUplinkLimit(), correlationId);
+            AddedHandlerUtil.removeEmptyResources(deployment);
+
+            AddedHandlerUtil.addCustomEnvVarsToDeploymentFromSession(correlationId, deployment, session,
+                    appDefinition);
+
+            if (appDefinition.getSpec().getPullSecret() != null
+                    && !appDefinition.getSpec().getPullSecret().isEmpty()) {
+                AddedHandlerUtil.addImagePullSecret(deployment, appDefinition.getSpec().getPullSecret());
+            }
+        };
+        Optional<Deployment> prototype = fromPrototype(templateYaml, replacements,
+                deploymentReplacements.getSessionPlaceholders(), Deployment.class, correlationId);
+        if (prototype.isPresent()) {
+            K8sUtil.createDeploymentWithOwnerReference(client.kubernetes(), client.namespace(), correlationId,
+                    prototype.get(), Session.API, Session.KIND, sessionResourceName, sessionResourceUID, 0,
+                    labelsToAdd, adjustDeployment);
+            return;
+        }
         String deploymentYaml;
         try {
             deploymentYaml = JavaResourceUtil.readResourceAndReplacePlaceholders(templateYaml, replacements,
                     correlationId);
         } catch (IOException | URISyntaxException e) {
-            LOGGER.error(formatLogMessage(correlationId, "Error while adjusting template for session " + session), e);
+            LOGGER.error(formatLogMessage(correlationId,
+                    "Error while adjusting template for session " + session.getSpec().getName()), e);
             return;
         }
         K8sUtil.loadAndCreateDeploymentWithOwnerReference(client.kubernetes(), client.namespace(), correlationId,
                 deploymentYaml, Session.API, Session.KIND, sessionResourceName, sessionResourceUID, 0, labelsToAdd,
-                deployment -> {
-
-                    LOGGER.debug("Setting session labels");
-                    Map<String, String> labels = deployment.getSpec().getTemplate().getMetadata().getLabels();
-                    if (labels == null) {
-                        labels = new HashMap<>();
-                        deployment.getSpec().getTemplate().getMetadata().setLabels(labels);
-                    }
-                    labels.putAll(labelsToAdd);
-
-                    pvName.ifPresent(name -> addVolumeClaim(deployment, name, appDefinition.getSpec()));
-                    bandwidthLimiter.limit(deployment, appDefinition.getSpec().getDownlinkLimit(),
-                            appDefinition.getSpec().getUplinkLimit(), correlationId);
-                    AddedHandlerUtil.removeEmptyResources(deployment);
-
-                    AddedHandlerUtil.addCustomEnvVarsToDeploymentFromSession(correlationId, deployment, session,
-                            appDefinition);
-
-                    if (appDefinition.getSpec().getPullSecret() != null
-                            && !appDefinition.getSpec().getPullSecret().isEmpty()) {
-                        AddedHandlerUtil.addImagePullSecret(deployment, appDefinition.getSpec().getPullSecret());
-                    }
-                });
+                adjustDeployment);
+    }
+
+    /**
+     * Creates the resource from a pre-parsed prototype of the template, if enabled.
+     *
+     * @return the new resource, or an empty optional if the resource has to be created from the YAML template
+     */
+    protected <T extends HasMetadata> Optional<T> fromPrototype(String template, Map<String, String> replacements,
+            Set<String> sessionPlaceholders, Class<T> type, String correlationId) {
+        if (!arguments.isResourcePrototypes() || sessionPlaceholders.isEmpty()) {
+            return Optional.empty();
+        }
+        return ResourcePrototypes.instantiate(template, replacements, sessionPlaceholders, type, correlationId);
     }
 
     protected void addVolumeClaim(Deployment deployment, String pvcName, AppDefinitionSpec appDefinition) {
@@ -528,54 +597,12 @@ public class LazySessionHandler implements SessionHandler {
         volumeMount.setMountPath(TheiaCloudPersistentVolumeUtil.getMountPath(appDefinition));
     }
 
-    protected synchronized String updateIngress(Optional<Ingress> ingress, Optional<Service> serviceToUse,
-            Session session, AppDefinition appDefinition, String correlationId) {
-        List<String> hostsToAdd = new ArrayList<>();
-        final String instancesHost = arguments.getInstancesHost();
-        hostsToAdd.add(instancesHost);
-        List<String> ingressHostnamePrefixes = appDefinition.getSpec().getIngressHostnamePrefixes() != null
-                ? appDefinition.getSpec().getIngressHostnamePrefixes()
-                : Collections.emptyList();
-        for (String prefix : ingressHostnamePrefixes) {
-            hostsToAdd.add(prefix + instancesHost);
-        }
-        String path = ingressPathProvider.getPath(appDefinition, session);
-        client.ingresses().edit(correlationId, ingress.get().getMetadata().getName(), ingressToUpdate -> {
-            for (String host : hostsToAdd) {
-                IngressRule ingressRule = new IngressRule();
-                ingressToUpdate.getSpec().getRules().add(ingressRule);
-
-                ingressRule.setHost(host);
-
-                HTTPIngressRuleValue http = new HTTPIngressRuleValue();
-                ingressRule.setHttp(http);
-
-                HTTPIngressPath httpIngressPath = new HTTPIngressPath();
-                http.getPaths().add(httpIngressPath);
-                httpIngressPath.setPath(path + arguments.getIngressPathSuffix());
-                httpIngressPath.setPathType(AddedHandlerUtil.INGRESS_PATH_TYPE);
-
-                IngressBackend ingressBackend = new IngressBackend();
-                httpIngressPath.setBackend(ingressBackend);
-
-                IngressServiceBackend ingressServiceBackend = new IngressServiceBackend();
-                ingressBackend.setService(ingressServiceBackend);
-                ingressServiceBackend.setName(serviceToUse.get().getMetadata().getName());
-
-                ServiceBackendPort serviceBackendPort = new ServiceBackendPort();
-                ingressServiceBackend.setPort(serviceBackendPort);
-                serviceBackendPort.setNumber(appDefinition.getSpec().getPort());
-            }
-
-        });
-        return instancesHost + path + "/";
-    }
-
     @Override
-    public synchronized boolean sessionDeleted(Session session, String correlationId) {
+    public boolean sessionDeleted(Session session, String correlationId) {
         try {
             return doSessionDeleted(session, correlationId);
         } catch (KubernetesClientException e) {
+            RetryQueue.rethrowIfRetryable(e);
             LOGGER.error(formatLogMessage(correlationId,
                     "Kubernetes API error while deleting session: " + session.getSpec().getName()), e);
             return false;
@@ -593,7 +620,7 @@ public class LazySessionHandler implements SessionHandler {
         /* find appDefinition for session */
         String appDefinitionID = sessionSpec.getAppDefinition();
 
-        Optional<AppDefinition> optionalAppDefinition = client.appDefinitions().get(appDefinitionID);
+        Optional<AppDefinition> optionalAppDefinition = cache.getAppDefinition(appDefinitionID);
         if (optionalAppDefinition.isEmpty()) {
             LOGGER.error(formatLogMessage(correlationId, "No App Definition with name " + appDefinitionID
                     + " found. Cannot clean up for session " + sessionSpec.getName()));
@@ -602,42 +629,14 @@ public class LazySessionHandler implements SessionHandler {
 
         AppDefinition appDefinition = optionalAppDefinition.get();
 
-        /* find ingress */
-        String appDefinitionResourceName = appDefinition.getMetadata().getName();
-        String appDefinitionResourceUID = appDefinition.getMetadata().getUid();
-        Optional<Ingress> ingress = K8sUtil.getExistingIngress(client.kubernetes(), client.namespace(),
-                appDefinitionResourceName, appDefinitionResourceUID);
-        if (ingress.isEmpty()) {
-            LOGGER.error(
-                    formatLogMessage(correlationId, "No Ingress for app definition " + appDefinitionID + " found."));
-            return false;
-        }
-
-        String path = ingressPathProvider.getPath(appDefinition, session);
-
-        // Build list of all hosts that were used during session creation
-        List<String> hostsToClean = new ArrayList<>();
-        final String instancesHost = arguments.getInstancesHost();
-        hostsToClean.add(instancesHost);
-        List<String> ingressHostnamePrefixes = appDefinition.getSpec().getIngressHostnamePrefixes();
-        if (ingressHostnamePrefixes != null) {
-            for (String prefix : ingressHostnamePrefixes) {
-                hostsToClean.add(prefix + instancesHost);
-            }
-        }
-
-        // Remove ingress rules for all hosts
-        boolean cleanupSuccess = TheiaCloudIngressUtil.removeIngressRules(client.kubernetes(),
-                client.namespace(), ingress.get(), path, arguments.getIngressPathSuffix(), hostsToClean, correlationId);
-
-        if (!cleanupSuccess) {
+        if (!sessionRouter.removeRoute(session, appDefinition, correlationId)) {
             LOGGER.error(formatLogMessage(correlationId,
-                    "Failed to remove ingress rules for session " + sessionSpec.getName()));
+                    "Failed to remove the route of session " + sessionSpec.getName()));
             return false;
         }
 
         LOGGER.info(formatLogMessage(correlationId,
-                "Successfully cleaned up ingress rules for session " + sessionSpec.getName()));
+                "Successfully removed the route of session " + sessionSpec.getName()));
         return true;
     }
 }
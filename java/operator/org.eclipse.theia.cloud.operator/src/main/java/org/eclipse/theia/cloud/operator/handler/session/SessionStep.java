@@ -0,0 +1,54 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.handler.session;
+
+import java.util.Optional;
+
+import org.eclipse.theia.cloud.common.k8s.resource.StatusStep;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+
+/**
+ * The steps of handling an added session in the order they are executed. The last completed step is stored in the
+ * session status so that handling can be resumed after an operator restart.
+ */
+public enum SessionStep {
+
+    SERVICES, CONFIGMAPS, DEPLOYMENT, INGRESS, URL;
+
+    public StatusStep toStatusStep(String message) {
+        return new StatusStep(name(), message);
+    }
+
+    public boolean isCompletedBy(Optional<SessionStep> lastCompleted) {
+        return lastCompleted.isPresent() && lastCompleted.get().ordinal() >= ordinal();
+    }
+
+    /**
+     * @return the last step that was completed for the given session, if any
+     */
+    public static Optional<SessionStep> lastCompleted(Session session) {
+        if (session.getStatus() == null || session.getStatus().getStep() == null) {
+            return Optional.empty();
+        }
+        String status = session.getStatus().getStep().getStatus();
+        for (SessionStep step : values()) {
+            if (step.name().equals(status)) {
+                return Optional.of(step);
+            }
+        }
+        return Optional.empty();
+    }
+}
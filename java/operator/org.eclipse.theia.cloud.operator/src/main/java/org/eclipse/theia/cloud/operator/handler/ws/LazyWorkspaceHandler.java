@@ -16,11 +16,13 @@
 package org.eclipse.theia.cloud.operator.handler.ws;
 
 import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.lazyLogMessage;
 
 import java.util.Optional;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.client.StatusWriteBuffer;
 import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
 import org.eclipse.theia.cloud.common.k8s.resource.OperatorStatus;
 import org.eclipse.theia.cloud.common.k8s.resource.ResourceStatus;
@@ -29,6 +31,7 @@ import org.eclipse.theia.cloud.common.k8s.resource.workspace.Workspace;
 import org.eclipse.theia.cloud.common.k8s.resource.workspace.WorkspaceStatus;
 import org.eclipse.theia.cloud.common.util.WorkspaceUtil;
 import org.eclipse.theia.cloud.operator.pv.PersistentVolumeCreator;
+import org.eclipse.theia.cloud.operator.queue.RetryQueue;
 
 import com.google.inject.Inject;
 
@@ -46,6 +49,8 @@ public class LazyWorkspaceHandler implements WorkspaceHandler {
         try {
             return doWorkspaceAdded(workspace, correlationId);
         } catch (Throwable ex) {
+            // transient errors are retried by the operator and only fail the workspace once all attempts are used up
+            RetryQueue.rethrowIfRetryable(ex);
             LOGGER.error(formatLogMessage(correlationId,
                     "An unexpected exception occurred while adding Workspace: " + workspace), ex);
             client.workspaces().updateStatus(correlationId, workspace, status -> {
@@ -58,14 +63,15 @@ public class LazyWorkspaceHandler implements WorkspaceHandler {
     }
 
     protected boolean doWorkspaceAdded(Workspace workspace, String correlationId) {
-        LOGGER.info(formatLogMessage(correlationId, "Handling " + workspace));
+        LOGGER.info(formatLogMessage(correlationId, "Handling workspace " + workspace.getMetadata().getName()));
+        LOGGER.trace(lazyLogMessage(correlationId, () -> "Handling " + workspace));
 
         // Check current session status and ignore if handling failed or finished before
         Optional<WorkspaceStatus> status = Optional.ofNullable(workspace.getStatus());
         String operatorStatus = status.map(ResourceStatus::getOperatorStatus).orElse(OperatorStatus.NEW);
         if (OperatorStatus.HANDLED.equals(operatorStatus)) {
-            LOGGER.trace(formatLogMessage(correlationId,
-                    "Workspace was successfully handled before and is skipped now. Workspace: " + workspace));
+            LOGGER.trace(lazyLogMessage(correlationId,
+                    () -> "Workspace was successfully handled before and is skipped now. Workspace: " + workspace));
             return true;
         }
         if (OperatorStatus.HANDLING.equals(operatorStatus)) {
@@ -85,20 +91,24 @@ public class LazyWorkspaceHandler implements WorkspaceHandler {
             return false;
         }
 
+        // all status changes of this pass are written with a single update at the end
+        StatusWriteBuffer<WorkspaceStatus, Workspace> statusBuffer = client.workspaces().statusBuffer(correlationId,
+                workspace);
+
         // Set workspace status to being handled
-        client.workspaces().updateStatus(correlationId, workspace, s -> {
+        statusBuffer.update(s -> {
             s.setOperatorStatus(OperatorStatus.HANDLING);
         });
 
         String storageName = WorkspaceUtil.getStorageName(workspace);
-        client.workspaces().updateStatus(correlationId, workspace, s -> s.setVolumeClaim(new StatusStep("started")));
+        statusBuffer.update(s -> s.setVolumeClaim(new StatusStep("started")));
 
         if (!client.persistentVolumesClient().has(storageName)) {
             LOGGER.trace(formatLogMessage(correlationId, "Creating new persistent volume named " + storageName));
             persistentVolumeHandler.createAndApplyPersistentVolume(correlationId, workspace);
         }
 
-        client.workspaces().updateStatus(correlationId, workspace, s -> {
+        statusBuffer.update(s -> {
             s.setVolumeClaim(new StatusStep("finished"));
             s.setVolumeAttach(new StatusStep("started"));
         });
@@ -108,19 +118,18 @@ public class LazyWorkspaceHandler implements WorkspaceHandler {
             persistentVolumeHandler.createAndApplyPersistentVolumeClaim(correlationId, workspace);
         }
 
-        client.workspaces().updateStatus(correlationId, workspace, s -> {
+        statusBuffer.update(s -> {
             s.setVolumeAttach(new StatusStep("claimed"));
         });
 
         LOGGER.trace(formatLogMessage(correlationId, "Set workspace storage " + storageName));
-        client.workspaces().edit(correlationId, workspace.getSpec().getName(),
-                toEdit -> toEdit.getSpec().setStorage(storageName));
+        client.workspaces().patch(correlationId, workspace, toEdit -> toEdit.getSpec().setStorage(storageName));
 
-        client.workspaces().updateStatus(correlationId, workspace, s -> {
+        statusBuffer.update(s -> {
             s.setVolumeAttach(new StatusStep("finished"));
         });
 
-        client.workspaces().updateStatus(correlationId, workspace, s -> {
+        statusBuffer.updateNow(s -> {
             s.setOperatorStatus(OperatorStatus.HANDLED);
         });
         return true;
@@ -0,0 +1,57 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.ingress;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * Applies changes to the shared ingresses. Implementations may combine edits of several sessions into a single update,
+ * so edit functions must only change the given ingress and be safe to apply more than once.
+ */
+public interface IngressWriter {
+
+    /**
+     * Queues the given edit for the ingress with the given name.
+     *
+     * @param correlationId correlation id used for logging
+     * @param ingressName   name of the ingress to edit
+     * @param edit          changes the given ingress and returns a result for the caller
+     * @return a future that is completed with the result of the edit once the change was written
+     */
+    <T> CompletableFuture<T> edit(String correlationId, String ingressName, Function<Ingress, T> edit);
+
+    /**
+     * Like {@link #edit(String, String, Function)} but waits until the change was written.
+     *
+     * @throws KubernetesClientException if the change could not be written
+     */
+    default <T> T editAndWait(String correlationId, String ingressName, Function<Ingress, T> edit)
+            throws KubernetesClientException {
+        try {
+            return edit(correlationId, ingressName, edit).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof KubernetesClientException) {
+                throw (KubernetesClientException) e.getCause();
+            }
+            throw new KubernetesClientException("Failed to edit ingress " + ingressName, e.getCause());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.ingress;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatMetric;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+
+import com.google.inject.Inject;
+
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * Collects the edits of an ingress for a short time and writes all of them with one patch. The patch is guarded by
+ * the resource version, so on a conflict the ingress is read again and all edits are re-applied.
+ */
+public class IngressWriterImpl implements IngressWriter {
+
+    private static final Logger LOGGER = LogManager.getLogger(IngressWriterImpl.class);
+
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor();
+
+    /** Time to wait for further edits after the first edit of a batch was queued. */
+    private static final long BATCH_WINDOW_MS = 50;
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    @Inject
+    protected TheiaCloudClient client;
+
+    /* pending edits per ingress name, guarded by itself */
+    private final Map<String, List<PendingEdit<?>>> pending = new HashMap<>();
+
+    @Override
+    public <T> CompletableFuture<T> edit(String correlationId, String ingressName, Function<Ingress, T> edit) {
+        PendingEdit<T> pendingEdit = new PendingEdit<>(correlationId, edit);
+        boolean schedule = false;
+        synchronized (pending) {
+            List<PendingEdit<?>> edits = pending.get(ingressName);
+            if (edits == null) {
+                edits = new ArrayList<>();
+                pending.put(ingressName, edits);
+                schedule = true;
+            }
+            edits.add(pendingEdit);
+        }
+        if (schedule) {
+            EXECUTOR.schedule(() -> flush(ingressName), BATCH_WINDOW_MS, TimeUnit.MILLISECONDS);
+        }
+        return pendingEdit.future;
+    }
+
+    protected void flush(String ingressName) {
+        List<PendingEdit<?>> edits;
+        synchronized (pending) {
+            edits = pending.remove(ingressName);
+        }
+        if (edits == null || edits.isEmpty()) {
+            return;
+        }
+        String correlationId = edits.get(0).correlationId;
+        try {
+            int attempt = write(correlationId, ingressName, edits);
+            edits.forEach(PendingEdit::complete);
+            LOGGER.info(formatMetric(correlationId, "Wrote " + edits.size() + " edit(s) of ingress " + ingressName
+                    + " with one update after " + attempt + " attempt(s)"));
+        } catch (Exception e) {
+            LOGGER.error(formatLogMessage(correlationId,
+                    "Failed to write " + edits.size() + " edit(s) of ingress " + ingressName), e);
+            edits.forEach(edit -> edit.future.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * @return the attempt in which the edits were written
+     */
+    protected int write(String correlationId, String ingressName, List<PendingEdit<?>> edits) {
+        for (int attempt = 1;; attempt++) {
+            Optional<Ingress> ingress = client.ingresses().get(ingressName);
+            if (ingress.isEmpty()) {
+                throw new KubernetesClientException("Ingress " + ingressName + " not found");
+            }
+            try {
+                Ingress patched = client.ingresses().patch(correlationId, ingress.get(),
+                        toEdit -> edits.forEach(edit -> edit.applyTo(toEdit)), true);
+                if (patched == null) {
+                    throw new KubernetesClientException("Ingress " + ingressName + " not found");
+                }
+                return attempt;
+            } catch (KubernetesClientException e) {
+                if (e.getCode() != HttpURLConnection.HTTP_CONFLICT || attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                LOGGER.info(formatLogMessage(correlationId,
+                        "Ingress " + ingressName + " was changed concurrently. Re-applying edits."));
+            }
+        }
+    }
+
+    protected static final class PendingEdit<T> {
+        private final String correlationId;
+        private final Function<Ingress, T> edit;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private T result;
+        private RuntimeException error;
+
+        PendingEdit(String correlationId, Function<Ingress, T> edit) {
+            this.correlationId = correlationId;
+            this.edit = edit;
+        }
+
+        /* a failing edit only fails its own future, the other edits of the batch are still written */
+        void applyTo(Ingress ingress) {
+            try {
+                result = edit.apply(ingress);
+                error = null;
+            } catch (RuntimeException e) {
+                result = null;
+                error = e;
+            }
+        }
+
+        void complete() {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.leader;
+
+import java.util.function.Consumer;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * Whether this operator replica is the active one. Replicas that are not leading keep their informers and caches in
+ * sync but must not change any resources, so they can take over right away when they are elected.
+ */
+public interface Leadership {
+
+    /**
+     * @return <code>true</code> if this replica handles events and may change resources
+     */
+    boolean isLeader();
+
+    /**
+     * @return <code>true</code> if this replica handles the events of the given resource
+     */
+    default boolean isResponsibleFor(HasMetadata resource) {
+        return isLeader();
+    }
+
+    /**
+     * Runs the given work if this replica handles the events of the given resource. Work that is queued while this
+     * replica is leading therefore does nothing once it stopped leading.
+     *
+     * @return <code>false</code> if the work was not run
+     */
+    default boolean runIfResponsible(HasMetadata resource, Runnable work) {
+        if (!isResponsibleFor(resource)) {
+            return false;
+        }
+        work.run();
+        return true;
+    }
+
+    /**
+     * Switches between active and standby mode and notifies the listeners if the mode changed. When switching to
+     * standby, work started with {@link #runIfResponsible(HasMetadata, Runnable)} is given a grace period to finish
+     * before this method returns, so the next leader does not overlap with it.
+     */
+    void setLeader(boolean leader);
+
+    /**
+     * Registers a listener that is called with the new mode whenever the mode changes. A listener called with
+     * <code>true</code> may have to handle resources this replica became responsible for.
+     */
+    void addListener(Consumer<Boolean> listener);
+
+}
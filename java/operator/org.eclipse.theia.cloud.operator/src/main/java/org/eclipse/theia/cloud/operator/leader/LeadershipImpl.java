@@ -0,0 +1,110 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.leader;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+
+import com.google.inject.Inject;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * Starts as leader, so an operator without leader election is always active.
+ */
+public class LeadershipImpl implements Leadership {
+
+    private static final Logger LOGGER = LogManager.getLogger(LeadershipImpl.class);
+
+    private static final String COR_ID_LEADERSHIP = "leadership";
+
+    @Inject
+    private TheiaCloudOperatorArguments arguments;
+
+    private final List<Consumer<Boolean>> listeners = new CopyOnWriteArrayList<>();
+
+    /* running work holds the read lock, stopping to lead waits for the write lock */
+    private final ReadWriteLock workLock = new ReentrantReadWriteLock();
+
+    private volatile boolean leader = true;
+
+    @Override
+    public boolean isLeader() {
+        return leader;
+    }
+
+    @Override
+    public boolean runIfResponsible(HasMetadata resource, Runnable work) {
+        workLock.readLock().lock();
+        try {
+            if (!isResponsibleFor(resource)) {
+                return false;
+            }
+            work.run();
+            return true;
+        } finally {
+            workLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void setLeader(boolean leader) {
+        synchronized (this) {
+            if (this.leader == leader) {
+                return;
+            }
+            this.leader = leader;
+        }
+        if (!leader) {
+            awaitRunningWork();
+        }
+        listeners.forEach(listener -> listener.accept(leader));
+    }
+
+    /**
+     * Waits until the running work finished. Another replica may acquire the lease once it expired, which is the lease
+     * duration after the last renewal. The renewal failed for the renew deadline already, so the remaining time is
+     * used as grace period.
+     */
+    protected void awaitRunningWork() {
+        long gracePeriod = Math.max(1, arguments.getLeaderLeaseDuration() - arguments.getLeaderRenewDeadline());
+        try {
+            if (workLock.writeLock().tryLock(gracePeriod, TimeUnit.SECONDS)) {
+                workLock.writeLock().unlock();
+            } else {
+                LOGGER.warn(formatLogMessage(COR_ID_LEADERSHIP,
+                        "Work is still running " + gracePeriod + "s after leadership was lost"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void addListener(Consumer<Boolean> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,413 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.leader;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.common.k8s.resource.workspace.Workspace;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+
+import com.google.inject.Inject;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseSpec;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+
+/**
+ * Partitions sessions and workspaces into a fixed number of shards that are distributed over all operator replicas.
+ * <p>
+ * Every replica announces itself with a member lease that it renews periodically. The live members are placed on a
+ * consistent hash ring and each shard belongs to the member following the shard's hash on the ring, so only few
+ * shards move when a replica joins or leaves. A replica only handles a shard while it holds the shard's lease. Free or
+ * expired leases are acquired with an update guarded by the resource version.
+ * </p>
+ * <p>
+ * Shards that move to another member are dropped locally first, so queued work of the shard is skipped. The lease is
+ * only released once the running work of the shard finished. If it does not finish within the remaining lease time,
+ * the lease is left to expire instead. Only work that runs longer than the lease duration, or work of a shard whose
+ * lease could not be renewed in time, may overlap with the next holder of the shard.
+ * </p>
+ * <p>
+ * Sessions and workspaces are assigned to shards by their user, so all resources of a user are handled by the same
+ * replica. All other resources, e.g. app definitions, are handled by the holder of the first shard.
+ * </p>
+ */
+public class ShardedLeadership implements Leadership {
+
+    private static final Logger LOGGER = LogManager.getLogger(ShardedLeadership.class);
+
+    private static final String COR_ID_SHARDS = "shards";
+
+    protected static final String SHARD_LEASE_PREFIX = "theia-cloud-operator-shard-";
+    protected static final String MEMBER_LEASE_PREFIX = "theia-cloud-operator-member-";
+    protected static final String LABEL_MEMBER = "theia-cloud.io/operator-member";
+
+    /** Shard whose holder handles all resources that are not partitioned. */
+    protected static final int COORDINATOR_SHARD = 0;
+
+    /** Positions of every member on the hash ring, more positions spread the shards more evenly. */
+    private static final int VIRTUAL_NODES = 64;
+
+    @Inject
+    private NamespacedKubernetesClient client;
+
+    @Inject
+    private TheiaCloudOperatorArguments arguments;
+
+    private final String identity = UUID.randomUUID().toString();
+    private final Map<Integer, ZonedDateTime> ownedShards = new ConcurrentHashMap<>();
+    /* running work of a shard holds the read lock, releasing the shard waits for the write lock */
+    private final Map<Integer, ReadWriteLock> shardLocks = new ConcurrentHashMap<>();
+    private final List<Consumer<Boolean>> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean active;
+
+    @Override
+    public boolean isLeader() {
+        return ownedShards.containsKey(COORDINATOR_SHARD);
+    }
+
+    @Override
+    public boolean isResponsibleFor(HasMetadata resource) {
+        return ownedShards.containsKey(shardFor(resource));
+    }
+
+    @Override
+    public boolean runIfResponsible(HasMetadata resource, Runnable work) {
+        Lock lock = shardLock(shardFor(resource)).readLock();
+        lock.lock();
+        try {
+            if (!isResponsibleFor(resource)) {
+                return false;
+            }
+            work.run();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Joins the members when set to <code>true</code>, gives up all shards when set to <code>false</code>.
+     */
+    @Override
+    public void setLeader(boolean leader) {
+        active = leader;
+        if (!leader) {
+            Set<Integer> shards = new TreeSet<>(ownedShards.keySet());
+            // stop all shards first, so their running work finishes in parallel
+            ownedShards.keySet().removeAll(shards);
+            for (Integer shard : shards) {
+                release(shard);
+            }
+        }
+    }
+
+    @Override
+    public void addListener(Consumer<Boolean> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Keeps the member lease and the shard leases of this replica up to date until the thread is interrupted.
+     */
+    public void run() {
+        LOGGER.info(formatLogMessage(COR_ID_SHARDS, "Member " + identity + " handles " + arguments.getShards()
+                + " shards together with the other replicas"));
+        Runtime.getRuntime().addShutdownHook(new Thread(this::leave, "shards-shutdown"));
+        active = true;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (active) {
+                    balance();
+                }
+            } catch (Exception e) {
+                LOGGER.error(formatLogMessage(COR_ID_SHARDS, "Error while balancing shards"), e);
+            }
+            dropExpired();
+            try {
+                TimeUnit.SECONDS.sleep(arguments.getLeaderRetryPeriod());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        leave();
+    }
+
+    protected void balance() {
+        renew(MEMBER_LEASE_PREFIX + identity, Map.of(LABEL_MEMBER, "true"));
+        Set<Integer> desired = desiredShards(liveMembers());
+        Set<Integer> gained = new TreeSet<>();
+        for (int shard = 0; shard < arguments.getShards(); shard++) {
+            if (!desired.contains(shard)) {
+                if (ownedShards.containsKey(shard)) {
+                    drop(shard);
+                }
+                continue;
+            }
+            boolean owned = ownedShards.containsKey(shard);
+            if (renew(SHARD_LEASE_PREFIX + shard, Map.of())) {
+                ownedShards.put(shard, now());
+                if (!owned) {
+                    gained.add(shard);
+                }
+            } else if (owned) {
+                LOGGER.warn(formatLogMessage(COR_ID_SHARDS, "Lost the lease of shard " + shard));
+                ownedShards.remove(shard);
+            }
+        }
+        if (!gained.isEmpty()) {
+            LOGGER.info(formatLogMessage(COR_ID_SHARDS,
+                    "Acquired shards " + gained + ", now handling " + new TreeSet<>(ownedShards.keySet())));
+            listeners.forEach(listener -> listener.accept(true));
+        }
+    }
+
+    /**
+     * Stops handling shards whose lease could not be renewed within the renew deadline, another replica may take them
+     * over once the lease expired.
+     */
+    protected void dropExpired() {
+        ZonedDateTime deadline = now().minusSeconds(arguments.getLeaderRenewDeadline());
+        ownedShards.entrySet().removeIf(entry -> {
+            if (entry.getValue().isBefore(deadline)) {
+                LOGGER.warn(formatLogMessage(COR_ID_SHARDS,
+                        "Could not renew the lease of shard " + entry.getKey() + " in time"));
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Stops handling the shard before its lease is released, so the next holder does not overlap with this replica.
+     */
+    protected void drop(int shard) {
+        ownedShards.remove(shard);
+        release(shard);
+    }
+
+    /**
+     * Releases the lease of a shard that is no longer handled, once the running work of the shard finished. The lease
+     * expires the lease duration after the last renewal, so waiting is bounded by the remaining time after the renew
+     * deadline. If the work is still running then, the lease is not released but left to expire.
+     */
+    protected void release(int shard) {
+        long gracePeriod = Math.max(1, arguments.getLeaderLeaseDuration() - arguments.getLeaderRenewDeadline());
+        Lock lock = shardLock(shard).writeLock();
+        try {
+            if (!lock.tryLock(gracePeriod, TimeUnit.SECONDS)) {
+                LOGGER.warn(formatLogMessage(COR_ID_SHARDS, "Work of shard " + shard + " is still running after "
+                        + gracePeriod + "s, leaving its lease to expire"));
+                return;
+            }
+            lock.unlock();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        LOGGER.info(formatLogMessage(COR_ID_SHARDS, "Releasing shard " + shard));
+        try {
+            Lease lease = client.leases().withName(SHARD_LEASE_PREFIX + shard).get();
+            if (lease != null && identity.equals(lease.getSpec().getHolderIdentity())) {
+                lease.getSpec().setHolderIdentity(null);
+                client.leases().resource(lease).update();
+            }
+        } catch (KubernetesClientException e) {
+            // the lease expires on its own
+            LOGGER.warn(formatLogMessage(COR_ID_SHARDS, "Could not release the lease of shard " + shard), e);
+        }
+    }
+
+    protected void leave() {
+        if (!active && ownedShards.isEmpty()) {
+            return;
+        }
+        setLeader(false);
+        try {
+            client.leases().withName(MEMBER_LEASE_PREFIX + identity).delete();
+        } catch (KubernetesClientException e) {
+            LOGGER.warn(formatLogMessage(COR_ID_SHARDS, "Could not remove member lease"), e);
+        }
+    }
+
+    /**
+     * Acquires or renews the lease with the given name. The lease is only taken over if it is free or expired.
+     */
+    protected boolean renew(String name, Map<String, String> labels) {
+        ZonedDateTime now = now();
+        int duration = arguments.getLeaderLeaseDuration();
+        Lease lease = client.leases().withName(name).get();
+        if (lease == null) {
+            lease = new LeaseBuilder()//
+                    .withNewMetadata().withName(name).withLabels(labels).endMetadata()//
+                    .withNewSpec()//
+                    .withHolderIdentity(identity)//
+                    .withLeaseDurationSeconds(duration)//
+                    .withAcquireTime(now)//
+                    .withRenewTime(now)//
+                    .withLeaseTransitions(0)//
+                    .endSpec()//
+                    .build();
+            try {
+                // fails with a conflict if another replica created the lease in the meantime
+                client.leases().resource(lease).create();
+                return true;
+            } catch (KubernetesClientException e) {
+                return false;
+            }
+        }
+        LeaseSpec spec = lease.getSpec();
+        if (!identity.equals(spec.getHolderIdentity())) {
+            if (spec.getHolderIdentity() != null && !isExpired(spec, now)) {
+                return false;
+            }
+            spec.setHolderIdentity(identity);
+            spec.setAcquireTime(now);
+            spec.setLeaseTransitions(spec.getLeaseTransitions() == null ? 1 : spec.getLeaseTransitions() + 1);
+        }
+        spec.setLeaseDurationSeconds(duration);
+        spec.setRenewTime(now);
+        try {
+            // the resource version of the read lease guards against a concurrent acquisition
+            client.leases().resource(lease).update();
+            return true;
+        } catch (KubernetesClientException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the identities of the members whose lease is not expired. Every replica joins with a new identity, so
+     * the expired leases of replicas that stopped without leaving are deleted here. The deletion only succeeds if the
+     * lease was not renewed since it was read.
+     */
+    protected List<String> liveMembers() {
+        ZonedDateTime now = now();
+        List<String> members = new ArrayList<>();
+        for (Lease lease : client.leases().withLabel(LABEL_MEMBER, "true").list().getItems()) {
+            LeaseSpec spec = lease.getSpec();
+            if (spec.getHolderIdentity() != null && !isExpired(spec, now)) {
+                members.add(spec.getHolderIdentity());
+                continue;
+            }
+            try {
+                client.leases().withName(lease.getMetadata().getName())
+                        .lockResourceVersion(lease.getMetadata().getResourceVersion()).delete();
+                LOGGER.info(formatLogMessage(COR_ID_SHARDS,
+                        "Removed expired member lease " + lease.getMetadata().getName()));
+            } catch (KubernetesClientException e) {
+                LOGGER.debug(formatLogMessage(COR_ID_SHARDS,
+                        "Could not remove expired member lease " + lease.getMetadata().getName()), e);
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Returns the shards that belong to this replica on the hash ring of the given members.
+     */
+    protected Set<Integer> desiredShards(List<String> members) {
+        TreeMap<Long, String> ring = new TreeMap<>();
+        for (String member : members) {
+            for (int node = 0; node < VIRTUAL_NODES; node++) {
+                ring.put(hash(member + "#" + node), member);
+            }
+        }
+        ring.put(hash(identity + "#0"), identity);
+        Set<Integer> desired = new HashSet<>();
+        for (int shard = 0; shard < arguments.getShards(); shard++) {
+            Map.Entry<Long, String> owner = ring.ceilingEntry(hash(SHARD_LEASE_PREFIX + shard));
+            if (owner == null) {
+                owner = ring.firstEntry();
+            }
+            if (identity.equals(owner.getValue())) {
+                desired.add(shard);
+            }
+        }
+        return desired;
+    }
+
+    /**
+     * @return the shard of the given resource, resources that are not partitioned belong to the coordinator shard
+     */
+    protected int shardFor(HasMetadata resource) {
+        if (resource instanceof Session session) {
+            return shardOf(session.getSpec().getUser(), resource);
+        }
+        if (resource instanceof Workspace workspace) {
+            return shardOf(workspace.getSpec().getUser(), resource);
+        }
+        return COORDINATOR_SHARD;
+    }
+
+    protected ReadWriteLock shardLock(int shard) {
+        return shardLocks.computeIfAbsent(shard, key -> new ReentrantReadWriteLock());
+    }
+
+    protected int shardOf(String key, HasMetadata resource) {
+        String shardKey = key == null || key.isEmpty() ? resource.getMetadata().getName() : key;
+        return (int) Math.floorMod(hash(shardKey), (long) arguments.getShards());
+    }
+
+    protected static boolean isExpired(LeaseSpec spec, ZonedDateTime now) {
+        return spec.getRenewTime() == null || spec.getLeaseDurationSeconds() == null
+                || spec.getRenewTime().plusSeconds(spec.getLeaseDurationSeconds()).isBefore(now);
+    }
+
+    protected static ZonedDateTime now() {
+        return ZonedDateTime.now(ZoneOffset.UTC);
+    }
+
+    /**
+     * 64-bit FNV-1a with a final mix, stable across JVMs and replicas unlike {@link String#hashCode()} based maps.
+     */
+    protected static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -26,6 +26,7 @@ import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinitionSp
 import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
 import org.eclipse.theia.cloud.common.util.SessionUtil;
 import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
 import org.json.JSONObject;
 
 import com.google.inject.Inject;
@@ -48,6 +49,9 @@ public class MonitorMessagingServiceImpl implements MonitorMessagingService {
     @Inject
     private TheiaCloudOperatorArguments arguments;
 
+    @Inject
+    private TheiaCloudCache cache;
+
     @Override
     public void sendMessage(Session session, String level, String message) {
         if (isEnabled()) {
@@ -103,7 +107,7 @@ public class MonitorMessagingServiceImpl implements MonitorMessagingService {
 
     protected Optional<Integer> getPort(Session session) {
         String appDefinitionId = session.getSpec().getAppDefinition();
-        return resourceClient.appDefinitions().get(appDefinitionId)//
+        return cache.getAppDefinition(appDefinitionId)//
                 .map(AppDefinition::getSpec)//
                 .map(AppDefinitionSpec::getMonitor)//
                 .map(AppDefinitionSpec.Monitor::getPort);
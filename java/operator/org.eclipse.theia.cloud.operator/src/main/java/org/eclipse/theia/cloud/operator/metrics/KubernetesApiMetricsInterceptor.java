@@ -0,0 +1,84 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.metrics;
+
+import static org.eclipse.theia.cloud.common.util.KubernetesRequestUtil.requestId;
+import static org.eclipse.theia.cloud.common.util.KubernetesRequestUtil.resource;
+import static org.eclipse.theia.cloud.common.util.KubernetesRequestUtil.tagRequest;
+import static org.eclipse.theia.cloud.common.util.KubernetesRequestUtil.verb;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.http.Interceptor;
+
+/**
+ * Measures the requests of the Kubernetes client from sending the request until the response headers arrived. For
+ * watches this is the time until the watch was established. Retries of a request are measured as one request.
+ */
+public class KubernetesApiMetricsInterceptor implements Interceptor {
+
+    public static final String NAME = "theia-cloud-metrics";
+
+    /** Requests without response after this time were cancelled and are not measured. */
+    private static final long MAX_PENDING_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int EXPIRE_THRESHOLD = 1000;
+
+    private final OperatorMetrics metrics;
+    /* start times by the id of the request passed to before, see KubernetesRequestUtil#tagRequest */
+    private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+
+    public KubernetesApiMetricsInterceptor(OperatorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+        long now = System.nanoTime();
+        startTimes.putIfAbsent(tagRequest(builder, request), now);
+        if (startTimes.size() > EXPIRE_THRESHOLD) {
+            startTimes.values().removeIf(start -> now - start > MAX_PENDING_NANOS);
+        }
+    }
+
+    @Override
+    public void after(HttpRequest request, HttpResponse<?> response, AsyncBody.Consumer<List<ByteBuffer>> consumer) {
+        record(request, response.code());
+    }
+
+    @Override
+    public void afterConnectionFailure(HttpRequest request, Throwable failure) {
+        record(request, 0);
+    }
+
+    protected void record(HttpRequest request, int code) {
+        Long start = startTimes.remove(requestId(request));
+        if (start != null) {
+            metrics.recordApiCall(verb(request), resource(request.uri().getPath()), code, System.nanoTime() - start);
+        }
+    }
+
+    int getPendingCount() {
+        return startTimes.size();
+    }
+}
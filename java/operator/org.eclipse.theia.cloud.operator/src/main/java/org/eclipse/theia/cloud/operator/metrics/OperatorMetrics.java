@@ -0,0 +1,90 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.metrics;
+
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.theia.cloud.operator.queue.KeyedWorkQueue;
+
+/**
+ * Collects the metrics of the operator and serves them for Prometheus.
+ */
+public interface OperatorMetrics {
+
+    /**
+     * Starts serving the metrics, if enabled.
+     */
+    void start();
+
+    /**
+     * Records the duration of a handler call, e.g. <code>sessionAdded</code>.
+     */
+    void recordReconcile(String handler, long durationNanos, boolean success);
+
+    /**
+     * Exposes the depth of the given queue and the time its items wait for a worker.
+     */
+    void bindWorkQueue(KeyedWorkQueue workQueue);
+
+    /**
+     * Records a request to the Kubernetes API.
+     *
+     * @param verb     the Kubernetes verb, e.g. <code>get</code>, <code>list</code> or <code>patch</code>
+     * @param resource the resource type, e.g. <code>sessions</code>
+     * @param code     the HTTP status code or <code>0</code> if no response was received
+     */
+    void recordApiCall(String verb, String resource, int code, long durationNanos);
+
+    /**
+     * Records the time between the creation of a session and its URL becoming available.
+     */
+    void recordSessionStartToUrl(String appDefinition, long durationMs);
+
+    /**
+     * Records the time between the creation of a session and the allow list of its eager instance being written to
+     * the config map. This is not the time the list takes effect: the kubelet syncs the mounted file and the OAuth
+     * proxy reloads it asynchronously afterwards, which is not measured.
+     */
+    void recordAllowListWritten(String appDefinition, long durationMs);
+
+    /**
+     * Updates the progress of reconciling the resources found on start. Once <code>ready</code> is reported, the
+     * duration is the time the operator took until all of these resources were handled.
+     */
+    void setStartupProgress(long total, long received, long skipped, long durationMs, boolean ready);
+
+    /**
+     * Exposes whether the informer of the given resource type is currently watching.
+     */
+    void bindInformer(String resource, BooleanSupplier watching);
+
+    /**
+     * Records a failed list or watch of the informer of the given resource type.
+     */
+    void recordInformerError(String resource);
+
+    /**
+     * Records that the running informer of the given resource type lists or watches again after an error.
+     */
+    void recordInformerReconnect(String resource);
+
+    /**
+     * Updates the number of free prewarmed instances of the given app definition.
+     */
+    void setWarmPoolFree(String appDefinition, int free);
+
+    void removeWarmPool(String appDefinition);
+}
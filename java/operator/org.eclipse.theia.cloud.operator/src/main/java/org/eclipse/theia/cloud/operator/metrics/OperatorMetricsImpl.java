@@ -0,0 +1,262 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.metrics;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.eclipse.theia.cloud.operator.queue.KeyedWorkQueue;
+
+import com.google.inject.Inject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Keeps all metrics in a Prometheus registry that is served at <code>/metrics</code> on the configured port.
+ */
+public class OperatorMetricsImpl implements OperatorMetrics {
+
+    private static final Logger LOGGER = LogManager.getLogger(OperatorMetricsImpl.class);
+
+    private static final String COR_ID_METRICS = "metrics";
+
+    private static final String PREFIX = "theia.cloud.";
+
+    @Inject
+    private TheiaCloudOperatorArguments arguments;
+
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+    /* meters are looked up by their tags, registering an existing meter again would return the same instance */
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> warmPoolFree = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> warmPoolGauges = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> startup = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+
+    @Override
+    public synchronized void start() {
+        if (server != null || arguments.getMetricsPort() <= 0) {
+            return;
+        }
+        new JvmMemoryMetrics().bindTo(registry);
+        new JvmGcMetrics().bindTo(registry);
+        new JvmThreadMetrics().bindTo(registry);
+        new ProcessorMetrics().bindTo(registry);
+        try {
+            server = HttpServer.create(new InetSocketAddress(arguments.getMetricsPort()), 0);
+            server.createContext("/metrics", this::scrape);
+            server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.start();
+            LOGGER.info(formatLogMessage(COR_ID_METRICS,
+                    "Serving metrics at port " + arguments.getMetricsPort() + " under /metrics"));
+        } catch (IOException e) {
+            // metrics are not essential for handling resources
+            LOGGER.error(formatLogMessage(COR_ID_METRICS, "Could not serve metrics"), e);
+        }
+    }
+
+    PrometheusMeterRegistry getRegistry() {
+        return registry;
+    }
+
+    protected void scrape(HttpExchange exchange) throws IOException {
+        byte[] response = registry.scrape().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(response);
+        }
+    }
+
+    @Override
+    public void recordReconcile(String handler, long durationNanos, boolean success) {
+        String outcome = success ? "success" : "error";
+        timers.computeIfAbsent("reconcile/" + handler + "/" + outcome, key -> Timer.builder(PREFIX + "reconcile")//
+                .description("Duration of handling a resource event")//
+                .tag("handler", handler)//
+                .tag("outcome", outcome)//
+                .publishPercentileHistogram()//
+                .register(registry)).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void bindWorkQueue(KeyedWorkQueue workQueue) {
+        String queue = workQueue.getName();
+        Gauge.builder(PREFIX + "queue.depth", workQueue, KeyedWorkQueue::getDepth)//
+                .description("Items waiting for a worker")//
+                .tag("queue", queue)//
+                .register(registry);
+        Gauge.builder(PREFIX + "queue.active", workQueue, KeyedWorkQueue::getActive)//
+                .description("Items currently handled by a worker")//
+                .tag("queue", queue)//
+                .register(registry);
+        Timer wait = Timer.builder(PREFIX + "queue.wait")//
+                .description("Time between queueing an item and a worker picking it up")//
+                .tag("queue", queue)//
+                .publishPercentileHistogram()//
+                .register(registry);
+        workQueue.setWaitTimeListener(waitMs -> wait.record(waitMs, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public void recordApiCall(String verb, String resource, int code, long durationNanos) {
+        String status = code == 0 ? "none" : String.valueOf(code);
+        timers.computeIfAbsent("api/" + verb + "/" + resource + "/" + status,
+                key -> Timer.builder(PREFIX + "kubernetes.requests")//
+                        .description("Requests sent to the Kubernetes API")//
+                        .tag("verb", verb)//
+                        .tag("resource", resource)//
+                        .tag("code", status)//
+                        .publishPercentileHistogram()//
+                        .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordSessionStartToUrl(String appDefinition, long durationMs) {
+        timers.computeIfAbsent("session/" + appDefinition, key -> Timer.builder(PREFIX + "session.start.to.url")//
+                .description("Time between the creation of a session and its URL becoming available")//
+                .tag("app_definition", appDefinition)//
+                .publishPercentileHistogram()//
+                .register(registry)).record(durationMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordAllowListWritten(String appDefinition, long durationMs) {
+        timers.computeIfAbsent("allowlist/" + appDefinition,
+                key -> Timer.builder(PREFIX + "session.allow.list.written")//
+                        .description("Time between the creation of a session and the allow list of its instance "
+                                + "being written to the config map, excluding the reload by the OAuth proxy")//
+                        .tag("app_definition", appDefinition)//
+                        .publishPercentileHistogram()//
+                        .register(registry))
+                .record(durationMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void setStartupProgress(long total, long received, long skipped, long durationMs, boolean ready) {
+        startupResources("total").set(total);
+        startupResources("received").set(received);
+        startupResources("skipped").set(skipped);
+        startup.computeIfAbsent("duration", key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(PREFIX + "startup.duration", value, AtomicLong::get)//
+                    .description("Time spent reconciling the resources found on start, final once the operator is "
+                            + "ready")//
+                    .baseUnit("milliseconds")//
+                    .register(registry);
+            return value;
+        }).set(durationMs);
+        startup.computeIfAbsent("ready", key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(PREFIX + "startup.ready", value, AtomicLong::get)//
+                    .description("1 once all resources found on start were handled")//
+                    .register(registry);
+            return value;
+        }).set(ready ? 1 : 0);
+    }
+
+    private AtomicLong startupResources(String state) {
+        return startup.computeIfAbsent("resources/" + state, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(PREFIX + "startup.resources", value, AtomicLong::get)//
+                    .description("Resources found on start by state")//
+                    .tag("state", state)//
+                    .register(registry);
+            return value;
+        });
+    }
+
+    @Override
+    public void bindInformer(String resource, BooleanSupplier watching) {
+        Gauge.builder(PREFIX + "informer.watching", watching, supplier -> supplier.getAsBoolean() ? 1 : 0)//
+                .description("1 while the informer is watching its resources")//
+                .tag("resource", resource)//
+                // the supplier is only referenced by the gauge
+                .strongReference(true)//
+                .register(registry);
+    }
+
+    @Override
+    public void recordInformerError(String resource) {
+        counters.computeIfAbsent("informer/errors/" + resource, key -> Counter.builder(PREFIX + "informer.errors")//
+                .description("Failed lists or watches of an informer")//
+                .tag("resource", resource)//
+                .register(registry)).increment();
+    }
+
+    @Override
+    public void recordInformerReconnect(String resource) {
+        counters.computeIfAbsent("informer/reconnects/" + resource,
+                key -> Counter.builder(PREFIX + "informer.reconnects")//
+                        .description("Lists or watches an informer started again after an error")//
+                        .tag("resource", resource)//
+                        .register(registry))
+                .increment();
+    }
+
+    @Override
+    public void setWarmPoolFree(String appDefinition, int free) {
+        warmPoolFree.computeIfAbsent(appDefinition, name -> {
+            AtomicInteger value = new AtomicInteger();
+            warmPoolGauges.put(name, Gauge.builder(PREFIX + "warm.pool.free", value, AtomicInteger::get)//
+                    .description("Free prewarmed instances")//
+                    .tag("app_definition", name)//
+                    .register(registry));
+            return value;
+        }).set(free);
+    }
+
+    @Override
+    public void removeWarmPool(String appDefinition) {
+        warmPoolFree.remove(appDefinition);
+        Gauge gauge = warmPoolGauges.remove(appDefinition);
+        if (gauge != null) {
+            registry.remove(gauge);
+        }
+    }
+}
@@ -37,6 +37,8 @@ import org.eclipse.theia.cloud.common.k8s.resource.OperatorStatus;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
 import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
 import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
+import org.eclipse.theia.cloud.operator.leader.Leadership;
 import org.eclipse.theia.cloud.operator.messaging.MonitorMessagingService;
 
 import com.google.inject.Inject;
@@ -69,6 +71,12 @@ public class MonitorActivityTracker implements OperatorPlugin {
     @Inject
     private TheiaCloudOperatorArguments arguments;
 
+    @Inject
+    private TheiaCloudCache cache;
+
+    @Inject
+    private Leadership leadership;
+
     @Override
     public void start() {
         if (arguments.isEnableMonitor() && arguments.isEnableActivityTracker()) {
@@ -79,9 +87,13 @@ public class MonitorActivityTracker implements OperatorPlugin {
     }
 
     protected void pingAllSessions() {
-        // Only look at handled sessions (handled sessions have a lastActivity)
-        List<Session> sessions = resourceClient.sessions().list().stream()
-                .filter(session -> OperatorStatus.HANDLED.equals(session.getStatus().getOperatorStatus())).toList();
+        // Only look at handled sessions (handled sessions have a lastActivity) this replica is responsible for
+        List<Session> sessions = cache.getSessions().stream()
+                .filter(session -> OperatorStatus.HANDLED.equals(session.getStatus().getOperatorStatus()))
+                .filter(leadership::isResponsibleFor).toList();
+        if (sessions.isEmpty()) {
+            return;
+        }
         String correlationId = generateCorrelationId();
 
         LOGGER.debug("Pinging sessions: " + sessions);
@@ -90,7 +102,7 @@ public class MonitorActivityTracker implements OperatorPlugin {
             Optional<String> sessionIP = resourceClient.getClusterIPFromSessionName(session.getSpec().getName());
             if (sessionIP.isPresent()) {
                 String appDefinitionName = session.getSpec().getAppDefinition();
-                Optional<AppDefinition> appDefinitionOptional = resourceClient.appDefinitions().get(appDefinitionName);
+                Optional<AppDefinition> appDefinitionOptional = cache.getAppDefinition(appDefinitionName);
                 if (appDefinitionOptional.isPresent()) {
                     AppDefinition appDefinition = appDefinitionOptional.get();
                     int timeoutAfter = appDefinition.getSpec().getMonitor().getActivityTracker().getTimeoutAfter();
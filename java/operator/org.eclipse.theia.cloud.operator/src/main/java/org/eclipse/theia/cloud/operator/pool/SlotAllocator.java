@@ -0,0 +1,58 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.pool;
+
+import java.util.Optional;
+
+import io.fabric8.kubernetes.api.model.Service;
+
+/**
+ * Hands out the free prewarmed services of eager start app definitions to sessions. Concurrent claims for the same app
+ * definition get distinct services without waiting for each other. Internal services belong to the instance of their
+ * external service and are claimed by name.
+ */
+public interface SlotAllocator {
+
+    /**
+     * Registers for cache events to track the free services. Has to be called before the cache is started.
+     */
+    void start();
+
+    /**
+     * Reserves a free external service of the given app definition for the session by adding the session as owner.
+     *
+     * @param appDefinitionUid uid of the app definition of the session
+     * @param sessionName      name of the session to reserve the service for
+     * @param sessionUid       uid of the session to reserve the service for
+     * @param correlationId    correlation id used for logging
+     * @return the reserved service, or nothing if no free service is left
+     */
+    Optional<Service> claim(String appDefinitionUid, String sessionName, String sessionUid, String correlationId);
+
+    /**
+     * Reserves the service with the given name for the session, e.g. the internal service of the instance whose
+     * external service the session claimed. The service is read from the cluster, so a service the session reserved
+     * before is returned as well.
+     *
+     * @param serviceName   name of the service to reserve
+     * @param sessionName   name of the session to reserve the service for
+     * @param sessionUid    uid of the session to reserve the service for
+     * @param correlationId correlation id used for logging
+     * @return the reserved service, or nothing if it does not exist or is used by another session
+     */
+    Optional<Service> claimByName(String serviceName, String sessionName, String sessionUid, String correlationId);
+
+}
@@ -0,0 +1,199 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.pool;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
+import org.eclipse.theia.cloud.operator.queue.RetryQueue;
+import org.eclipse.theia.cloud.operator.util.TheiaCloudHandlerUtil;
+import org.eclipse.theia.cloud.operator.util.TheiaCloudServiceUtil;
+
+import com.google.inject.Inject;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+
+/**
+ * Keeps the names of the free external services per app definition in concurrent sets that follow the service
+ * informer. A claim atomically removes a name from the set and then confirms it with an update that only succeeds if the
+ * service was not changed since it was read. If another client claimed or deleted the service in the meantime, the next
+ * free service is tried. Services that could not be claimed for other reasons, e.g. an unavailable API server, are put
+ * back once the claim is over if they are still unused. Internal services are not tracked, they are claimed by name.
+ */
+public class SlotAllocatorImpl implements SlotAllocator {
+
+    private static final Logger LOGGER = LogManager.getLogger(SlotAllocatorImpl.class);
+
+    private static final String INTERNAL_SUFFIX = "-int";
+
+    @Inject
+    private TheiaCloudClient client;
+
+    @Inject
+    private TheiaCloudCache cache;
+
+    @Inject
+    private TheiaCloudOperatorArguments arguments;
+
+    /** Names of the free external services keyed by the uid of the owning app definition. */
+    private final Map<String, NavigableSet<String>> freeSlots = new ConcurrentHashMap<>();
+
+    @Override
+    public void start() {
+        if (!arguments.isEagerStart()) {
+            return;
+        }
+        // the informer replays all existing services on start, this builds the initial free sets
+        cache.addServiceHandler(new ResourceEventHandler<Service>() {
+            @Override
+            public void onAdd(Service service) {
+                update(service);
+            }
+
+            @Override
+            public void onUpdate(Service oldService, Service newService) {
+                update(newService);
+            }
+
+            @Override
+            public void onDelete(Service service, boolean deletedFinalStateUnknown) {
+                if (isInternal(service)) {
+                    return;
+                }
+                for (OwnerReference owner : service.getMetadata().getOwnerReferences()) {
+                    slots(owner.getUid()).remove(service.getMetadata().getName());
+                }
+            }
+        });
+    }
+
+    protected void update(Service service) {
+        if (isInternal(service)) {
+            return;
+        }
+        boolean unused = TheiaCloudServiceUtil.isUnusedService(service);
+        for (OwnerReference owner : service.getMetadata().getOwnerReferences()) {
+            if (!AppDefinition.KIND.equals(owner.getKind())) {
+                continue;
+            }
+            NavigableSet<String> slots = slots(owner.getUid());
+            if (unused) {
+                slots.add(service.getMetadata().getName());
+            } else {
+                slots.remove(service.getMetadata().getName());
+            }
+        }
+    }
+
+    @Override
+    public Optional<Service> claim(String appDefinitionUid, String sessionName, String sessionUid,
+            String correlationId) {
+        NavigableSet<String> slots = slots(appDefinitionUid);
+        List<String> failed = new ArrayList<>();
+        try {
+            String name;
+            while ((name = slots.pollFirst()) != null) {
+                Optional<Service> claimed = confirm(name, cache.getService(name), sessionName, sessionUid,
+                        correlationId);
+                if (claimed.isPresent()) {
+                    return claimed;
+                }
+                failed.add(name);
+            }
+            return Optional.empty();
+        } finally {
+            // put back after the loop, otherwise a failing service would be polled again right away
+            for (String name : failed) {
+                if (cache.getService(name).filter(TheiaCloudServiceUtil::isUnusedService).isPresent()) {
+                    slots.add(name);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Optional<Service> claimByName(String serviceName, String sessionName, String sessionUid,
+            String correlationId) {
+        Optional<Service> service = Optional.ofNullable(
+                client.kubernetes().services().inNamespace(client.namespace()).withName(serviceName).get());
+        return confirm(serviceName, service, sessionName, sessionUid, correlationId);
+    }
+
+    /**
+     * Adds the session as owner of the given service, if the session does not own it already. The given state may be
+     * behind the cluster, so after a conflict the service is read again and the claim is retried once if it is still
+     * free.
+     */
+    protected Optional<Service> confirm(String name, Optional<Service> service, String sessionName, String sessionUid,
+            String correlationId) {
+        for (int attempt = 0; attempt < 2 && service.isPresent(); attempt++) {
+            if (isOwnedBy(service.get(), sessionUid)) {
+                return service;
+            }
+            if (!TheiaCloudServiceUtil.isUnusedService(service.get())) {
+                return Optional.empty();
+            }
+            Service claimed = TheiaCloudHandlerUtil.addOwnerReferenceToItem(correlationId, sessionName, sessionUid,
+                    new ServiceBuilder(service.get()).build());
+            try {
+                return Optional.of(client.kubernetes().services().inNamespace(client.namespace()).resource(claimed)
+                        .update());
+            } catch (KubernetesClientException e) {
+                if (e.getCode() != 409) {
+                    // the caller leaves transient errors to the retry of the session
+                    RetryQueue.rethrowIfRetryable(e);
+                    LOGGER.error(formatLogMessage(correlationId, "Error while reserving service " + name), e);
+                    return Optional.empty();
+                }
+                LOGGER.debug(formatLogMessage(correlationId, "Service " + name + " was changed concurrently"));
+                service = Optional.ofNullable(
+                        client.kubernetes().services().inNamespace(client.namespace()).withName(name).get());
+            }
+        }
+        return Optional.empty();
+    }
+
+    protected NavigableSet<String> slots(String appDefinitionUid) {
+        return freeSlots.computeIfAbsent(appDefinitionUid, key -> new ConcurrentSkipListSet<>());
+    }
+
+    protected static boolean isOwnedBy(HasMetadata service, String sessionUid) {
+        return service.getMetadata().getOwnerReferences().stream()
+                .anyMatch(owner -> sessionUid.equals(owner.getUid()));
+    }
+
+    protected static boolean isInternal(HasMetadata service) {
+        return service.getMetadata().getName().endsWith(INTERNAL_SUFFIX);
+    }
+}
@@ -0,0 +1,35 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.pool;
+
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+
+/**
+ * A pool of prewarmed instances of an app definition that sessions are assigned to.
+ */
+public interface WarmPool {
+
+    /**
+     * Creates or removes instances until the app definition has the given number of instances. Only unused instances
+     * are removed, so the pool may stay larger than requested if too many instances are in use.
+     *
+     * @param appDefinition the app definition
+     * @param size          the requested number of instances
+     * @param correlationId correlation id used for logging
+     */
+    void resize(AppDefinition appDefinition, int size, String correlationId);
+
+}
@@ -0,0 +1,30 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.pool;
+
+/**
+ * Adapts the number of prewarmed instances of eager start app definitions to the observed session arrival rate. The
+ * pool keeps enough free instances to serve the sessions expected during the time it takes to start a new instance,
+ * within the minimum and maximum instances of the app definition.
+ */
+public interface WarmPoolController {
+
+    /**
+     * Registers for cache events and starts the periodic evaluation. Has to be called before the cache is started.
+     */
+    void start();
+
+}
@@ -0,0 +1,262 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.pool;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatMetric;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.generateCorrelationId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.WarmPoolStatus;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
+import org.eclipse.theia.cloud.operator.handler.appdef.AppDefinitionHandler;
+import org.eclipse.theia.cloud.operator.leader.Leadership;
+import org.eclipse.theia.cloud.operator.metrics.OperatorMetrics;
+import org.eclipse.theia.cloud.operator.queue.KeyedWorkQueue;
+import org.eclipse.theia.cloud.operator.util.TheiaCloudServiceUtil;
+
+import com.google.inject.Inject;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+
+/**
+ * Counts new sessions per app definition and periodically derives the target size of each warm pool from a smoothed
+ * arrival rate. Growing is applied right away, shrinking only after the pool size was stable for the scale down
+ * cooldown, so short pauses between bursts do not tear down instances that are needed again shortly after.
+ */
+public class WarmPoolControllerImpl implements WarmPoolController {
+
+    private static final Logger LOGGER = LogManager.getLogger(WarmPoolControllerImpl.class);
+
+    private static final String COR_ID_POOLPREFIX = "warm-pool-";
+
+    /** Weight of the latest observation in the smoothed arrival rate. */
+    private static final double SMOOTHING = 0.3;
+
+    protected static final String DECISION_GROW = "Grow";
+    protected static final String DECISION_SHRINK = "Shrink";
+    protected static final String DECISION_HOLD = "Hold";
+
+    @Inject
+    private TheiaCloudClient resourceClient;
+
+    @Inject
+    private TheiaCloudCache cache;
+
+    @Inject
+    private TheiaCloudOperatorArguments arguments;
+
+    @Inject
+    private AppDefinitionHandler appDefinitionHandler;
+
+    @Inject
+    private KeyedWorkQueue workQueue;
+
+    @Inject
+    private Leadership leadership;
+
+    @Inject
+    private OperatorMetrics metrics;
+
+    private final Map<String, PoolState> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void start() {
+        if (!arguments.isEagerStart() || !arguments.isWarmPoolAutoscaling()) {
+            return;
+        }
+        if (!(appDefinitionHandler instanceof WarmPool)) {
+            LOGGER.warn(formatLogMessage(COR_ID_POOLPREFIX,
+                    "Warm pool autoscaling is enabled but the app definition handler does not manage a warm pool"));
+            return;
+        }
+        cache.addSessionHandler(new ResourceEventHandler<Session>() {
+            @Override
+            public void onAdd(Session session) {
+                countArrival(session);
+            }
+
+            @Override
+            public void onUpdate(Session oldSession, Session newSession) {
+                // only new sessions are counted
+            }
+
+            @Override
+            public void onDelete(Session session, boolean deletedFinalStateUnknown) {
+                // the free instance is visible on the services of the app definition
+            }
+        });
+        cache.addAppDefinitionHandler(new ResourceEventHandler<AppDefinition>() {
+            @Override
+            public void onAdd(AppDefinition appDefinition) {
+                // the pool state is created on the first evaluation
+            }
+
+            @Override
+            public void onUpdate(AppDefinition oldAppDefinition, AppDefinition newAppDefinition) {
+                // the evaluation always reads the current spec from the cache
+            }
+
+            @Override
+            public void onDelete(AppDefinition appDefinition, boolean deletedFinalStateUnknown) {
+                pools.remove(appDefinition.getSpec().getName());
+                metrics.removeWarmPool(appDefinition.getSpec().getName());
+            }
+        });
+
+        long interval = arguments.getWarmPoolEvaluationInterval();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warm-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::evaluate, interval, interval, TimeUnit.SECONDS);
+    }
+
+    protected void countArrival(Session session) {
+        // the informer replays all existing sessions on start, those are not new arrivals
+        Instant creation = Instant.parse(session.getMetadata().getCreationTimestamp());
+        if (creation.isBefore(Instant.now().minusSeconds(arguments.getWarmPoolEvaluationInterval()))) {
+            return;
+        }
+        pools.computeIfAbsent(session.getSpec().getAppDefinition(), name -> new PoolState()).arrivals
+                .incrementAndGet();
+    }
+
+    protected void evaluate() {
+        for (AppDefinition appDefinition : cache.getAppDefinitions()) {
+            try {
+                evaluate(appDefinition);
+            } catch (Exception e) {
+                LOGGER.error(formatLogMessage(COR_ID_POOLPREFIX,
+                        "Exception while evaluating warm pool of app definition " + appDefinition.getSpec().getName()),
+                        e);
+            }
+        }
+    }
+
+    protected void evaluate(AppDefinition appDefinition) {
+        PoolState state = pools.computeIfAbsent(appDefinition.getSpec().getName(), name -> new PoolState());
+        double observedRate = state.arrivals.getAndSet(0) * 60d / arguments.getWarmPoolEvaluationInterval();
+        state.rate = state.evaluated ? SMOOTHING * observedRate + (1 - SMOOTHING) * state.rate : observedRate;
+        state.evaluated = true;
+
+        List<Service> instances = cache.getServicesByOwner(appDefinition.getMetadata().getUid()).stream()//
+                .filter(service -> !service.getMetadata().getName().endsWith("-int"))//
+                .toList();
+        int size = instances.size();
+        int free = (int) instances.stream().filter(TheiaCloudServiceUtil::isUnusedService).count();
+        int target = computeTarget(appDefinition, size - free, state.rate);
+        metrics.setWarmPoolFree(appDefinition.getSpec().getName(), free);
+        if (!leadership.isLeader()) {
+            // the arrival rate is kept up to date in standby, but only the leader resizes
+            return;
+        }
+
+        Instant now = Instant.now();
+        String decision = DECISION_HOLD;
+        if (target > size) {
+            decision = DECISION_GROW;
+        } else if (target < size
+                && now.isAfter(state.lastChange.plusSeconds(arguments.getWarmPoolScaleDownCooldown()))) {
+            decision = DECISION_SHRINK;
+        }
+
+        String correlationId = COR_ID_POOLPREFIX + generateCorrelationId();
+        LOGGER.debug(formatMetric(correlationId,
+                "Warm pool " + appDefinition.getSpec().getName() + ": size=" + size + ", free=" + free + ", target="
+                        + target + ", arrivalRate=" + String.format("%.2f", state.rate) + ", decision=" + decision));
+
+        boolean resize = !DECISION_HOLD.equals(decision);
+        if (resize) {
+            state.lastChange = now;
+            state.lastScaleDecision = decision + " from " + size + " to " + target;
+        }
+        // the smoothed rate changes on every evaluation, so it is only written along with other changes
+        String poolState = size + "/" + free + "/" + target;
+        if (!resize && poolState.equals(state.lastPoolState)) {
+            return;
+        }
+        state.lastPoolState = poolState;
+        WarmPoolStatus status = createStatus(state, size, free, target);
+        String appDefinitionName = appDefinition.getMetadata().getName();
+        workQueue.submit(appDefinition.getMetadata().getUid(), correlationId,
+                () -> leadership.runIfResponsible(appDefinition, () -> {
+                    if (resize) {
+                        LOGGER.info(formatLogMessage(correlationId, "Warm pool of app definition "
+                                + appDefinitionName + ": " + state.lastScaleDecision));
+                        ((WarmPool) appDefinitionHandler).resize(appDefinition, target, correlationId);
+                    }
+                    resourceClient.appDefinitions().updateStatus(correlationId, appDefinition,
+                            s -> s.setWarmPool(status));
+                }));
+    }
+
+    /**
+     * Returns the number of instances required to keep enough free instances for the sessions expected during the lead
+     * time, bounded by the minimum and maximum instances of the app definition.
+     */
+    protected int computeTarget(AppDefinition appDefinition, int used, double arrivalRate) {
+        int min = appDefinition.getSpec().getMinInstances();
+        Integer maxInstances = appDefinition.getSpec().getMaxInstances();
+        int max = maxInstances == null || maxInstances < min ? min : maxInstances;
+        int expected = (int) Math.ceil(arrivalRate * arguments.getWarmPoolLeadTime() / 60d);
+        int desiredFree = Math.max(arguments.getWarmPoolHeadroom(), expected);
+        return Math.max(min, Math.min(max, used + desiredFree));
+    }
+
+    protected WarmPoolStatus createStatus(PoolState state, int size, int free, int target) {
+        WarmPoolStatus status = new WarmPoolStatus();
+        status.setSize(size);
+        status.setFree(free);
+        status.setTarget(target);
+        status.setArrivalRate(Math.round(state.rate * 100) / 100d);
+        if (state.lastScaleDecision != null) {
+            status.setLastScaleTime(state.lastChange.toString());
+            status.setLastScaleDecision(state.lastScaleDecision);
+        }
+        return status;
+    }
+
+    /**
+     * Arrival counter and scaling history of a single app definition. Only the counter is updated from informer
+     * threads, all other fields are only accessed by the evaluation thread.
+     */
+    protected static final class PoolState {
+        private final AtomicInteger arrivals = new AtomicInteger();
+        private double rate;
+        private boolean evaluated;
+        /** Time of the last resize, or when the operator started observing the pool. */
+        private Instant lastChange = Instant.now();
+        private String lastScaleDecision;
+        private String lastPoolState;
+    }
+}
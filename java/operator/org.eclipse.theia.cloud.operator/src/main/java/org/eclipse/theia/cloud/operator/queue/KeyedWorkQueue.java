@@ -0,0 +1,212 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.queue;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.correlationContext;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatMetric;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+import org.apache.logging.log4j.CloseableThreadContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Dispatches work items on a fixed pool of workers. Items submitted for the same key are executed one after another in
+ * submission order, items for different keys run in parallel.
+ */
+public class KeyedWorkQueue {
+
+    private static final Logger LOGGER = LogManager.getLogger(KeyedWorkQueue.class);
+
+    /** Waiting longer than this before being picked up by a worker is reported as a metric. */
+    private static final long SLOW_PICKUP_MS = 1000;
+
+    private final String name;
+    private final ExecutorService executor;
+
+    /* pending items per key; a key is present as long as one of its items is queued or running */
+    private final Map<String, Deque<WorkItem>> pending = new ConcurrentHashMap<>();
+
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder totalWaitMs = new LongAdder();
+    private final AtomicLong maxWaitMs = new AtomicLong();
+    private volatile LongConsumer waitTimeListener = waitMs -> {
+    };
+
+    public KeyedWorkQueue(String name, int workers) {
+        this.name = name;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, workers), new WorkerThreadFactory(name));
+    }
+
+    /**
+     * Queues the given work for the given key.
+     *
+     * @param key           the key to serialize on, e.g. the uid of a resource
+     * @param correlationId correlation id used for logging
+     * @param work          the work to execute
+     */
+    public void submit(String key, String correlationId, Runnable work) {
+        WorkItem item = new WorkItem(correlationId, work, System.currentTimeMillis());
+        depth.incrementAndGet();
+        boolean[] schedule = { false };
+        pending.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                schedule[0] = true;
+            }
+            queue.addLast(item);
+            return queue;
+        });
+        if (schedule[0]) {
+            executor.execute(() -> drain(key));
+        }
+    }
+
+    protected void drain(String key) {
+        WorkItem item = next(key, null);
+        while (item != null) {
+            run(key, item);
+            item = next(key, item);
+        }
+    }
+
+    /**
+     * Removes the finished item (if any) and returns the next item for the key. Releases the key when no more items
+     * are queued.
+     */
+    private WorkItem next(String key, WorkItem finished) {
+        WorkItem[] next = { null };
+        pending.computeIfPresent(key, (k, queue) -> {
+            if (finished != null) {
+                queue.pollFirst();
+            }
+            next[0] = queue.peekFirst();
+            return next[0] == null ? null : queue;
+        });
+        return next[0];
+    }
+
+    private void run(String key, WorkItem item) {
+        long waitMs = System.currentTimeMillis() - item.enqueuedAt;
+        depth.decrementAndGet();
+        active.incrementAndGet();
+        totalWaitMs.add(waitMs);
+        maxWaitMs.accumulateAndGet(waitMs, Math::max);
+        waitTimeListener.accept(waitMs);
+        if (waitMs > SLOW_PICKUP_MS) {
+            LOGGER.info(formatMetric(item.correlationId,
+                    name + " queue: " + key + " waited " + waitMs + " ms. Current depth " + depth.get()));
+        }
+        try (CloseableThreadContext.Instance context = correlationContext(item.correlationId)) {
+            item.work.run();
+        } catch (Throwable t) {
+            LOGGER.error(formatLogMessage(item.correlationId, name + " queue: unhandled error for " + key), t);
+        } finally {
+            active.decrementAndGet();
+            processed.increment();
+        }
+    }
+
+    /**
+     * @return number of items that are queued but not yet picked up by a worker
+     */
+    public int getDepth() {
+        return depth.get();
+    }
+
+    /**
+     * @return number of items that are currently executed
+     */
+    public int getActive() {
+        return active.get();
+    }
+
+    public long getProcessed() {
+        return processed.sum();
+    }
+
+    /**
+     * @return average time in milliseconds between submission and execution start
+     */
+    public long getAverageWaitTime() {
+        long count = processed.sum() + active.get();
+        return count == 0 ? 0 : totalWaitMs.sum() / count;
+    }
+
+    /**
+     * @return longest time in milliseconds an item had to wait for execution
+     */
+    public long getMaxWaitTime() {
+        return maxWaitMs.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets a listener that is called with the wait time in milliseconds of every item picked up by a worker.
+     */
+    public void setWaitTimeListener(LongConsumer waitTimeListener) {
+        this.waitTimeListener = waitTimeListener;
+    }
+
+    public void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(timeout, unit);
+    }
+
+    private static final class WorkItem {
+        private final String correlationId;
+        private final Runnable work;
+        private final long enqueuedAt;
+
+        WorkItem(String correlationId, Runnable work, long enqueuedAt) {
+            this.correlationId = correlationId;
+            this.work = work;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        WorkerThreadFactory(String name) {
+            this.prefix = name + "-worker-";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, prefix + count.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.queue;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * Re-submits failed work to a {@link KeyedWorkQueue} after an exponentially growing, jittered delay. Attempts are
+ * counted per attempt key (e.g. resource and event type) until they are reset or the maximum number of attempts is
+ * reached.
+ */
+public class RetryQueue {
+
+    private static final Logger LOGGER = LogManager.getLogger(RetryQueue.class);
+
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor();
+
+    private final KeyedWorkQueue workQueue;
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+
+    public RetryQueue(KeyedWorkQueue workQueue, int maxAttempts, long baseDelayMs, long maxDelayMs) {
+        this.workQueue = workQueue;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = Math.max(1, baseDelayMs);
+        this.maxDelayMs = Math.max(this.baseDelayMs, maxDelayMs);
+    }
+
+    /**
+     * Schedules another attempt of the given work.
+     *
+     * @param key           the key the work is serialized on in the work queue
+     * @param attemptKey    the key attempts are counted for
+     * @param correlationId correlation id used for logging
+     * @param work          the work to retry
+     * @return <code>false</code> if the maximum number of attempts was reached and nothing was scheduled
+     */
+    public boolean retry(String key, String attemptKey, String correlationId, Runnable work) {
+        int attempt = attempts.merge(attemptKey, 1, Integer::sum);
+        if (attempt >= maxAttempts) {
+            attempts.remove(attemptKey);
+            LOGGER.warn(
+                    formatLogMessage(correlationId, "Giving up on " + attemptKey + " after " + attempt + " attempts"));
+            return false;
+        }
+        long delay = getDelay(attempt);
+        LOGGER.info(formatLogMessage(correlationId, "Retrying " + attemptKey + " in " + delay + " ms (attempt "
+                + (attempt + 1) + " of " + maxAttempts + ")"));
+        EXECUTOR.schedule(() -> workQueue.submit(key, correlationId, work), delay, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    /**
+     * Resets the attempt counter of the given key, e.g. after the work succeeded.
+     */
+    public void reset(String attemptKey) {
+        attempts.remove(attemptKey);
+    }
+
+    public int getAttempts(String attemptKey) {
+        return attempts.getOrDefault(attemptKey, 0);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return whether the given error is a transient error of the Kubernetes API, e.g. a conflict, a timeout or an
+     *         unavailable API server, that may not occur again when the work is retried
+     */
+    public static boolean isRetryable(Throwable error) {
+        if (!(error instanceof KubernetesClientException exception)) {
+            return false;
+        }
+        int code = exception.getCode();
+        if (code <= 0) {
+            // no response was received
+            for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException || cause instanceof TimeoutException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return code == HttpURLConnection.HTTP_CLIENT_TIMEOUT || code == HttpURLConnection.HTTP_CONFLICT
+                || code == 429 || code >= HttpURLConnection.HTTP_INTERNAL_ERROR;
+    }
+
+    /**
+     * Throws the given error if it is {@link #isRetryable(Throwable) retryable}, so handlers can leave transient errors
+     * to the retry of the operator instead of failing the resource permanently.
+     */
+    public static void rethrowIfRetryable(Throwable error) {
+        if (isRetryable(error)) {
+            throw (KubernetesClientException) error;
+        }
+    }
+
+    /**
+     * Exponential backoff with "equal jitter": half of the delay is fixed, the other half is random. This spreads
+     * retries of resources that failed at the same time, e.g. because of a short API server outage.
+     */
+    protected long getDelay(int attempt) {
+        long exponential = baseDelayMs << Math.min(attempt - 1, 30);
+        long delay = exponential <= 0 ? maxDelayMs : Math.min(maxDelayMs, exponential);
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+}
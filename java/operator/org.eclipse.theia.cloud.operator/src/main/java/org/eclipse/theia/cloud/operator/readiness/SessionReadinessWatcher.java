@@ -0,0 +1,47 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.readiness;
+
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+
+/**
+ * Sets the URL of a started session once it can be reached. Readiness is derived from the endpoint slices of the
+ * session's service, and a shared prober confirms that the URL actually responds before it is published.
+ */
+public interface SessionReadinessWatcher {
+
+    /**
+     * Registers for cache events and starts the prober. Has to be called before the cache is started.
+     */
+    void start();
+
+    /**
+     * Sets the given URL in the status of the session as soon as the service is ready and the URL responds. A session
+     * that is still {@link org.eclipse.theia.cloud.common.k8s.resource.OperatorStatus#HANDLING HANDLING} is marked as
+     * handled with the same status update, or as failed if the URL does not become available.
+     * <p>
+     * Pending sessions are not persisted. Session handlers have to call this again for sessions without URL that they
+     * handle after an operator restart or a change of leadership, so the watches are rebuilt from the cluster state.
+     * </p>
+     *
+     * @param session       the started session
+     * @param serviceName   name of the service that routes to the session's pod
+     * @param url           URL of the session without the protocol
+     * @param correlationId correlation id used for logging
+     */
+    void watch(Session session, String serviceName, String url, String correlationId);
+
+}
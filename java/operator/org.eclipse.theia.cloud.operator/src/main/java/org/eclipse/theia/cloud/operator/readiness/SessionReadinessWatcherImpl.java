@@ -0,0 +1,466 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.readiness;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatMetric;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudDeploymentUtil.HOST_PROTOCOL;
+
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.resource.OperatorStatus;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.common.k8s.resource.session.SessionStatus;
+import org.eclipse.theia.cloud.common.util.TracingUtil;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
+import org.eclipse.theia.cloud.operator.handler.session.SessionStep;
+import org.eclipse.theia.cloud.operator.leader.Leadership;
+import org.eclipse.theia.cloud.operator.metrics.OperatorMetrics;
+import org.eclipse.theia.cloud.operator.queue.KeyedWorkQueue;
+
+import com.google.inject.Inject;
+
+import io.fabric8.kubernetes.api.model.discovery.v1.Endpoint;
+import io.fabric8.kubernetes.api.model.discovery.v1.EndpointSlice;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
+
+/**
+ * All state is confined to a single scheduler thread, which also completes the non-blocking probes of the shared HTTP
+ * client. The number of threads therefore does not grow with the number of starting sessions.
+ * <p>
+ * Until the service of a session has a ready endpoint, the URL is only probed with an increasing back off in case the
+ * endpoint slices are not visible to the operator. Once an endpoint becomes ready the URL is probed right away and
+ * then every second until the ingress controller routes to it.
+ * </p>
+ * <p>
+ * Status updates are handed to the work queue, keyed by the session like its events, so a slow API server does not
+ * delay the probes of other sessions. Pending sessions are only kept in memory. After a restart or a change of
+ * leadership the session handler registers sessions without URL again, see
+ * {@link SessionReadinessWatcher#watch(Session, String, String, String)}.
+ * </p>
+ */
+public class SessionReadinessWatcherImpl implements SessionReadinessWatcher {
+
+    private static final Logger LOGGER = LogManager.getLogger(SessionReadinessWatcherImpl.class);
+
+    private static final String SERVICE_NAME_LABEL = "kubernetes.io/service-name";
+
+    /** Delay between probes once the service has a ready endpoint. */
+    private static final long READY_PROBE_DELAY_MS = 1000;
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(10);
+    /** We give up on sessions that do not become available within an hour. */
+    private static final Duration MAX_WAIT = Duration.ofHours(1);
+
+    @Inject
+    private TheiaCloudClient client;
+
+    @Inject
+    private TheiaCloudCache cache;
+
+    @Inject
+    private OperatorMetrics metrics;
+
+    @Inject
+    private KeyedWorkQueue workQueue;
+
+    @Inject
+    private Leadership leadership;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "session-readiness");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Sessions waiting for their URL by the name of their service. Only accessed from the executor thread. */
+    private final Map<String, PendingSession> pendingByService = new HashMap<>();
+
+    private HttpClient httpClient;
+
+    @Override
+    public void start() {
+        httpClient = HttpClient.newBuilder()//
+                .sslContext(createTrustAllContext())//
+                .connectTimeout(PROBE_TIMEOUT)//
+                .followRedirects(HttpClient.Redirect.NEVER)//
+                .executor(executor)//
+                .build();
+        cache.addEndpointSliceHandler(new ResourceEventHandler<EndpointSlice>() {
+            @Override
+            public void onAdd(EndpointSlice endpointSlice) {
+                executor.execute(() -> endpointsChanged(endpointSlice));
+            }
+
+            @Override
+            public void onUpdate(EndpointSlice oldEndpointSlice, EndpointSlice newEndpointSlice) {
+                executor.execute(() -> endpointsChanged(newEndpointSlice));
+            }
+
+            @Override
+            public void onDelete(EndpointSlice endpointSlice, boolean deletedFinalStateUnknown) {
+                // a session only becomes ready, nothing to do when endpoints go away
+            }
+        });
+        cache.addSessionHandler(new ResourceEventHandler<Session>() {
+            @Override
+            public void onAdd(Session session) {
+                // sessions are registered by the session handler once they are routed
+            }
+
+            @Override
+            public void onUpdate(Session oldSession, Session newSession) {
+                // readiness does not depend on session changes
+            }
+
+            @Override
+            public void onDelete(Session session, boolean deletedFinalStateUnknown) {
+                String uid = session.getMetadata().getUid();
+                executor.execute(() -> pendingByService.values().removeIf(pending -> {
+                    if (uid.equals(pending.session.getMetadata().getUid())) {
+                        pending.cancelNextProbe();
+                        pending.span.addEvent("Session deleted");
+                        pending.span.end();
+                        return true;
+                    }
+                    return false;
+                }));
+            }
+        });
+    }
+
+    @Override
+    public void watch(Session session, String serviceName, String url, String correlationId) {
+        // started on the calling thread, so it is a child of the span of the session handler
+        Span span = TracingUtil.spanBuilder("wait for session URL", correlationId)//
+                .setAttribute("theia_cloud.session", session.getMetadata().getName())//
+                .startSpan();
+        executor.execute(() -> {
+            PendingSession pending = new PendingSession(session, serviceName, url, correlationId, span);
+            PendingSession previous = pendingByService.put(serviceName, pending);
+            if (previous != null) {
+                previous.cancelNextProbe();
+                previous.span.end();
+            }
+            pending.endpointsReady = hasReadyEndpoint(cache.getEndpointSlicesByService(serviceName));
+            if (pending.endpointsReady) {
+                probe(pending);
+            } else {
+                scheduleProbe(pending);
+            }
+        });
+    }
+
+    protected void endpointsChanged(EndpointSlice endpointSlice) {
+        Map<String, String> labels = endpointSlice.getMetadata().getLabels();
+        PendingSession pending = labels == null ? null : pendingByService.get(labels.get(SERVICE_NAME_LABEL));
+        if (pending == null || pending.endpointsReady || !hasReadyEndpoint(List.of(endpointSlice))) {
+            return;
+        }
+        LOGGER.trace(
+                formatLogMessage(pending.correlationId, "Service " + pending.serviceName + " has a ready endpoint"));
+        pending.span.addEvent("Endpoint ready");
+        pending.endpointsReady = true;
+        if (pending.probing) {
+            // probe again as soon as the running probe is done
+            pending.probeAgain = true;
+        } else {
+            pending.cancelNextProbe();
+            probe(pending);
+        }
+    }
+
+    protected void scheduleProbe(PendingSession pending) {
+        long delay = pending.endpointsReady ? READY_PROBE_DELAY_MS : getFallbackDelay(pending.probes);
+        pending.nextProbe = executor.schedule(() -> probe(pending), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * On the first 15 probes we will check every 2.5s whether the URL is available. On the next 15 probes we will
+     * check every 5s, then every 10s for another 15 probes. After that we continue to check every minute.
+     */
+    protected long getFallbackDelay(int probes) {
+        if (probes < 15) {
+            return 2500;
+        } else if (probes < 30) {
+            return 5000;
+        } else if (probes < 45) {
+            return 10000;
+        }
+        return 60000;
+    }
+
+    protected void probe(PendingSession pending) {
+        if (pendingByService.get(pending.serviceName) != pending || pending.probing) {
+            return;
+        }
+        if (!leadership.isResponsibleFor(pending.session)) {
+            // the new leader registers the session again when it takes over
+            LOGGER.info(formatLogMessage(pending.correlationId,
+                    "No longer responsible for session " + pending.session.getMetadata().getName()));
+            pendingByService.remove(pending.serviceName);
+            pending.span.addEvent("Leadership lost");
+            pending.span.end();
+            return;
+        }
+        if (Instant.now().isAfter(pending.giveUpAt)) {
+            LOGGER.warn(formatLogMessage(pending.correlationId,
+                    pending.url + " did not become available within " + MAX_WAIT + ". Giving up."));
+            pendingByService.remove(pending.serviceName);
+            pending.span.setStatus(StatusCode.ERROR, "Session did not become available");
+            updateStatus(pending, status -> {
+                if (OperatorStatus.HANDLING.equals(status.getOperatorStatus())) {
+                    status.setOperatorStatus(OperatorStatus.ERROR);
+                    status.setOperatorMessage("Session did not become available within " + MAX_WAIT + ".");
+                }
+            });
+            return;
+        }
+        pending.probes++;
+        pending.probing = true;
+        pending.span.setAttribute("theia_cloud.probes", pending.probes);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(HOST_PROTOCOL + pending.url))//
+                .timeout(PROBE_TIMEOUT)//
+                .GET()//
+                .build();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenCompleteAsync((response, error) -> probed(pending, response, error), executor);
+    }
+
+    protected void probed(PendingSession pending, HttpResponse<Void> response, Throwable error) {
+        pending.probing = false;
+        if (pendingByService.get(pending.serviceName) != pending) {
+            return;
+        }
+        if (error != null) {
+            LOGGER.trace(formatLogMessage(pending.correlationId, pending.url + " is NOT available yet."), error);
+        } else {
+            int code = response.statusCode();
+            LOGGER.trace(formatLogMessage(pending.correlationId, pending.url + " has response code " + code));
+            if (code == 200 || pending.respondedBefore) {
+                ready(pending);
+                return;
+            }
+            if (code != 404 && code != 503) {
+                // we don't get a 404 or 503, so something is available. Try accessing the URL once more then update
+                // the URL anyway
+                pending.respondedBefore = true;
+            }
+        }
+        if (pending.probeAgain) {
+            pending.probeAgain = false;
+            probe(pending);
+        } else {
+            scheduleProbe(pending);
+        }
+    }
+
+    protected void ready(PendingSession pending) {
+        pendingByService.remove(pending.serviceName);
+        LOGGER.info(formatLogMessage(pending.correlationId, pending.url + " is available."));
+        pending.span.addEvent("URL available");
+        updateStatus(pending, status -> {
+            status.setUrl(pending.url);
+            if (OperatorStatus.HANDLING.equals(status.getOperatorStatus())) {
+                // the session handler leaves the session HANDLING until its URL is set
+                status.setOperatorStatus(OperatorStatus.HANDLED);
+                status.setStep(SessionStep.URL.toStatusStep("Session URL available"));
+            }
+        }, () -> {
+            LOGGER.info(formatMetric(pending.correlationId,
+                    "Running session for " + pending.session.getSpec().getAppDefinition()));
+            metrics.recordSessionStartToUrl(pending.session.getSpec().getAppDefinition(), System.currentTimeMillis()
+                    - Instant.parse(pending.session.getMetadata().getCreationTimestamp()).toEpochMilli());
+        });
+    }
+
+    protected void updateStatus(PendingSession pending, Consumer<SessionStatus> editOperation) {
+        updateStatus(pending, editOperation, () -> {
+        });
+    }
+
+    /**
+     * Writes the status of the session on the work queue, which ends the span of the pending session. Failed writes
+     * are logged, the session handler registers the session again when it is handled the next time.
+     */
+    protected void updateStatus(PendingSession pending, Consumer<SessionStatus> editOperation, Runnable onSuccess) {
+        workQueue.submit(pending.session.getMetadata().getUid(), pending.correlationId, () -> {
+            try (Scope scope = pending.span.makeCurrent()) {
+                if (!leadership.runIfResponsible(pending.session, () -> {
+                    Optional<Session> current = current(pending.session);
+                    if (current.isEmpty()) {
+                        LOGGER.info(formatLogMessage(pending.correlationId,
+                                "Session " + pending.session.getMetadata().getName() + " was deleted"));
+                        return;
+                    }
+                    client.sessions().updateStatus(pending.correlationId, current.get(), editOperation);
+                    onSuccess.run();
+                })) {
+                    pending.span.addEvent("Leadership lost");
+                }
+            } catch (Exception e) {
+                TracingUtil.recordError(pending.span, e);
+                LOGGER.error(formatLogMessage(pending.correlationId,
+                        "Error while setting status of session " + pending.session.getMetadata().getName()), e);
+            } finally {
+                pending.span.end();
+            }
+        });
+    }
+
+    /**
+     * Reads the session from the API before its final status write. Neither the session that was registered nor the
+     * cached one is guaranteed to be the latest, and the status change depends on the current operator status.
+     *
+     * @return the session or empty if it was deleted, also if it was recreated under the same name
+     */
+    protected Optional<Session> current(Session session) {
+        return client.sessions().get(session.getMetadata().getName())
+                .filter(current -> current.getMetadata().getUid().equals(session.getMetadata().getUid()));
+    }
+
+    protected static boolean hasReadyEndpoint(List<EndpointSlice> endpointSlices) {
+        for (EndpointSlice endpointSlice : endpointSlices) {
+            if (endpointSlice.getEndpoints() == null) {
+                continue;
+            }
+            for (Endpoint endpoint : endpointSlice.getEndpoints()) {
+                // an unknown ready state is to be interpreted as ready
+                if (endpoint.getConditions() == null || endpoint.getConditions().getReady() == null
+                        || endpoint.getConditions().getReady()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sessions are served with the certificates of the ingress, which are not necessarily trusted by the operator.
+     */
+    protected static SSLContext createTrustAllContext() {
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[] { new TrustAllManager() }, new SecureRandom());
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not create SSL context for session probes", e);
+        }
+    }
+
+    protected static final class PendingSession {
+        private final Session session;
+        private final String serviceName;
+        private final String url;
+        private final String correlationId;
+        private final Instant giveUpAt;
+        /** Spans the time from routing the session until its URL is set. */
+        private final Span span;
+
+        private int probes;
+        private boolean probing;
+        private boolean probeAgain;
+        private boolean endpointsReady;
+        private boolean respondedBefore;
+        private ScheduledFuture<?> nextProbe;
+
+        PendingSession(Session session, String serviceName, String url, String correlationId, Span span) {
+            this.session = session;
+            this.serviceName = serviceName;
+            this.url = url;
+            this.correlationId = correlationId;
+            this.span = span;
+            this.giveUpAt = Instant.now().plus(MAX_WAIT);
+        }
+
+        void cancelNextProbe() {
+            if (nextProbe != null) {
+                nextProbe.cancel(false);
+                nextProbe = null;
+            }
+        }
+    }
+
+    /**
+     * Trusts all certificates and skips the host name check. Extends {@link X509ExtendedTrustManager} so that the
+     * platform does not add its own host name verification on top.
+     */
+    private static final class TrustAllManager extends X509ExtendedTrustManager {
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            /* no op */
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            /* no op */
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+            /* no op */
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+            /* no op */
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+            /* no op */
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+            /* no op */
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
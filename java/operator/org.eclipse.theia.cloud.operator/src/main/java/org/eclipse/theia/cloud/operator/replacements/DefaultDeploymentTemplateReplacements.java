@@ -24,6 +24,7 @@ import static org.eclipse.theia.cloud.operator.util.TheiaCloudHandlerUtil.PLACEH
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
 import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
@@ -75,6 +76,13 @@ public class DefaultDeploymentTemplateReplacements implements DeploymentTemplate
     @Inject
     protected IngressPathProvider ingressPathProvider;
 
+    @Override
+    public Set<String> getSessionPlaceholders() {
+        return Set.of(PLACEHOLDER_DEPLOYMENTNAME, PLACEHOLDER_APP, PLACEHOLDER_CONFIGNAME, PLACEHOLDER_EMAILSCONFIGNAME,
+                PLACEHOLDER_ENV_SESSION_UID, PLACEHOLDER_ENV_SESSION_NAME, PLACEHOLDER_ENV_SESSION_USER,
+                PLACEHOLDER_ENV_SESSION_SECRET, PLACEHOLDER_ENV_SESSION_URL);
+    }
+
     @Override
     public Map<String, String> getReplacements(String namespace, AppDefinition appDefinition, int instance) {
         Map<String, String> replacements = new LinkedHashMap<String, String>();
@@ -16,6 +16,7 @@
 package org.eclipse.theia.cloud.operator.replacements;
 
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
 import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
@@ -24,4 +25,12 @@ public interface DeploymentTemplateReplacements extends TemplateReplacements {
     Map<String, String> getReplacements(String namespace, AppDefinition appDefinition, int instance);
 
     Map<String, String> getReplacements(String namespace, AppDefinition appDefinition, Session session);
+
+    /**
+     * @return the placeholders whose values differ between sessions of the same app definition. Templates are only
+     *         pre-parsed into resource prototypes if this set is not empty.
+     */
+    default Set<String> getSessionPlaceholders() {
+        return Set.of();
+    }
 }
@@ -0,0 +1,55 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.eclipse.theia.cloud.operator.ingress.IngressPathProvider;
+
+import com.google.inject.Inject;
+
+public abstract class AbstractSessionRouter implements SessionRouter {
+
+    @Inject
+    protected TheiaCloudOperatorArguments arguments;
+
+    @Inject
+    protected IngressPathProvider ingressPathProvider;
+
+    @Inject
+    protected TheiaCloudClient client;
+
+    /**
+     * @return the instances host followed by the host names derived from the hostname prefixes of the app definition
+     */
+    protected List<String> getHosts(AppDefinition appDefinition) {
+        List<String> hosts = new ArrayList<>();
+        String instancesHost = arguments.getInstancesHost();
+        hosts.add(instancesHost);
+        List<String> ingressHostnamePrefixes = appDefinition.getSpec().getIngressHostnamePrefixes();
+        if (ingressHostnamePrefixes != null) {
+            for (String prefix : ingressHostnamePrefixes) {
+                hosts.add(prefix + instancesHost);
+            }
+        }
+        return hosts;
+    }
+
+}
@@ -0,0 +1,123 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.routing;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.client.ResourceClient;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.common.util.LabelsUtil;
+import org.eclipse.theia.cloud.operator.util.TheiaCloudHandlerUtil;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.gatewayapi.v1.HTTPRoute;
+import io.fabric8.kubernetes.api.model.gatewayapi.v1.HTTPRouteBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * Creates one Gateway API HTTPRoute per session that is owned by the session. Starting and stopping a session only
+ * creates or deletes its own small route, so sessions never contend on a shared routing object. The Gateway has to
+ * allow routes from the namespace of the operator.
+ */
+public class HTTPRouteSessionRouter extends AbstractSessionRouter {
+
+    private static final Logger LOGGER = LogManager.getLogger(HTTPRouteSessionRouter.class);
+
+    protected static final String PATH_PREFIX = "PathPrefix";
+    protected static final String URL_REWRITE = "URLRewrite";
+    protected static final String REPLACE_PREFIX_MATCH = "ReplacePrefixMatch";
+
+    @Override
+    public boolean isAvailable(AppDefinition appDefinition, String correlationId) {
+        if (arguments.getGatewayName() == null || arguments.getGatewayName().isBlank()) {
+            LOGGER.error(formatLogMessage(correlationId,
+                    "Routing mode is HTTPROUTE but no gateway was configured. Please pass --gatewayName."));
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String addRoute(Session session, AppDefinition appDefinition, Service service, String correlationId)
+            throws KubernetesClientException {
+        String path = ingressPathProvider.getPath(appDefinition, session);
+        HTTPRoute route = createRoute(session, appDefinition, service, path);
+        LOGGER.trace(formatLogMessage(correlationId, "Applying HTTPRoute " + route.getMetadata().getName()));
+        // server side apply creates the route or leaves it as is if it exists already
+        client.kubernetes().resource(route).fieldManager(ResourceClient.FIELD_MANAGER).forceConflicts()
+                .serverSideApply();
+        return arguments.getInstancesHost() + path + "/";
+    }
+
+    @Override
+    public boolean removeRoute(Session session, AppDefinition appDefinition, String correlationId) {
+        // the route is owned by the session and would be garbage collected anyway. Deleting it directly stops the
+        // routing right away.
+        String name = getRouteName(session);
+        try {
+            client.kubernetes().resources(HTTPRoute.class).withName(name).delete();
+            LOGGER.info(formatLogMessage(correlationId, "Deleted HTTPRoute " + name));
+            return true;
+        } catch (KubernetesClientException e) {
+            LOGGER.error(formatLogMessage(correlationId, "Error while deleting HTTPRoute " + name), e);
+            return false;
+        }
+    }
+
+    protected HTTPRoute createRoute(Session session, AppDefinition appDefinition, Service service, String path) {
+        String gatewayNamespace = arguments.getGatewayNamespace() != null ? arguments.getGatewayNamespace()
+                : client.namespace();
+        return new HTTPRouteBuilder()//
+                .withNewMetadata()//
+                .withName(getRouteName(session))//
+                .withNamespace(client.namespace())//
+                .withLabels(LabelsUtil.createSessionLabels(session, appDefinition))//
+                .withOwnerReferences(TheiaCloudHandlerUtil.createOwnerReference(session.getMetadata().getName(),
+                        session.getMetadata().getUid()))//
+                .endMetadata()//
+                .withNewSpec()//
+                .addNewParentRef()//
+                .withName(arguments.getGatewayName())//
+                .withNamespace(gatewayNamespace)//
+                .endParentRef()//
+                .withHostnames(getHosts(appDefinition))//
+                .addNewRule()//
+                .addNewMatch()//
+                .withNewPath().withType(PATH_PREFIX).withValue(path).endPath()//
+                .endMatch()//
+                // the application expects to be served from the root path, like the rewrite of the ingress rules
+                .addNewFilter()//
+                .withType(URL_REWRITE)//
+                .withNewUrlRewrite()//
+                .withNewPath().withType(REPLACE_PREFIX_MATCH).withReplacePrefixMatch("/").endPath()//
+                .endUrlRewrite()//
+                .endFilter()//
+                .addNewBackendRef()//
+                .withName(service.getMetadata().getName())//
+                .withPort(appDefinition.getSpec().getPort())//
+                .endBackendRef()//
+                .endRule()//
+                .endSpec()//
+                .build();
+    }
+
+    protected String getRouteName(Session session) {
+        return session.getMetadata().getName();
+    }
+}
@@ -0,0 +1,149 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.routing;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
+import org.eclipse.theia.cloud.operator.handler.AddedHandlerUtil;
+import org.eclipse.theia.cloud.operator.ingress.IngressWriter;
+import org.eclipse.theia.cloud.operator.util.TheiaCloudIngressUtil;
+
+import com.google.inject.Inject;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.networking.v1.HTTPIngressPath;
+import io.fabric8.kubernetes.api.model.networking.v1.HTTPIngressRuleValue;
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.api.model.networking.v1.IngressBackend;
+import io.fabric8.kubernetes.api.model.networking.v1.IngressRule;
+import io.fabric8.kubernetes.api.model.networking.v1.IngressServiceBackend;
+import io.fabric8.kubernetes.api.model.networking.v1.ServiceBackendPort;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * Adds a rule per host to the ingress of the app definition. The ingress is shared by all sessions of the app
+ * definition, so all changes go through the {@link IngressWriter}.
+ */
+public class IngressSessionRouter extends AbstractSessionRouter {
+
+    private static final Logger LOGGER = LogManager.getLogger(IngressSessionRouter.class);
+
+    @Inject
+    protected IngressWriter ingressWriter;
+
+    @Inject
+    protected TheiaCloudCache cache;
+
+    @Override
+    public boolean isAvailable(AppDefinition appDefinition, String correlationId) {
+        return getIngress(appDefinition, correlationId).isPresent();
+    }
+
+    @Override
+    public String addRoute(Session session, AppDefinition appDefinition, Service service, String correlationId)
+            throws KubernetesClientException {
+        Optional<Ingress> ingress = getIngress(appDefinition, correlationId);
+        if (ingress.isEmpty()) {
+            throw new KubernetesClientException(
+                    "No Ingress for app definition " + appDefinition.getSpec().getName() + " found.");
+        }
+        List<String> hostsToAdd = getHosts(appDefinition);
+        String path = ingressPathProvider.getPath(appDefinition, session);
+        String rulePath = path + arguments.getIngressPathSuffix();
+        ingressWriter.editAndWait(correlationId, ingress.get().getMetadata().getName(), ingressToUpdate -> {
+            for (String host : hostsToAdd) {
+                if (hasIngressRule(ingressToUpdate, host, rulePath)) {
+                    // rule was already added by an earlier, interrupted attempt
+                    continue;
+                }
+                IngressRule ingressRule = new IngressRule();
+                ingressToUpdate.getSpec().getRules().add(ingressRule);
+
+                ingressRule.setHost(host);
+
+                HTTPIngressRuleValue http = new HTTPIngressRuleValue();
+                ingressRule.setHttp(http);
+
+                HTTPIngressPath httpIngressPath = new HTTPIngressPath();
+                http.getPaths().add(httpIngressPath);
+                httpIngressPath.setPath(rulePath);
+                httpIngressPath.setPathType(AddedHandlerUtil.INGRESS_PATH_TYPE);
+
+                IngressBackend ingressBackend = new IngressBackend();
+                httpIngressPath.setBackend(ingressBackend);
+
+                IngressServiceBackend ingressServiceBackend = new IngressServiceBackend();
+                ingressBackend.setService(ingressServiceBackend);
+                ingressServiceBackend.setName(service.getMetadata().getName());
+
+                ServiceBackendPort serviceBackendPort = new ServiceBackendPort();
+                ingressServiceBackend.setPort(serviceBackendPort);
+                serviceBackendPort.setNumber(appDefinition.getSpec().getPort());
+            }
+            return null;
+        });
+        return arguments.getInstancesHost() + path + "/";
+    }
+
+    @Override
+    public boolean removeRoute(Session session, AppDefinition appDefinition, String correlationId) {
+        Optional<Ingress> ingress = getIngress(appDefinition, correlationId);
+        if (ingress.isEmpty()) {
+            return false;
+        }
+
+        String path = ingressPathProvider.getPath(appDefinition, session);
+
+        // Build list of all hosts that were used during session creation
+        List<String> hostsToClean = getHosts(appDefinition);
+
+        // Remove ingress rules for all hosts
+        try {
+            return ingressWriter.editAndWait(correlationId, ingress.get().getMetadata().getName(),
+                    ingressToEdit -> TheiaCloudIngressUtil.removeIngressRules(ingressToEdit, path,
+                            arguments.getIngressPathSuffix(), hostsToClean, correlationId)) > 0;
+        } catch (KubernetesClientException e) {
+            LOGGER.error(formatLogMessage(correlationId, "Error while removing ingress rules for path " + path
+                    + " across " + hostsToClean.size() + " hosts"), e);
+            return false;
+        }
+    }
+
+    protected Optional<Ingress> getIngress(AppDefinition appDefinition, String correlationId) {
+        String appDefinitionResourceUID = appDefinition.getMetadata().getUid();
+        Optional<Ingress> ingress = cache.getIngressesByOwner(appDefinitionResourceUID).stream().findAny();
+        if (ingress.isEmpty()) {
+            LOGGER.error(formatLogMessage(correlationId,
+                    "No Ingress for app definition " + appDefinition.getSpec().getName() + " found."));
+        }
+        return ingress;
+    }
+
+    protected static boolean hasIngressRule(Ingress ingress, String host, String path) {
+        return ingress.getSpec().getRules().stream()
+                .filter(rule -> host.equals(rule.getHost()) && rule.getHttp() != null)
+                .flatMap(rule -> rule.getHttp().getPaths().stream())
+                .anyMatch(httpPath -> path.equals(httpPath.getPath()));
+    }
+}
@@ -0,0 +1,51 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.routing;
+
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * Makes a started session reachable by routing requests for its path to the service of the session.
+ */
+public interface SessionRouter {
+
+    /**
+     * @return whether sessions of the given app definition can be routed. Logs the reason if not.
+     */
+    boolean isAvailable(AppDefinition appDefinition, String correlationId);
+
+    /**
+     * Routes requests for the given session to the given service. Calling this again for a session that is routed
+     * already has no effect.
+     *
+     * @return the URL of the session without the protocol
+     * @throws KubernetesClientException if the route could not be written
+     */
+    String addRoute(Session session, AppDefinition appDefinition, Service service, String correlationId)
+            throws KubernetesClientException;
+
+    /**
+     * Removes the route of the given session.
+     *
+     * @return whether the route was removed successfully
+     */
+    boolean removeRoute(Session session, AppDefinition appDefinition, String correlationId);
+
+}
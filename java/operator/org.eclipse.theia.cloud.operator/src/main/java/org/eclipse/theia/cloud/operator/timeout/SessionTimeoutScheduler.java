@@ -0,0 +1,41 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.timeout;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Stops sessions once the timeout of their app definition is reached. Deadlines are derived from the operator cache and
+ * kept up to date via informer events, so no API calls are needed until a session actually has to be stopped.
+ */
+public interface SessionTimeoutScheduler {
+
+    /**
+     * Registers for cache events and starts stopping timed out sessions. Has to be called before the cache is started.
+     */
+    void start();
+
+    /**
+     * @return the point in time at which the session with the given uid will be stopped, if it has a timeout
+     */
+    Optional<Instant> getDeadline(String sessionUid);
+
+    /**
+     * @return number of sessions that are currently scheduled to time out
+     */
+    int getScheduledCount();
+}
@@ -0,0 +1,296 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.timeout;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.correlationContext;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.generateCorrelationId;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.CloseableThreadContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
+import org.eclipse.theia.cloud.operator.leader.Leadership;
+
+import com.google.inject.Inject;
+
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+
+/**
+ * Keeps the deadlines of all sessions in a priority queue ordered by expiry. A single thread sleeps until the earliest
+ * deadline and stops the session right when it expires. When a deadline changes the old queue entry stays in the queue
+ * and is skipped once it comes up, because it no longer matches the current deadline of the session.
+ */
+public class SessionTimeoutSchedulerImpl implements SessionTimeoutScheduler {
+
+    private static final Logger LOGGER = LogManager.getLogger(SessionTimeoutSchedulerImpl.class);
+
+    private static final String COR_ID_TIMEOUTPREFIX = "timeout-";
+
+    /** Delay before stopping a session is attempted again after the delete request failed. */
+    private static final long RETRY_DELAY_MS = 10_000;
+
+    @Inject
+    private TheiaCloudClient resourceClient;
+
+    @Inject
+    private TheiaCloudCache cache;
+
+    @Inject
+    private Leadership leadership;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>(Comparator.comparing(Deadline::getExpiry));
+    private final Map<String, Deadline> deadlinesBySession = new HashMap<>();
+
+    @Override
+    public void start() {
+        cache.addSessionHandler(new ResourceEventHandler<Session>() {
+            @Override
+            public void onAdd(Session session) {
+                schedule(session);
+            }
+
+            @Override
+            public void onUpdate(Session oldSession, Session newSession) {
+                // the timeout does not depend on mutable session fields, so there is nothing to re-key
+            }
+
+            @Override
+            public void onDelete(Session session, boolean deletedFinalStateUnknown) {
+                unschedule(session.getMetadata().getUid());
+            }
+        });
+        cache.addAppDefinitionHandler(new ResourceEventHandler<AppDefinition>() {
+            @Override
+            public void onAdd(AppDefinition appDefinition) {
+                reschedule(appDefinition);
+            }
+
+            @Override
+            public void onUpdate(AppDefinition oldAppDefinition, AppDefinition newAppDefinition) {
+                if (!Objects.equals(oldAppDefinition.getSpec().getTimeout(),
+                        newAppDefinition.getSpec().getTimeout())) {
+                    reschedule(newAppDefinition);
+                }
+            }
+
+            @Override
+            public void onDelete(AppDefinition appDefinition, boolean deletedFinalStateUnknown) {
+                reschedule(appDefinition);
+            }
+        });
+
+        Thread thread = new Thread(this::run, "session-timeout");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public Optional<Instant> getDeadline(String sessionUid) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(deadlinesBySession.get(sessionUid)).map(Deadline::getExpiry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getScheduledCount() {
+        lock.lock();
+        try {
+            return deadlinesBySession.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Re-computes the deadlines of all sessions of the given app definition, e.g. after its timeout was changed.
+     */
+    protected void reschedule(AppDefinition appDefinition) {
+        for (Session session : cache.getSessionsByAppDefinition(appDefinition.getSpec().getName())) {
+            schedule(session);
+        }
+    }
+
+    protected void schedule(Session session) {
+        String uid = session.getMetadata().getUid();
+        Optional<Instant> expiry = computeDeadline(session);
+        if (expiry.isEmpty()) {
+            LOGGER.trace(formatLogMessage(COR_ID_TIMEOUTPREFIX,
+                    "Session " + session.getSpec().getName() + " will not be stopped automatically [NoTimeout]."));
+            unschedule(uid);
+            return;
+        }
+        LOGGER.trace(formatLogMessage(COR_ID_TIMEOUTPREFIX,
+                "Session " + session.getSpec().getName() + " will be stopped at " + expiry.get()));
+        put(new Deadline(uid, session.getSpec().getName(), expiry.get()));
+    }
+
+    protected Optional<Instant> computeDeadline(Session session) {
+        Optional<Integer> timeout = cache.getAppDefinition(session.getSpec().getAppDefinition())
+                .map(appDef -> appDef.getSpec().getTimeout());
+        if (timeout.isEmpty() || timeout.get() <= 0) {
+            return Optional.empty();
+        }
+        Instant creation = Instant.parse(session.getMetadata().getCreationTimestamp());
+        return Optional.of(creation.plus(timeout.get(), ChronoUnit.MINUTES));
+    }
+
+    protected void put(Deadline deadline) {
+        lock.lock();
+        try {
+            Deadline previous = deadlinesBySession.put(deadline.getSessionUid(), deadline);
+            if (previous != null && previous.getExpiry().equals(deadline.getExpiry())) {
+                deadlinesBySession.put(deadline.getSessionUid(), previous);
+                return;
+            }
+            deadlines.add(deadline);
+            if (deadlines.peek() == deadline) {
+                changed.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    protected void unschedule(String sessionUid) {
+        lock.lock();
+        try {
+            deadlinesBySession.remove(sessionUid);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    protected void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                for (Deadline deadline : awaitExpired()) {
+                    stop(deadline);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                LOGGER.error(formatLogMessage(COR_ID_TIMEOUTPREFIX, "Exception while stopping timed out sessions"), e);
+            }
+        }
+    }
+
+    /**
+     * Blocks until at least one deadline expired and removes all expired deadlines from the schedule.
+     */
+    protected List<Deadline> awaitExpired() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                Deadline next = deadlines.peek();
+                if (next == null) {
+                    changed.await();
+                    continue;
+                }
+                if (deadlinesBySession.get(next.getSessionUid()) != next) {
+                    // outdated entry, the session was deleted or its deadline changed
+                    deadlines.poll();
+                    continue;
+                }
+                long waitMs = next.getExpiry().toEpochMilli() - System.currentTimeMillis();
+                if (waitMs > 0) {
+                    changed.await(waitMs, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                List<Deadline> expired = new ArrayList<>();
+                Instant now = Instant.now();
+                while (!deadlines.isEmpty() && !deadlines.peek().getExpiry().isAfter(now)) {
+                    Deadline deadline = deadlines.poll();
+                    if (deadlinesBySession.remove(deadline.getSessionUid(), deadline)) {
+                        expired.add(deadline);
+                    }
+                }
+                return expired;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    protected void stop(Deadline deadline) {
+        if (!cache.getSession(deadline.getSessionName()).map(leadership::isResponsibleFor)
+                .orElseGet(leadership::isLeader)) {
+            // keep the session scheduled, so it is stopped if this replica becomes responsible for it
+            put(new Deadline(deadline.getSessionUid(), deadline.getSessionName(),
+                    Instant.now().plusMillis(RETRY_DELAY_MS)));
+            return;
+        }
+        String correlationId = generateCorrelationId();
+        LOGGER.info(formatLogMessage(COR_ID_TIMEOUTPREFIX, correlationId, "Session " + deadline.getSessionName()
+                + " reached its timeout at " + deadline.getExpiry() + " and is stopped."));
+        try (CloseableThreadContext.Instance context = correlationContext(COR_ID_TIMEOUTPREFIX + correlationId)) {
+            resourceClient.sessions().delete(COR_ID_TIMEOUTPREFIX + correlationId, deadline.getSessionName());
+        } catch (Exception e) {
+            LOGGER.error(formatLogMessage(COR_ID_TIMEOUTPREFIX, correlationId,
+                    "Exception while stopping timed out session " + deadline.getSessionName()), e);
+            if (cache.getSession(deadline.getSessionName()).isPresent()) {
+                put(new Deadline(deadline.getSessionUid(), deadline.getSessionName(),
+                        Instant.now().plusMillis(RETRY_DELAY_MS)));
+            }
+        }
+    }
+
+    protected static final class Deadline {
+        private final String sessionUid;
+        private final String sessionName;
+        private final Instant expiry;
+
+        Deadline(String sessionUid, String sessionName, Instant expiry) {
+            this.sessionUid = sessionUid;
+            this.sessionName = sessionName;
+            this.expiry = expiry;
+        }
+
+        public String getSessionUid() {
+            return sessionUid;
+        }
+
+        public String getSessionName() {
+            return sessionName;
+        }
+
+        public Instant getExpiry() {
+            return expiry;
+        }
+    }
+}
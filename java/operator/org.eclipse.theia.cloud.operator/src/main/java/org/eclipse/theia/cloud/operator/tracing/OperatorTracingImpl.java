@@ -0,0 +1,70 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.tracing;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.util.TracingUtil;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+
+import com.google.inject.Inject;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+
+/**
+ * Exports the spans in batches to the configured OTLP endpoint, e.g. an OpenTelemetry collector.
+ */
+public class OperatorTracingImpl implements OperatorTracing {
+
+    private static final Logger LOGGER = LogManager.getLogger(OperatorTracingImpl.class);
+
+    private static final String COR_ID_TRACING = "tracing";
+
+    private static final String SERVICE_NAME = "theia-cloud-operator";
+
+    @Inject
+    private TheiaCloudOperatorArguments arguments;
+
+    private OpenTelemetrySdk openTelemetry;
+
+    @Override
+    public synchronized void start() {
+        String endpoint = arguments.getOtlpEndpoint();
+        if (openTelemetry != null || endpoint == null || endpoint.isBlank()) {
+            return;
+        }
+        Resource resource = Resource.getDefault()
+                .merge(Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), SERVICE_NAME)));
+        OtlpGrpcSpanExporter exporter = OtlpGrpcSpanExporter.builder().setEndpoint(endpoint).build();
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()//
+                .setResource(resource)//
+                .addSpanProcessor(BatchSpanProcessor.builder(exporter).build())//
+                .build();
+        openTelemetry = OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+        TracingUtil.setOpenTelemetry(openTelemetry);
+        // export the remaining spans on shutdown
+        Runtime.getRuntime().addShutdownHook(new Thread(openTelemetry::close, "tracing-shutdown"));
+        LOGGER.info(formatLogMessage(COR_ID_TRACING, "Exporting traces to " + endpoint));
+    }
+}
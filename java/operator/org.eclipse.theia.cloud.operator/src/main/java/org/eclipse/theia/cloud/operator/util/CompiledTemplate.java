@@ -0,0 +1,94 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template that was split into literal text and placeholders once, so that rendering is a single pass that only
+ * appends the literals and the replacement values.
+ */
+public final class CompiledTemplate {
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
+    /** One more literal than placeholders, literals and placeholders alternate starting with a literal. */
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private CompiledTemplate(List<String> literals, List<String> placeholders) {
+        this.literals = literals.toArray(String[]::new);
+        this.placeholders = placeholders.toArray(String[]::new);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Splits the given template at every occurrence of one of the given placeholders. When several placeholders match
+     * at the same position, the longest one wins, e.g. <code>placeholder-servicename-internal</code> is not treated as
+     * <code>placeholder-servicename</code> followed by text.
+     */
+    public static CompiledTemplate compile(String template, Collection<String> placeholders) {
+        List<String> literals = new ArrayList<>();
+        List<String> foundPlaceholders = new ArrayList<>();
+        int literalStart = 0;
+        int position = 0;
+        while (position < template.length()) {
+            String match = null;
+            for (String placeholder : placeholders) {
+                if (!placeholder.isEmpty() && template.startsWith(placeholder, position)
+                        && (match == null || placeholder.length() > match.length())) {
+                    match = placeholder;
+                }
+            }
+            if (match == null) {
+                position++;
+                continue;
+            }
+            literals.add(template.substring(literalStart, position));
+            foundPlaceholders.add(match);
+            position += match.length();
+            literalStart = position;
+        }
+        literals.add(template.substring(literalStart));
+        return new CompiledTemplate(literals, foundPlaceholders);
+    }
+
+    /**
+     * @param replacements values by placeholder. Missing or <code>null</code> values are rendered as empty string.
+     */
+    public String render(Map<String, String> replacements) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(literalLength + 64 * placeholders.length);
+        buffer.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = replacements.get(placeholders[i]);
+            if (value != null) {
+                buffer.append(value);
+            }
+            buffer.append(literals[i + 1]);
+        }
+        return buffer.toString();
+    }
+
+    public int getPlaceholderCount() {
+        return placeholders.length;
+    }
+}
@@ -26,9 +26,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URISyntaxException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -37,24 +45,65 @@ import org.apache.logging.log4j.Logger;
 public final class JavaResourceUtil {
 
     private static final String TEMPLATES = "/templates";
+    private static final String COR_ID_TEMPLATES = "templates";
     private static final Logger LOGGER = LogManager.getLogger(JavaResourceUtil.class);
 
+    /**
+     * Compiled templates by resource name and the placeholders they were compiled for. Cleared whenever a file in
+     * {@value #TEMPLATES} changes.
+     */
+    private static final Map<String, Map<Set<String>, CompiledTemplate>> COMPILED_TEMPLATES = new ConcurrentHashMap<>();
+    /** Incremented before the compiled templates are cleared, so compiles that overlap a change can detect it. */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    static {
+        watchTemplateOverrides();
+    }
+
     private JavaResourceUtil() {
     }
 
     public static String readResourceAndReplacePlaceholders(String resourceName, Map<String, String> replacements,
             String correlationId) throws IOException, URISyntaxException {
-        try (InputStream inputStream = getInputStream(resourceName, correlationId)) {
-            String template = new BufferedReader(new InputStreamReader(inputStream)).lines().parallel()
-                    .collect(Collectors.joining("\n"));
-            LOGGER.trace(formatLogMessage(correlationId, "Replacing placeholders. Starting template:\n" + template));
-            for (Entry<String, String> replacement : replacements.entrySet()) {
-                String value = replacement.getValue() != null ? replacement.getValue() : "";
-                template = template.replace(replacement.getKey(), value);
-                LOGGER.trace(formatLogMessage(correlationId, "Replaced " + replacement.getKey() + " with " + value));
+        String result = getCompiledTemplate(resourceName, replacements.keySet(), correlationId).render(replacements);
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(formatLogMessage(correlationId, "Replacement finished. Result:\n" + result));
+        }
+        return result;
+    }
+
+    protected static CompiledTemplate getCompiledTemplate(String resourceName, Set<String> placeholders,
+            String correlationId) throws IOException {
+        Map<Set<String>, CompiledTemplate> byPlaceholders = COMPILED_TEMPLATES.computeIfAbsent(resourceName,
+                key -> new ConcurrentHashMap<>());
+        CompiledTemplate compiled = byPlaceholders.get(placeholders);
+        if (compiled == null) {
+            long generation = GENERATION.get();
+            String template = readResource(resourceName, correlationId);
+            compiled = CompiledTemplate.compile(template, placeholders);
+            LOGGER.trace(formatLogMessage(correlationId, "Compiled template " + resourceName + " with "
+                    + compiled.getPlaceholderCount() + " placeholder occurrences"));
+            Set<String> key = Set.copyOf(placeholders);
+            byPlaceholders.put(key, compiled);
+            // the template may have been read before a change whose clear already ran, this must not stay cached
+            if (GENERATION.get() != generation) {
+                byPlaceholders.remove(key, compiled);
             }
-            LOGGER.trace(formatLogMessage(correlationId, "Replacement finished. Result:\n" + template));
-            return template;
+        }
+        return compiled;
+    }
+
+    /**
+     * Drops all compiled templates, so they are read and compiled again on their next use.
+     */
+    protected static void invalidateCompiledTemplates() {
+        GENERATION.incrementAndGet();
+        COMPILED_TEMPLATES.clear();
+    }
+
+    protected static String readResource(String resourceName, String correlationId) throws IOException {
+        try (InputStream inputStream = getInputStream(resourceName, correlationId)) {
+            return new BufferedReader(new InputStreamReader(inputStream)).lines().collect(Collectors.joining("\n"));
         }
     }
 
@@ -72,4 +121,43 @@ public final class JavaResourceUtil {
         return JavaResourceUtil.class.getResourceAsStream(resourceName);
     }
 
+    /**
+     * Custom templates are usually mounted from a config map, which is updated by swapping a symlink. So instead of
+     * tracking single files, all compiled templates are dropped on any change in the directory.
+     */
+    private static void watchTemplateOverrides() {
+        Path templates = Paths.get(TEMPLATES);
+        if (!templates.toFile().isDirectory()) {
+            return;
+        }
+        WatchService watchService;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            templates.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            LOGGER.warn(formatLogMessage(COR_ID_TEMPLATES,
+                    "Could not watch " + TEMPLATES + ". Changed templates are only picked up after a restart."), e);
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            while (true) {
+                WatchKey key;
+                try {
+                    key = watchService.take();
+                } catch (InterruptedException | ClosedWatchServiceException e) {
+                    return;
+                }
+                key.pollEvents();
+                invalidateCompiledTemplates();
+                LOGGER.info(formatLogMessage(COR_ID_TEMPLATES, "Templates in " + TEMPLATES + " changed"));
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        }, "template-watch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
 }
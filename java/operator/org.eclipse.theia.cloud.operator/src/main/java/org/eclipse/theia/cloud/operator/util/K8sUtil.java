@@ -30,6 +30,7 @@ import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.theia.cloud.common.k8s.client.ResourcePages;
 import org.eclipse.theia.cloud.common.k8s.resource.ResourceEdit;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
@@ -57,45 +58,43 @@ public final class K8sUtil {
 
     public static Optional<Ingress> getExistingIngress(NamespacedKubernetesClient client, String namespace,
             String ingressName) {
-        return client.network().v1().ingresses().inNamespace(namespace).list().getItems().stream()//
-                .filter(ingress -> ingressName.equals(ingress.getMetadata().getName()))//
-                .findAny();
+        return Optional.ofNullable(client.network().v1().ingresses().inNamespace(namespace).withName(ingressName).get());
     }
 
     public static Optional<Ingress> getExistingIngress(NamespacedKubernetesClient client, String namespace,
             String ownerName, String ownerUid) {
         return getExistingTypesStream(client, namespace, ownerName, ownerUid,
-                client.network().v1().ingresses().list().getItems())//
+                ResourcePages.stream(client.network().v1().ingresses()))//
                         .findAny();
     }
 
     public static List<Service> getExistingServices(NamespacedKubernetesClient client, String namespace,
             String ownerName, String ownerUid) {
         return getExistingTypes(client, namespace, ownerName, ownerUid,
-                client.services().inNamespace(namespace).list().getItems());
+                ResourcePages.stream(client.services().inNamespace(namespace)));
     }
 
     public static List<Deployment> getExistingDeployments(NamespacedKubernetesClient client, String namespace,
             String ownerName, String ownerUid) {
         return getExistingTypes(client, namespace, ownerName, ownerUid,
-                client.apps().deployments().inNamespace(namespace).list().getItems());
+                ResourcePages.stream(client.apps().deployments().inNamespace(namespace)));
     }
 
     public static List<ConfigMap> getExistingConfigMaps(NamespacedKubernetesClient client, String namespace,
             String ownerName, String ownerUid) {
         return getExistingTypes(client, namespace, ownerName, ownerUid,
-                client.configMaps().inNamespace(namespace).list().getItems());
+                ResourcePages.stream(client.configMaps().inNamespace(namespace)));
     }
 
     private static <T extends HasMetadata> List<T> getExistingTypes(NamespacedKubernetesClient client, String namespace,
-            String ownerName, String ownerUid, List<T> items) {
+            String ownerName, String ownerUid, Stream<T> items) {
         return getExistingTypesStream(client, namespace, ownerName, ownerUid, items)//
                 .collect(Collectors.toList());
     }
 
     private static <T extends HasMetadata> Stream<T> getExistingTypesStream(NamespacedKubernetesClient client,
-            String namespace, String ownerName, String ownerUid, List<T> items) {
-        return items.stream()//
+            String namespace, String ownerName, String ownerUid, Stream<T> items) {
+        return items//
                 .filter(item -> hasThisTemplateOwnerReference(item.getMetadata().getOwnerReferences(), ownerUid,
                         ownerName));
     }
@@ -155,6 +154,32 @@ public final class K8sUtil {
                 labelsToAdd, additionalModification);
     }
 
+    public static Optional<Service> createServiceWithOwnerReference(NamespacedKubernetesClient client,
+            String namespace, String correlationId, Service service, String ownerAPIVersion, String ownerKind,
+            String ownerName, String ownerUid, int ownerReferenceIndex, Map<String, String> labelsToAdd) {
+        return createTypeWithOwnerReference(correlationId, service, ownerAPIVersion, ownerKind, ownerName, ownerUid,
+                ownerReferenceIndex, SERVICE, client.services().inNamespace(namespace), labelsToAdd, item -> {
+                });
+    }
+
+    public static Optional<ConfigMap> createConfigMapWithOwnerReference(NamespacedKubernetesClient client,
+            String namespace, String correlationId, ConfigMap configMap, String ownerAPIVersion, String ownerKind,
+            String ownerName, String ownerUid, int ownerReferenceIndex, Map<String, String> labelsToAdd,
+            Consumer<ConfigMap> additionalModification) {
+        return createTypeWithOwnerReference(correlationId, configMap, ownerAPIVersion, ownerKind, ownerName, ownerUid,
+                ownerReferenceIndex, CONFIG_MAP, client.configMaps().inNamespace(namespace), labelsToAdd,
+                additionalModification);
+    }
+
+    public static Optional<Deployment> createDeploymentWithOwnerReference(NamespacedKubernetesClient client,
+            String namespace, String correlationId, Deployment deployment, String ownerAPIVersion, String ownerKind,
+            String ownerName, String ownerUid, int ownerReferenceIndex, Map<String, String> labelsToAdd,
+            Consumer<Deployment> additionalModification) {
+        return createTypeWithOwnerReference(correlationId, deployment, ownerAPIVersion, ownerKind, ownerName,
+                ownerUid, ownerReferenceIndex, DEPLOYMENT, client.apps().deployments().inNamespace(namespace),
+                labelsToAdd, additionalModification);
+    }
+
     private static <T extends HasMetadata, U, V extends Resource<T>> Optional<T> loadAndCreateTypeWithOwnerReference(
             NamespacedKubernetesClient client, String namespace, String correlationId, String yaml,
             String ownerAPIVersion, String ownerKind, String ownerName, String ownerUid, int ownerReferenceIndex,
@@ -163,46 +188,56 @@ public final class K8sUtil {
 
         try (ByteArrayInputStream inputStream = new ByteArrayInputStream(yaml.getBytes())) {
 
-            LOGGER.trace(formatLogMessage(correlationId, "Loading new " + typeName + ":\n" + yaml));
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(formatLogMessage(correlationId, "Loading new " + typeName + ":\n" + yaml));
+            }
             T newItem = items.load(inputStream).item();
             if (newItem == null) {
                 LOGGER.error(formatLogMessage(correlationId, "Loading new " + typeName + " resulted in null object"));
                 return Optional.empty();
             }
+            return createTypeWithOwnerReference(correlationId, newItem, ownerAPIVersion, ownerKind, ownerName,
+                    ownerUid, ownerReferenceIndex, typeName, items, labelsToAdd, additionalModification);
+        } catch (IOException e) {
+            LOGGER.error(formatLogMessage(correlationId, "Error while reading yaml byte stream"), e);
+        }
+        return Optional.empty();
+    }
 
-            // Apply labels to the resource metadata
-            if (newItem.getMetadata().getLabels() == null) {
-                newItem.getMetadata().setLabels(new HashMap<>());
-            }
-            newItem.getMetadata().getLabels().putAll(labelsToAdd);
-
-            // If the resource is a Deployment, also apply labels to the pod template metadata
-            if (newItem instanceof Deployment deployment) {
-                if (deployment.getSpec().getTemplate().getMetadata().getLabels() == null) {
-                    deployment.getSpec().getTemplate().getMetadata().setLabels(new HashMap<>());
-                }
-                deployment.getSpec().getTemplate().getMetadata().getLabels().putAll(labelsToAdd);
+    private static <T extends HasMetadata, U, V extends Resource<T>> Optional<T> createTypeWithOwnerReference(
+            String correlationId, T newItem, String ownerAPIVersion, String ownerKind, String ownerName,
+            String ownerUid, int ownerReferenceIndex, String typeName, NonNamespaceOperation<T, U, V> items,
+            Map<String, String> labelsToAdd, Consumer<T> additionalModification) {
+        // Apply labels to the resource metadata
+        if (newItem.getMetadata().getLabels() == null) {
+            newItem.getMetadata().setLabels(new HashMap<>());
+        }
+        newItem.getMetadata().getLabels().putAll(labelsToAdd);
+
+        // If the resource is a Deployment, also apply labels to the pod template metadata
+        if (newItem instanceof Deployment deployment) {
+            if (deployment.getSpec().getTemplate().getMetadata().getLabels() == null) {
+                deployment.getSpec().getTemplate().getMetadata().setLabels(new HashMap<>());
             }
+            deployment.getSpec().getTemplate().getMetadata().getLabels().putAll(labelsToAdd);
+        }
 
-            ResourceEdit.<T> updateOwnerReference(ownerReferenceIndex, ownerAPIVersion, ownerKind, ownerName, ownerUid,
-                    correlationId).andThen(additionalModification).accept(newItem);
+        ResourceEdit.<T> updateOwnerReference(ownerReferenceIndex, ownerAPIVersion, ownerKind, ownerName, ownerUid,
+                correlationId).andThen(additionalModification).accept(newItem);
 
+        if (LOGGER.isTraceEnabled()) {
             String resultingYaml;
             try {
                 resultingYaml = Serialization.asYaml(newItem);
             } catch (Exception e) {
                 resultingYaml = "Serializing " + typeName + " to Yaml failed.";
             }
-
             LOGGER.trace(formatLogMessage(correlationId, "Creating new " + typeName + ":\n" + resultingYaml));
-            items.resource(newItem).create();
-            LOGGER.info(formatLogMessage(correlationId, "Created a new " + typeName));
-
-            return Optional.of(newItem);
-        } catch (IOException e) {
-            LOGGER.error(formatLogMessage(correlationId, "Error while reading yaml byte stream"), e);
         }
-        return Optional.empty();
+        items.resource(newItem).create();
+        LOGGER.info(formatLogMessage(correlationId, "Created a new " + typeName));
+
+        return Optional.of(newItem);
     }
 
 }
@@ -0,0 +1,223 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.util;
+
+import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+/**
+ * Creates resources from templates without parsing YAML for every resource. A template is rendered with all values
+ * that do not depend on the session and parsed once into a prototype. Every resource is then a copy of the prototype
+ * in which only the text values containing session placeholders are rendered.
+ * <p>
+ * Prototypes are cached by template and a hash of the values of all other placeholders, so a changed app definition
+ * or operator configuration leads to a new prototype without keeping values like tokens in the cache keys. Templates
+ * in which a session placeholder is not part of a text value (e.g. in a key or as a whole YAML block) cannot be used
+ * as prototype and are reported as empty.
+ * </p>
+ */
+public final class ResourcePrototypes {
+
+    private static final Logger LOGGER = LogManager.getLogger(ResourcePrototypes.class);
+
+    private static final int MAX_PROTOTYPES = 256;
+
+    private static final Map<String, Optional<Prototype>> PROTOTYPES = Collections
+            .synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Entry<String, Optional<Prototype>> eldest) {
+                    return size() > MAX_PROTOTYPES;
+                }
+            });
+
+    private ResourcePrototypes() {
+    }
+
+    /**
+     * @param resourceName        the template
+     * @param replacements        values for all placeholders of the template
+     * @param sessionPlaceholders the placeholders whose values differ between sessions. They must only occur in text
+     *                                values.
+     * @param type                the type of the resource described by the template
+     * @return a new resource, or an empty optional if the template cannot be used as prototype
+     */
+    public static <T extends HasMetadata> Optional<T> instantiate(String resourceName,
+            Map<String, String> replacements, Set<String> sessionPlaceholders, Class<T> type, String correlationId) {
+        Map<String, String> prototypeReplacements = new TreeMap<>();
+        Map<String, String> sessionReplacements = new LinkedHashMap<>();
+        for (Entry<String, String> replacement : replacements.entrySet()) {
+            if (sessionPlaceholders.contains(replacement.getKey())) {
+                // leave the placeholder in the prototype so that it can be found in the parsed tree
+                prototypeReplacements.put(replacement.getKey(), replacement.getKey());
+                sessionReplacements.put(replacement.getKey(), replacement.getValue());
+            } else {
+                prototypeReplacements.put(replacement.getKey(), replacement.getValue());
+            }
+        }
+        String key = key(resourceName, prototypeReplacements);
+        Optional<Prototype> prototype = PROTOTYPES.get(key);
+        if (prototype == null) {
+            prototype = createPrototype(resourceName, prototypeReplacements, sessionReplacements.keySet(),
+                    correlationId);
+            PROTOTYPES.put(key, prototype);
+        }
+        if (prototype.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(prototype.get().instantiate(sessionReplacements, type));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            LOGGER.error(formatLogMessage(correlationId, "Could not create " + type.getSimpleName()
+                    + " from prototype of " + resourceName), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the template name followed by a SHA-256 hash of the given replacements
+     */
+    protected static String key(String resourceName, Map<String, String> replacements) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+        for (Entry<String, String> replacement : new TreeMap<>(replacements).entrySet()) {
+            // separators that cannot be part of the values keep different replacements apart
+            digest.update(replacement.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(replacement.getValue()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return resourceName + "#" + HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static Optional<Prototype> createPrototype(String resourceName, Map<String, String> replacements,
+            Set<String> sessionPlaceholders, String correlationId) {
+        try {
+            String yaml = JavaResourceUtil.readResourceAndReplacePlaceholders(resourceName, replacements,
+                    correlationId);
+            JsonNode tree = Serialization.unmarshal(yaml, JsonNode.class);
+            if (!(tree instanceof ObjectNode)) {
+                LOGGER.warn(formatLogMessage(correlationId, resourceName + " does not describe a single resource"));
+                return Optional.empty();
+            }
+            List<VariableValue> variableValues = new ArrayList<>();
+            collectVariableValues(tree, JsonPointer.empty(), sessionPlaceholders, variableValues);
+
+            // every session placeholder in the template has to end up in a text value we can render
+            int expected = CompiledTemplate.compile(yaml, sessionPlaceholders).getPlaceholderCount();
+            int found = variableValues.stream().mapToInt(value -> value.template.getPlaceholderCount()).sum();
+            if (expected != found) {
+                LOGGER.info(formatLogMessage(correlationId, resourceName
+                        + " uses session placeholders outside of text values and is created from YAML instead"));
+                return Optional.empty();
+            }
+            LOGGER.info(formatLogMessage(correlationId, "Created prototype of " + resourceName + " with "
+                    + variableValues.size() + " session specific values"));
+            return Optional.of(new Prototype((ObjectNode) tree, variableValues));
+        } catch (Exception e) {
+            LOGGER.error(formatLogMessage(correlationId, "Could not create prototype of " + resourceName), e);
+            return Optional.empty();
+        }
+    }
+
+    private static void collectVariableValues(JsonNode node, JsonPointer pointer, Set<String> sessionPlaceholders,
+            List<VariableValue> variableValues) {
+        if (node.isObject()) {
+            Iterator<Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Entry<String, JsonNode> field = fields.next();
+                collectVariableValues(field.getValue(), pointer.appendProperty(field.getKey()), sessionPlaceholders,
+                        variableValues);
+            }
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                collectVariableValues(node.get(i), pointer.appendIndex(i), sessionPlaceholders, variableValues);
+            }
+        } else if (node.isTextual()) {
+            CompiledTemplate template = CompiledTemplate.compile(node.textValue(), sessionPlaceholders);
+            if (template.getPlaceholderCount() > 0) {
+                variableValues.add(new VariableValue(pointer, template));
+            }
+        }
+    }
+
+    private static final class Prototype {
+        private final ObjectNode tree;
+        private final List<VariableValue> variableValues;
+
+        Prototype(ObjectNode tree, List<VariableValue> variableValues) {
+            this.tree = tree;
+            this.variableValues = variableValues;
+        }
+
+        <T> T instantiate(Map<String, String> sessionReplacements, Class<T> type) throws JsonProcessingException {
+            ObjectNode copy = tree.deepCopy();
+            for (VariableValue value : variableValues) {
+                JsonNode parent = copy.at(value.pointer.head());
+                TextNode text = TextNode.valueOf(value.template.render(sessionReplacements));
+                if (parent instanceof ObjectNode object) {
+                    object.set(value.pointer.last().getMatchingProperty(), text);
+                } else if (parent instanceof ArrayNode array) {
+                    array.set(value.pointer.last().getMatchingIndex(), text);
+                }
+            }
+            return Serialization.jsonMapper().treeToValue(copy, type);
+        }
+    }
+
+    private static final class VariableValue {
+        private final JsonPointer pointer;
+        private final CompiledTemplate template;
+
+        VariableValue(JsonPointer pointer, CompiledTemplate template) {
+            this.pointer = pointer;
+            this.template = template;
+        }
+    }
+}
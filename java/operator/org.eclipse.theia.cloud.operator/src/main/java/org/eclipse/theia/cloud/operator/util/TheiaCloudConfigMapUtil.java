@@ -38,6 +38,10 @@ public final class TheiaCloudConfigMapUtil {
     public static final String CONFIGMAP_PROXY_NAME = "proxy";
     public static final String CONFIGMAP_EMAIL_NAME = "email";
 
+    /** Placeholders of the config map templates whose values differ between sessions. */
+    public static final Set<String> SESSION_PLACEHOLDERS = Set.of(TheiaCloudHandlerUtil.PLACEHOLDER_CONFIGNAME,
+            TheiaCloudHandlerUtil.PLACEHOLDER_EMAILSCONFIGNAME);
+
     private TheiaCloudConfigMapUtil() {
     }
 
@@ -21,6 +21,7 @@ import static org.eclipse.theia.cloud.common.util.NamingUtil.asValidName;
 
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -50,7 +51,13 @@ public final class TheiaCloudHandlerUtil {
 
     public static <T extends HasMetadata> Set<Integer> computeIdsOfMissingItems(int instances, List<T> existingItems,
             Function<T, Integer> getId) {
-        Set<Integer> missing = IntStream.rangeClosed(1, instances).boxed().collect(Collectors.toSet());
+        return computeIdsOfMissingItems(IntStream.rangeClosed(1, instances).boxed().collect(Collectors.toSet()),
+                existingItems, getId);
+    }
+
+    public static <T extends HasMetadata> Set<Integer> computeIdsOfMissingItems(Set<Integer> ids, List<T> existingItems,
+            Function<T, Integer> getId) {
+        Set<Integer> missing = new TreeSet<>(ids);
         existingItems.stream()//
                 .map(getId)//
                 .forEach(missing::remove);
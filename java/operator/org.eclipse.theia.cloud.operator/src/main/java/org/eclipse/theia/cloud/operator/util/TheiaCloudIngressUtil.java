@@ -25,7 +25,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
-import org.eclipse.theia.cloud.common.util.JavaUtil;
 import org.eclipse.theia.cloud.operator.handler.AddedHandlerUtil;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
@@ -69,14 +68,16 @@ public final class TheiaCloudIngressUtil {
 
     public static void addOwnerReferenceToIngress(NamespacedKubernetesClient client, String namespace, Ingress ingress,
             OwnerReference ownerReference) {
-        client.network().v1().ingresses().inNamespace(namespace).withName(ingress.getMetadata().getName()).edit(JavaUtil
-                .toUnary(ingressToEdit -> ingressToEdit.getMetadata().getOwnerReferences().add(ownerReference)));
+        TheiaCloudPatchUtil.strategicMergePatch(
+                client.network().v1().ingresses().inNamespace(namespace).withName(ingress.getMetadata().getName()),
+                TheiaCloudPatchUtil.withOwnerReference(TheiaCloudPatchUtil.patch(), ownerReference));
     }
 
     public static void removeIngressRule(NamespacedKubernetesClient client, String namespace, Ingress ingress,
             String path, String pathSuffix, String correlationId) {
-        client.network().v1().ingresses().inNamespace(namespace).withName(ingress.getMetadata().getName())
-                .edit(JavaUtil.toUnary(ingressToEdit -> removeIngressRule(ingressToEdit, path, pathSuffix, correlationId)));
+        TheiaCloudPatchUtil.edit(
+                client.network().v1().ingresses().inNamespace(namespace).withName(ingress.getMetadata().getName()),
+                ingressToEdit -> removeIngressRule(ingressToEdit, path, pathSuffix, correlationId));
     }
 
     private static void removeIngressRule(Ingress ingressToEdit, String path, String pathSuffix, String correlationId) {
@@ -122,11 +123,12 @@ public final class TheiaCloudIngressUtil {
         AtomicInteger removedCount = new AtomicInteger(0);
 
         try {
-            client.network().v1().ingresses().inNamespace(namespace).withName(ingress.getMetadata().getName())
-                    .edit(JavaUtil.toUnary(ingressToEdit -> {
+            TheiaCloudPatchUtil.edit(
+                    client.network().v1().ingresses().inNamespace(namespace).withName(ingress.getMetadata().getName()),
+                    ingressToEdit -> {
                         int count = removeIngressRules(ingressToEdit, path, pathSuffix, hosts, correlationId);
                         removedCount.set(count);
-                    }));
+                    });
         } catch (Exception e) {
             LOGGER.error(formatLogMessage(correlationId,
                     "Error while removing ingress rules for path " + path + " across " + hosts.size() + " hosts"), e);
@@ -137,7 +139,7 @@ public final class TheiaCloudIngressUtil {
     }
 
     /**
-     * Internal method to remove ingress rules for all given hosts during an edit operation.
+     * Removes ingress rules for all given hosts during an edit operation.
      * 
      * @param ingressToEdit the ingress being edited
      * @param path          the path to remove (without the rewrite suffix)
@@ -146,7 +148,7 @@ public final class TheiaCloudIngressUtil {
      * @param correlationId the correlation ID for logging
      * @return the number of rules removed
      */
-    private static int removeIngressRules(Ingress ingressToEdit, String path, String pathSuffix, List<String> hosts,
+    public static int removeIngressRules(Ingress ingressToEdit, String path, String pathSuffix, List<String> hosts,
             String correlationId) {
         String ingressPath = path + pathSuffix;
         AtomicInteger removedCount = new AtomicInteger(0);
@@ -18,6 +18,8 @@ package org.eclipse.theia.cloud.operator.util;
 
 import static org.eclipse.theia.cloud.common.util.LogMessageUtil.formatLogMessage;
 
+import java.util.Collection;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.theia.cloud.common.k8s.resource.OperatorStatus;
@@ -25,10 +27,8 @@ import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinitionSpec;
 import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
 import org.eclipse.theia.cloud.common.k8s.resource.session.SessionSpec;
-import org.eclipse.theia.cloud.common.k8s.resource.session.SessionSpecResourceList;
 
 import io.fabric8.kubernetes.api.model.ObjectMeta;
-import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
 
 public final class TheiaCloudK8sUtil {
 
@@ -37,8 +37,8 @@ public final class TheiaCloudK8sUtil {
     private TheiaCloudK8sUtil() {
     }
 
-    public static boolean checkIfMaxInstancesReached(NamespacedKubernetesClient client, String namespace,
-            SessionSpec sessionSpec, AppDefinitionSpec appDefinitionSpec, String correlationId) {
+    public static boolean checkIfMaxInstancesReached(Collection<Session> sessions, SessionSpec sessionSpec,
+            AppDefinitionSpec appDefinitionSpec, String correlationId) {
 
         if (appDefinitionSpec.getMaxInstances() == null || appDefinitionSpec.getMaxInstances() < 0) {
             LOGGER.debug(formatLogMessage(correlationId,
@@ -53,8 +53,7 @@ public final class TheiaCloudK8sUtil {
             return true;
         }
 
-        long currentInstances = client.resources(Session.class, SessionSpecResourceList.class).inNamespace(namespace)
-                .list().getItems().stream()//
+        long currentInstances = sessions.stream()//
                 .filter(w -> {
                     String sessionAppDefinition = w.getSpec().getAppDefinition();
                     // Errored resources should not be counted
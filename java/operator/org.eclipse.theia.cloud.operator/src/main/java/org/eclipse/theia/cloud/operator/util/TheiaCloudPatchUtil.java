@@ -0,0 +1,149 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.util;
+
+import java.net.HttpURLConnection;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.eclipse.theia.cloud.common.k8s.client.ResourceClient;
+import org.eclipse.theia.cloud.common.util.JsonMergePatch;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+/**
+ * Changes Kubernetes resources with a single patch request instead of reading and replacing them. Labels, annotations
+ * and data entries are merged by key. Owner references are sent as strategic merge patch, which merges them by their
+ * uid, so concurrent changes to other owner references are kept.
+ */
+public final class TheiaCloudPatchUtil {
+
+    /** Attempts to apply a change that is based on the current state of a resource that is changed concurrently. */
+    public static final int EDIT_ATTEMPTS = 5;
+
+    private TheiaCloudPatchUtil() {
+    }
+
+    public static ObjectNode patch() {
+        return JsonNodeFactory.instance.objectNode();
+    }
+
+    public static ObjectNode withLabels(ObjectNode patch, Map<String, String> labels) {
+        ObjectNode node = metadata(patch).withObjectProperty("labels");
+        labels.forEach(node::put);
+        return patch;
+    }
+
+    public static ObjectNode withoutLabels(ObjectNode patch, Collection<String> keys) {
+        ObjectNode node = metadata(patch).withObjectProperty("labels");
+        keys.forEach(node::putNull);
+        return patch;
+    }
+
+    public static ObjectNode withAnnotation(ObjectNode patch, String key, String value) {
+        metadata(patch).withObjectProperty("annotations").put(key, value);
+        return patch;
+    }
+
+    /**
+     * @param value the value or <code>null</code> to remove the entry
+     */
+    public static ObjectNode withData(ObjectNode patch, String key, String value) {
+        patch.withObjectProperty("data").put(key, value);
+        return patch;
+    }
+
+    /**
+     * Only for {@link #strategicMergePatch(Resource, ObjectNode)}.
+     */
+    public static ObjectNode withOwnerReference(ObjectNode patch, OwnerReference ownerReference) {
+        ownerReferences(patch).add(Serialization.jsonMapper().valueToTree(ownerReference));
+        return patch;
+    }
+
+    /**
+     * Only for {@link #strategicMergePatch(Resource, ObjectNode)}.
+     */
+    public static ObjectNode withoutOwnerReference(ObjectNode patch, String uid) {
+        ownerReferences(patch).addObject().put("$patch", "delete").put("uid", uid);
+        return patch;
+    }
+
+    public static <T extends HasMetadata> T mergePatch(Resource<T> resource, ObjectNode patch) {
+        return send(resource, PatchType.JSON_MERGE, patch);
+    }
+
+    public static <T extends HasMetadata> T strategicMergePatch(Resource<T> resource, ObjectNode patch) {
+        return send(resource, PatchType.STRATEGIC_MERGE, patch);
+    }
+
+    /**
+     * Applies a change that depends on the current state of the resource, e.g. removing an entry of a list that has
+     * no merge key. The change is sent as merge patch that is locked to the resource version it was applied to and
+     * applied again to the new state if the resource was changed in the meantime.
+     *
+     * @return the changed resource or <code>null</code> if the resource does not exist
+     */
+    public static <T extends HasMetadata> T edit(Resource<T> resource, Consumer<T> change) {
+        for (int attempt = 1;; attempt++) {
+            T current = resource.get();
+            if (current == null) {
+                return null;
+            }
+            Optional<String> patch = JsonMergePatch.create(current, change, false, true);
+            if (patch.isEmpty()) {
+                return current;
+            }
+            try {
+                return resource.patch(context(PatchType.JSON_MERGE), patch.get());
+            } catch (KubernetesClientException e) {
+                if (e.getCode() != HttpURLConnection.HTTP_CONFLICT || attempt >= EDIT_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static <T extends HasMetadata> T send(Resource<T> resource, PatchType type, ObjectNode patch) {
+        return resource.patch(context(type), patch.toString());
+    }
+
+    private static PatchContext context(PatchType type) {
+        PatchContext context = PatchContext.of(type);
+        context.setFieldManager(ResourceClient.FIELD_MANAGER);
+        return context;
+    }
+
+    private static ObjectNode metadata(ObjectNode patch) {
+        return patch.withObjectProperty("metadata");
+    }
+
+    private static ArrayNode ownerReferences(ObjectNode patch) {
+        return metadata(patch).withArrayProperty("ownerReferences");
+    }
+}
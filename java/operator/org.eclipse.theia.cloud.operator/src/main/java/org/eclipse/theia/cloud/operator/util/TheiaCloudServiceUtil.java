@@ -43,6 +43,10 @@ public final class TheiaCloudServiceUtil {
     public static final String PLACEHOLDER_SERVICENAME = "placeholder-servicename";
     public static final String PLACEHOLDER_SERVICENAME_INTERNAL = "placeholder-servicename-internal";
 
+    /** Placeholders of the service templates whose values differ between sessions. */
+    public static final Set<String> SESSION_PLACEHOLDERS = Set.of(PLACEHOLDER_SERVICENAME,
+            PLACEHOLDER_SERVICENAME_INTERNAL, TheiaCloudHandlerUtil.PLACEHOLDER_APP);
+
     private TheiaCloudServiceUtil() {
     }
 
@@ -0,0 +1,157 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.handler.appdef;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinitionSpec;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
+import org.eclipse.theia.cloud.operator.util.TheiaCloudServiceUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+
+/**
+ * Unit tests for the resizing of the warm pool by {@link EagerStartAppDefinitionAddedHandler}.
+ */
+class EagerStartAppDefinitionAddedHandlerTests {
+
+    private static final String APP_DEFINITION_UID = "6f1a8966-4d5a-41dc-82ba-381261d79c23";
+
+    private TheiaCloudCache cache;
+    private AppDefinition appDefinition;
+    private RecordingHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(TheiaCloudCache.class);
+        AppDefinitionSpec spec = new AppDefinitionSpec() {
+            @Override
+            public String getName() {
+                return "appdef";
+            }
+        };
+        appDefinition = new AppDefinition();
+        appDefinition.setMetadata(new ObjectMetaBuilder()//
+                .withName("appdef")//
+                .withUid(APP_DEFINITION_UID)//
+                .build());
+        appDefinition.setSpec(spec);
+        handler = new RecordingHandler();
+        handler.cache = cache;
+    }
+
+    @Test
+    void resize_Grow_MissingIdsFilledFromLowest() {
+        givenInstances(service(1, false), service(3, true));
+
+        handler.resize(appDefinition, 4, "test");
+
+        assertEquals(Set.of(1, 2, 3, 4), handler.created);
+        assertTrue(handler.removed.isEmpty());
+    }
+
+    @Test
+    void resize_SameSize_IncompleteInstancesCompleted() {
+        givenInstances(service(1, false), service(2, false));
+
+        handler.resize(appDefinition, 2, "test");
+
+        assertEquals(Set.of(1, 2), handler.created);
+        assertTrue(handler.removed.isEmpty());
+    }
+
+    @Test
+    void resize_Shrink_UnusedInstancesWithHighestIdsRemoved() {
+        givenInstances(service(1, false), service(2, false), service(3, true), service(4, false));
+
+        handler.resize(appDefinition, 2, "test");
+
+        assertEquals(List.of(4, 2), handler.removed);
+        assertNull(handler.created);
+    }
+
+    @Test
+    void resize_ShrinkBelowUsedInstances_OnlyUnusedInstancesRemoved() {
+        givenInstances(service(1, true), service(2, false), service(3, true));
+
+        handler.resize(appDefinition, 1, "test");
+
+        assertEquals(List.of(2), handler.removed);
+    }
+
+    private void givenInstances(Service... services) {
+        List<Service> all = new ArrayList<>(List.of(services));
+        // the internal services are owned by the app definition as well but are no instances of their own
+        for (Service service : services) {
+            Integer id = TheiaCloudServiceUtil.getId("test", appDefinition, service);
+            all.add(service(TheiaCloudServiceUtil.getInternalServiceName(appDefinition, id), false));
+        }
+        when(cache.getServicesByOwner(APP_DEFINITION_UID)).thenReturn(all);
+    }
+
+    private Service service(int instance, boolean used) {
+        return service(TheiaCloudServiceUtil.getServiceName(appDefinition, instance), used);
+    }
+
+    private static Service service(String name, boolean used) {
+        Service service = new Service();
+        service.setMetadata(new ObjectMetaBuilder()//
+                .withName(name)//
+                .addToOwnerReferences(new OwnerReferenceBuilder()//
+                        .withUid(APP_DEFINITION_UID)//
+                        .build())//
+                .build());
+        if (used) {
+            service.getMetadata().getOwnerReferences().add(new OwnerReferenceBuilder()//
+                    .withUid("session-uid")//
+                    .build());
+        }
+        return service;
+    }
+
+    /**
+     * Records the instances to create and remove instead of writing to the cluster.
+     */
+    private static class RecordingHandler extends EagerStartAppDefinitionAddedHandler {
+
+        private Set<Integer> created;
+        private final List<Integer> removed = new ArrayList<>();
+
+        @Override
+        protected void createInstances(AppDefinition appDefinition, Set<Integer> ids, String correlationId) {
+            created = ids.stream().collect(Collectors.toSet());
+        }
+
+        @Override
+        protected void removeInstance(AppDefinition appDefinition, Service service, String correlationId) {
+            removed.add(TheiaCloudServiceUtil.getId(correlationId, appDefinition, service));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.handler.session;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.theia.cloud.common.k8s.client.StatusWriteBuffer;
+import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.common.k8s.resource.session.SessionStatus;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * Unit tests for the error handling and the limit checks of {@link LazySessionHandler}.
+ */
+class LazySessionHandlerTests {
+
+    private static final String CORRELATION_ID = "abc";
+
+    private RuntimeException error;
+    private LazySessionHandler handler;
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        handler = new LazySessionHandler() {
+            @Override
+            protected boolean doSessionAdded(Session session, String correlationId) {
+                throw error;
+            }
+        };
+        handler.client = mock(TheiaCloudClient.class, RETURNS_DEEP_STUBS);
+        session = new Session();
+    }
+
+    @Test
+    void sessionAdded_TransientError_RethrownForRetry() {
+        error = new KubernetesClientException("unavailable", 503, null);
+        assertSame(error, assertThrows(KubernetesClientException.class,
+                () -> handler.sessionAdded(session, CORRELATION_ID)));
+        verify(handler.client.sessions(), never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void sessionAdded_PermanentError_SetsErrorStatus() {
+        error = new KubernetesClientException("invalid", 422, null);
+        assertFalse(handler.sessionAdded(session, CORRELATION_ID));
+        verify(handler.client.sessions()).updateStatus(eq(CORRELATION_ID), eq(session), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void hasMaxSessionsReached_NoSessionsAllowed_ErrorQueuedOnBuffer() {
+        handler.arguments = mock(TheiaCloudOperatorArguments.class);
+        when(handler.arguments.getSessionsPerUser()).thenReturn(0);
+        StatusWriteBuffer<SessionStatus, Session> statusBuffer = mock(StatusWriteBuffer.class);
+
+        assertTrue(handler.hasMaxSessionsReached(session, statusBuffer, CORRELATION_ID));
+        verify(statusBuffer).update(any());
+        verify(handler.client.sessions(), never()).updateStatus(any(), any(), any());
+    }
+}
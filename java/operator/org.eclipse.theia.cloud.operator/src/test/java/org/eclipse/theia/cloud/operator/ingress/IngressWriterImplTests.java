@@ -0,0 +1,124 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.ingress;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.theia.cloud.common.k8s.client.DefaultTheiaCloudClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.api.model.networking.v1.IngressRuleBuilder;
+import io.fabric8.kubernetes.api.model.networking.v1.IngressSpec;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+
+/**
+ * Unit tests for {@link IngressWriterImpl}, run against a mock server.
+ */
+@EnableKubernetesMockClient
+class IngressWriterImplTests {
+
+    private static final String INGRESS_PATH = "/apis/networking.k8s.io/v1/namespaces/test/ingresses/ingress";
+
+    KubernetesMockServer server;
+    KubernetesClient client;
+
+    private IngressWriterImpl writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new IngressWriterImpl();
+        writer.client = new DefaultTheiaCloudClient(client.adapt(NamespacedKubernetesClient.class).inNamespace("test"));
+    }
+
+    @Test
+    void edit_ConcurrentEdits_WrittenWithOneUpdate() throws Exception {
+        server.expect().get().withPath(INGRESS_PATH).andReturn(200, ingress("1")).once();
+        server.expect().patch().withPath(INGRESS_PATH).andReturn(200, ingress("2")).once();
+
+        CompletableFuture<Boolean> first = writer.edit("abc", "ingress", ingress -> addRule(ingress, "first"));
+        CompletableFuture<Boolean> second = writer.edit("abc", "ingress", ingress -> addRule(ingress, "second"));
+
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+        assertEquals(2, server.getRequestCount());
+        String patch = server.getLastRequest().getBody().readUtf8();
+        assertTrue(patch.contains("first") && patch.contains("second"), patch);
+    }
+
+    @Test
+    void edit_Conflict_EditsAppliedAgainOnCurrentState() throws Exception {
+        server.expect().get().withPath(INGRESS_PATH).andReturn(200, ingress("1")).once();
+        server.expect().patch().withPath(INGRESS_PATH).andReturn(409, null).once();
+        server.expect().get().withPath(INGRESS_PATH).andReturn(200, ingress("2", "concurrent")).once();
+        server.expect().patch().withPath(INGRESS_PATH).andReturn(200, ingress("3")).once();
+
+        assertTrue(writer.editAndWait("abc", "ingress", ingress -> addRule(ingress, "edit")));
+
+        assertEquals(4, server.getRequestCount());
+        String patch = server.getLastRequest().getBody().readUtf8();
+        assertTrue(patch.contains("concurrent") && patch.contains("edit"), patch);
+        assertTrue(patch.contains("\"resourceVersion\":\"2\""), patch);
+    }
+
+    @Test
+    void edit_FailingEdit_OnlyFailsItsOwnFuture() throws Exception {
+        server.expect().get().withPath(INGRESS_PATH).andReturn(200, ingress("1")).once();
+        server.expect().patch().withPath(INGRESS_PATH).andReturn(200, ingress("2")).once();
+        IllegalStateException error = new IllegalStateException("failure");
+
+        CompletableFuture<Boolean> failing = writer.edit("abc", "ingress", ingress -> {
+            throw error;
+        });
+        CompletableFuture<Boolean> succeeding = writer.edit("abc", "ingress", ingress -> addRule(ingress, "edit"));
+
+        assertTrue(succeeding.get(5, TimeUnit.SECONDS));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertSame(error, failure.getCause());
+        String patch = server.getLastRequest().getBody().readUtf8();
+        assertTrue(patch.contains("edit"), patch);
+    }
+
+    private static boolean addRule(Ingress ingress, String host) {
+        return ingress.getSpec().getRules().add(new IngressRuleBuilder().withHost(host).build());
+    }
+
+    private static Ingress ingress(String resourceVersion, String... hosts) {
+        Ingress ingress = new Ingress();
+        ingress.setMetadata(new ObjectMetaBuilder()//
+                .withName("ingress")//
+                .withNamespace("test")//
+                .withResourceVersion(resourceVersion)//
+                .build());
+        ingress.setSpec(new IngressSpec());
+        for (String host : hosts) {
+            addRule(ingress, host);
+        }
+        return ingress;
+    }
+}
@@ -0,0 +1,92 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.leader;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.inject.Guice;
+
+/**
+ * Unit tests for {@link LeadershipImpl}.
+ */
+class LeadershipImplTests {
+
+    private LeadershipImpl leadership;
+
+    @BeforeEach
+    void setUp() {
+        TheiaCloudOperatorArguments arguments = mock(TheiaCloudOperatorArguments.class);
+        when(arguments.getLeaderLeaseDuration()).thenReturn(10);
+        when(arguments.getLeaderRenewDeadline()).thenReturn(5);
+        leadership = Guice
+                .createInjector(binder -> binder.bind(TheiaCloudOperatorArguments.class).toInstance(arguments))
+                .getInstance(LeadershipImpl.class);
+    }
+
+    @Test
+    void runIfResponsible_AfterStandby_SkipsWork() {
+        AtomicBoolean run = new AtomicBoolean();
+        assertTrue(leadership.runIfResponsible(new Session(), () -> run.set(true)));
+        assertTrue(run.getAndSet(false));
+
+        leadership.setLeader(false);
+
+        assertFalse(leadership.runIfResponsible(new Session(), () -> run.set(true)));
+        assertFalse(run.get());
+    }
+
+    @Test
+    void setLeader_Standby_WaitsForRunningWork() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        CompletableFuture<Boolean> work = CompletableFuture.supplyAsync(() -> leadership.runIfResponsible(new Session(),
+                () -> {
+                    started.countDown();
+                    try {
+                        finish.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    finished.set(true);
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> standby = CompletableFuture.supplyAsync(() -> {
+            leadership.setLeader(false);
+            return finished.get();
+        });
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertFalse(standby.isDone());
+
+        finish.countDown();
+        assertTrue(standby.get(5, TimeUnit.SECONDS));
+        assertTrue(work.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,140 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.leader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.inject.Guice;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+
+/**
+ * Unit tests for {@link ShardedLeadership}.
+ */
+@EnableKubernetesMockClient(crud = true)
+class ShardedLeadershipTests {
+
+    private static final String COORDINATOR_LEASE = ShardedLeadership.SHARD_LEASE_PREFIX
+            + ShardedLeadership.COORDINATOR_SHARD;
+
+    KubernetesClient client;
+
+    private ShardedLeadership leadership;
+
+    @BeforeEach
+    void setUp() {
+        TheiaCloudOperatorArguments arguments = mock(TheiaCloudOperatorArguments.class);
+        when(arguments.getShards()).thenReturn(1);
+        when(arguments.getLeaderLeaseDuration()).thenReturn(10);
+        when(arguments.getLeaderRenewDeadline()).thenReturn(5);
+        NamespacedKubernetesClient namespacedClient = client.adapt(NamespacedKubernetesClient.class);
+        leadership = Guice.createInjector(binder -> {
+            binder.bind(TheiaCloudOperatorArguments.class).toInstance(arguments);
+            binder.bind(NamespacedKubernetesClient.class).toInstance(namespacedClient);
+        }).getInstance(ShardedLeadership.class);
+    }
+
+    @Test
+    void setLeader_Standby_ReleasesLeaseAfterRunningWork() throws Exception {
+        leadership.balance();
+        assertTrue(leadership.isLeader());
+        assertNotNull(holder());
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Boolean> work = CompletableFuture
+                .supplyAsync(() -> leadership.runIfResponsible(new AppDefinition(), () -> {
+                    started.countDown();
+                    try {
+                        finish.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> standby = CompletableFuture.runAsync(() -> leadership.setLeader(false));
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertFalse(leadership.isLeader());
+        assertFalse(standby.isDone());
+        assertNotNull(holder());
+
+        finish.countDown();
+        standby.get(5, TimeUnit.SECONDS);
+        assertTrue(work.get(5, TimeUnit.SECONDS));
+        assertNull(holder());
+    }
+
+    @Test
+    void runIfResponsible_DroppedShard_SkipsWork() {
+        leadership.balance();
+        leadership.drop(ShardedLeadership.COORDINATOR_SHARD);
+        assertFalse(leadership.runIfResponsible(new AppDefinition(), () -> {
+        }));
+        assertNull(holder());
+    }
+
+    @Test
+    void liveMembers_ExpiredMemberLease_Deleted() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        client.leases().resource(memberLease("live", now)).create();
+        client.leases().resource(memberLease("crashed", now.minusMinutes(1))).create();
+
+        assertEquals(List.of("live"), leadership.liveMembers());
+        assertNotNull(client.leases().withName(ShardedLeadership.MEMBER_LEASE_PREFIX + "live").get());
+        assertNull(client.leases().withName(ShardedLeadership.MEMBER_LEASE_PREFIX + "crashed").get());
+    }
+
+    private Lease memberLease(String identity, ZonedDateTime renewTime) {
+        return new LeaseBuilder()//
+                .withNewMetadata()//
+                .withName(ShardedLeadership.MEMBER_LEASE_PREFIX + identity)//
+                .addToLabels(ShardedLeadership.LABEL_MEMBER, "true")//
+                .endMetadata()//
+                .withNewSpec()//
+                .withHolderIdentity(identity)//
+                .withLeaseDurationSeconds(10)//
+                .withRenewTime(renewTime)//
+                .endSpec()//
+                .build();
+    }
+
+    private String holder() {
+        return client.leases().withName(COORDINATOR_LEASE).get().getSpec().getHolderIdentity();
+    }
+}
@@ -0,0 +1,106 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import org.eclipse.theia.cloud.common.util.CustomResourceUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs {@link KubernetesApiMetricsInterceptor} through a real client against a mock server.
+ */
+@EnableKubernetesMockClient
+class KubernetesApiMetricsInterceptorTests {
+
+    private static final String TIMER = "theia.cloud.kubernetes.requests";
+
+    KubernetesMockServer server;
+    KubernetesClient mockClient;
+
+    private OperatorMetricsImpl metrics;
+    private KubernetesApiMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new OperatorMetricsImpl();
+        interceptor = new KubernetesApiMetricsInterceptor(metrics);
+    }
+
+    @Test
+    void get_Responses_RecordsTimerPerCode() {
+        server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1")
+                .andReturn(200, new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build()).times(2);
+        server.expect().get().withPath("/api/v1/namespaces/test/pods/pod2").andReturn(404, null).once();
+
+        try (NamespacedKubernetesClient client = createClient(mockClient.getConfiguration())) {
+            Pod pod = client.pods().inNamespace("test").withName("pod1").get();
+            assertEquals("pod1", pod.getMetadata().getName());
+            client.pods().inNamespace("test").withName("pod1").get();
+            assertNull(client.pods().inNamespace("test").withName("pod2").get());
+        }
+
+        assertEquals(2, timer("200").count());
+        assertEquals(1, timer("404").count());
+        assertEquals(0, interceptor.getPendingCount());
+    }
+
+    @Test
+    void get_ConnectionFailure_RecordsTimerWithoutCode() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        Config config = new ConfigBuilder(mockClient.getConfiguration())//
+                .withMasterUrl("http://localhost:" + port)//
+                .withRequestRetryBackoffLimit(0)//
+                .build();
+
+        try (NamespacedKubernetesClient client = createClient(config)) {
+            assertThrows(KubernetesClientException.class,
+                    () -> client.pods().inNamespace("test").withName("pod1").get());
+        }
+
+        assertEquals(1, timer("none").count());
+        assertEquals(0, interceptor.getPendingCount());
+    }
+
+    private NamespacedKubernetesClient createClient(Config config) {
+        return CustomResourceUtil.createClient(config,
+                httpClient -> httpClient.addOrReplaceInterceptor(KubernetesApiMetricsInterceptor.NAME, interceptor));
+    }
+
+    private Timer timer(String code) {
+        return metrics.getRegistry().get(TIMER).tag("verb", "get").tag("resource", "pods").tag("code", code).timer();
+    }
+}
@@ -0,0 +1,148 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.inject.Guice;
+
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+
+/**
+ * Unit tests for {@link SlotAllocatorImpl}.
+ */
+@EnableKubernetesMockClient
+class SlotAllocatorImplTests {
+
+    private static final String NAMESPACE = "test";
+    private static final String APP_DEFINITION_UID = "appdef-uid";
+    private static final String SERVICE_PATH = "/api/v1/namespaces/" + NAMESPACE + "/services/";
+
+    KubernetesMockServer server;
+    KubernetesClient client;
+
+    private TheiaCloudCache cache;
+    private SlotAllocatorImpl allocator;
+
+    @BeforeEach
+    void setUp() {
+        TheiaCloudClient theiaCloudClient = mock(TheiaCloudClient.class);
+        when(theiaCloudClient.kubernetes()).thenReturn(client.adapt(NamespacedKubernetesClient.class));
+        when(theiaCloudClient.namespace()).thenReturn(NAMESPACE);
+        cache = mock(TheiaCloudCache.class);
+        allocator = Guice.createInjector(binder -> {
+            binder.bind(TheiaCloudClient.class).toInstance(theiaCloudClient);
+            binder.bind(TheiaCloudCache.class).toInstance(cache);
+            binder.bind(TheiaCloudOperatorArguments.class).toInstance(mock(TheiaCloudOperatorArguments.class));
+        }).getInstance(SlotAllocatorImpl.class);
+    }
+
+    @Test
+    void claim_UpdateFails_ServicePutBack() {
+        Service service = freeService("service-1");
+        server.expect().put().withPath(SERVICE_PATH + "service-1").andReturn(422, null).once();
+
+        assertTrue(allocator.claim(APP_DEFINITION_UID, "session", "session-uid", "abc").isEmpty());
+        assertTrue(allocator.slots(APP_DEFINITION_UID).contains("service-1"));
+
+        server.expect().put().withPath(SERVICE_PATH + "service-1").andReturn(200, service).once();
+        Optional<Service> claimed = allocator.claim(APP_DEFINITION_UID, "session", "session-uid", "abc");
+        assertEquals("service-1", claimed.get().getMetadata().getName());
+        assertTrue(allocator.slots(APP_DEFINITION_UID).isEmpty());
+    }
+
+    @Test
+    void claim_ServiceNoLongerCached_NotPutBack() {
+        freeService("service-1");
+        when(cache.getService("service-1")).thenReturn(Optional.empty());
+
+        assertTrue(allocator.claim(APP_DEFINITION_UID, "session", "session-uid", "abc").isEmpty());
+        assertTrue(allocator.slots(APP_DEFINITION_UID).isEmpty());
+    }
+
+    @Test
+    void claimByName_OwnedBySession_ReturnedWithoutUpdate() {
+        Service service = freeService("service-1-int");
+        service.getMetadata().getOwnerReferences().add(new OwnerReferenceBuilder()//
+                .withName("session")//
+                .withUid("session-uid")//
+                .build());
+        server.expect().get().withPath(SERVICE_PATH + "service-1-int").andReturn(200, service).once();
+
+        Optional<Service> claimed = allocator.claimByName("service-1-int", "session", "session-uid", "abc");
+        assertEquals("service-1-int", claimed.get().getMetadata().getName());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void claimByName_UsedByOtherSession_Empty() {
+        Service service = freeService("service-1-int");
+        service.getMetadata().getOwnerReferences().add(new OwnerReferenceBuilder()//
+                .withName("other")//
+                .withUid("other-uid")//
+                .build());
+        server.expect().get().withPath(SERVICE_PATH + "service-1-int").andReturn(200, service).once();
+
+        assertTrue(allocator.claimByName("service-1-int", "session", "session-uid", "abc").isEmpty());
+    }
+
+    @Test
+    void claimByName_Free_Claimed() {
+        Service service = freeService("service-1-int");
+        server.expect().get().withPath(SERVICE_PATH + "service-1-int").andReturn(200, service).once();
+        server.expect().put().withPath(SERVICE_PATH + "service-1-int").andReturn(200, service).once();
+
+        Optional<Service> claimed = allocator.claimByName("service-1-int", "session", "session-uid", "abc");
+        assertEquals("service-1-int", claimed.get().getMetadata().getName());
+        assertTrue(allocator.slots(APP_DEFINITION_UID).isEmpty());
+    }
+
+    private Service freeService(String name) {
+        Service service = new ServiceBuilder()//
+                .withNewMetadata()//
+                .withName(name)//
+                .withNamespace(NAMESPACE)//
+                .withResourceVersion("1")//
+                .addNewOwnerReference()//
+                .withKind(AppDefinition.KIND)//
+                .withName("appdef")//
+                .withUid(APP_DEFINITION_UID)//
+                .endOwnerReference()//
+                .endMetadata()//
+                .build();
+        when(cache.getService(name)).thenReturn(Optional.of(service));
+        allocator.update(service);
+        return service;
+    }
+}
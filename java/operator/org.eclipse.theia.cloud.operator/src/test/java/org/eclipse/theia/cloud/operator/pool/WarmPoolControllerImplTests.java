@@ -0,0 +1,95 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinitionSpec;
+import org.eclipse.theia.cloud.operator.TheiaCloudOperatorArguments;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
+import org.eclipse.theia.cloud.operator.handler.appdef.AppDefinitionHandler;
+import org.eclipse.theia.cloud.operator.leader.Leadership;
+import org.eclipse.theia.cloud.operator.metrics.OperatorMetrics;
+import org.eclipse.theia.cloud.operator.queue.KeyedWorkQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.inject.Guice;
+
+/**
+ * Unit tests for the target size computed by {@link WarmPoolControllerImpl}.
+ */
+class WarmPoolControllerImplTests {
+
+    private TheiaCloudOperatorArguments arguments;
+    private WarmPoolControllerImpl controller;
+
+    @BeforeEach
+    void setUp() {
+        arguments = mock(TheiaCloudOperatorArguments.class);
+        when(arguments.getWarmPoolHeadroom()).thenReturn(2);
+        when(arguments.getWarmPoolLeadTime()).thenReturn(60L);
+        controller = Guice.createInjector(binder -> {
+            binder.bind(TheiaCloudClient.class).toInstance(mock(TheiaCloudClient.class));
+            binder.bind(TheiaCloudCache.class).toInstance(mock(TheiaCloudCache.class));
+            binder.bind(TheiaCloudOperatorArguments.class).toInstance(arguments);
+            binder.bind(AppDefinitionHandler.class).toInstance(mock(AppDefinitionHandler.class));
+            binder.bind(KeyedWorkQueue.class).toInstance(mock(KeyedWorkQueue.class));
+            binder.bind(Leadership.class).toInstance(mock(Leadership.class));
+            binder.bind(OperatorMetrics.class).toInstance(mock(OperatorMetrics.class));
+        }).getInstance(WarmPoolControllerImpl.class);
+    }
+
+    @Test
+    void computeTarget_NoArrivals_UsedPlusHeadroom() {
+        assertEquals(5, controller.computeTarget(appDefinition(1, 10), 3, 0));
+    }
+
+    @Test
+    void computeTarget_ArrivalsDuringLeadTimeAboveHeadroom_UsedPlusExpected() {
+        // 4.5 sessions per minute over a lead time of one minute are rounded up to 5 free instances
+        assertEquals(8, controller.computeTarget(appDefinition(1, 10), 3, 4.5));
+    }
+
+    @Test
+    void computeTarget_AboveMaxInstances_Max() {
+        assertEquals(10, controller.computeTarget(appDefinition(1, 10), 3, 30));
+    }
+
+    @Test
+    void computeTarget_BelowMinInstances_Min() {
+        assertEquals(4, controller.computeTarget(appDefinition(4, 10), 0, 0));
+    }
+
+    @Test
+    void computeTarget_MaxInstancesMissingOrBelowMin_Min() {
+        assertEquals(4, controller.computeTarget(appDefinition(4, null), 3, 30));
+        assertEquals(4, controller.computeTarget(appDefinition(4, 2), 3, 30));
+    }
+
+    private static AppDefinition appDefinition(int minInstances, Integer maxInstances) {
+        AppDefinitionSpec spec = new AppDefinitionSpec();
+        spec.setMinInstances(minInstances);
+        spec.setMaxInstances(maxInstances);
+        AppDefinition appDefinition = new AppDefinition();
+        appDefinition.setSpec(spec);
+        return appDefinition;
+    }
+}
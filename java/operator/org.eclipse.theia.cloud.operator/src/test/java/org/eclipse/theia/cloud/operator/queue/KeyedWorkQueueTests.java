@@ -0,0 +1,103 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link KeyedWorkQueue}.
+ */
+class KeyedWorkQueueTests {
+
+    private KeyedWorkQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new KeyedWorkQueue("test", 4);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.shutdown(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void submit_SameKey_RunsOneAfterAnotherInOrder() throws InterruptedException {
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            int item = i;
+            queue.submit("key", "abc", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                executed.add(item);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), executed);
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    void submit_DifferentKeys_RunInParallel() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch finish = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            started.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        queue.submit("first", "abc", blocking);
+        queue.submit("second", "abc", blocking);
+
+        // both items only start if the second one does not wait for the first one
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(2, queue.getActive());
+        finish.countDown();
+    }
+
+    @Test
+    void submit_FailingItem_NextItemOfKeyRuns() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        queue.submit("key", "abc", () -> {
+            throw new IllegalStateException("failure");
+        });
+        queue.submit("key", "abc", done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,69 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.queue;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.SocketTimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * Unit tests for the error classification of {@link RetryQueue}.
+ */
+class RetryQueueTests {
+
+    @Test
+    void isRetryable_TransientStatusCodes_True() {
+        for (int code : new int[] { 408, 409, 429, 500, 503, 504 }) {
+            assertTrue(RetryQueue.isRetryable(new KubernetesClientException("error", code, null)), "" + code);
+        }
+    }
+
+    @Test
+    void isRetryable_PermanentStatusCodes_False() {
+        for (int code : new int[] { 400, 403, 404, 422 }) {
+            assertFalse(RetryQueue.isRetryable(new KubernetesClientException("error", code, null)), "" + code);
+        }
+    }
+
+    @Test
+    void isRetryable_NoResponse_TrueForIOErrors() {
+        assertTrue(RetryQueue.isRetryable(
+                new KubernetesClientException("error", new RuntimeException(new SocketTimeoutException()))));
+        assertFalse(RetryQueue.isRetryable(new KubernetesClientException("error", new IllegalStateException())));
+    }
+
+    @Test
+    void isRetryable_OtherExceptions_False() {
+        assertFalse(RetryQueue.isRetryable(new IllegalStateException()));
+        assertFalse(RetryQueue.isRetryable(new SocketTimeoutException()));
+    }
+
+    @Test
+    void rethrowIfRetryable_OnlyThrowsRetryable() {
+        KubernetesClientException conflict = new KubernetesClientException("conflict", 409, null);
+        assertSame(conflict, assertThrows(KubernetesClientException.class,
+                () -> RetryQueue.rethrowIfRetryable(conflict)));
+        assertDoesNotThrow(() -> RetryQueue.rethrowIfRetryable(new KubernetesClientException("invalid", 422, null)));
+    }
+}
@@ -0,0 +1,137 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.timeout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
+import org.eclipse.theia.cloud.common.k8s.resource.session.Session;
+import org.eclipse.theia.cloud.common.k8s.resource.session.SessionSpec;
+import org.eclipse.theia.cloud.operator.cache.TheiaCloudCache;
+import org.eclipse.theia.cloud.operator.leader.Leadership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.inject.Guice;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+
+/**
+ * Unit tests for the scheduling of {@link SessionTimeoutSchedulerImpl}.
+ */
+class SessionTimeoutSchedulerImplTests {
+
+    private static final String APP_DEFINITION = "appdef";
+
+    private TheiaCloudCache cache;
+    private AppDefinition appDefinition;
+    private SessionTimeoutSchedulerImpl scheduler;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(TheiaCloudCache.class);
+        appDefinition = mock(AppDefinition.class, RETURNS_DEEP_STUBS);
+        when(appDefinition.getSpec().getName()).thenReturn(APP_DEFINITION);
+        when(cache.getAppDefinition(APP_DEFINITION)).thenReturn(Optional.of(appDefinition));
+        scheduler = Guice.createInjector(binder -> {
+            binder.bind(TheiaCloudClient.class).toInstance(mock(TheiaCloudClient.class));
+            binder.bind(TheiaCloudCache.class).toInstance(cache);
+            binder.bind(Leadership.class).toInstance(mock(Leadership.class));
+        }).getInstance(SessionTimeoutSchedulerImpl.class);
+    }
+
+    @Test
+    void schedule_Timeout_DeadlineAfterCreation() {
+        Instant created = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        when(appDefinition.getSpec().getTimeout()).thenReturn(30);
+
+        scheduler.schedule(session("s1", created));
+
+        assertEquals(Optional.of(created.plus(30, ChronoUnit.MINUTES)), scheduler.getDeadline("s1-uid"));
+    }
+
+    @Test
+    void reschedule_TimeoutChanged_DeadlineMoved() {
+        Instant created = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Session session = session("s1", created);
+        when(cache.getSessionsByAppDefinition(APP_DEFINITION)).thenReturn(List.of(session));
+        when(appDefinition.getSpec().getTimeout()).thenReturn(30);
+        scheduler.schedule(session);
+
+        when(appDefinition.getSpec().getTimeout()).thenReturn(60);
+        scheduler.reschedule(appDefinition);
+
+        assertEquals(Optional.of(created.plus(60, ChronoUnit.MINUTES)), scheduler.getDeadline("s1-uid"));
+        assertEquals(1, scheduler.getScheduledCount());
+    }
+
+    @Test
+    void reschedule_TimeoutRemoved_Cancelled() {
+        Session session = session("s1", Instant.now());
+        when(cache.getSessionsByAppDefinition(APP_DEFINITION)).thenReturn(List.of(session));
+        when(appDefinition.getSpec().getTimeout()).thenReturn(30);
+        scheduler.schedule(session);
+
+        when(appDefinition.getSpec().getTimeout()).thenReturn(0);
+        scheduler.reschedule(appDefinition);
+
+        assertTrue(scheduler.getDeadline("s1-uid").isEmpty());
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    void awaitExpired_CancelledAndMovedDeadlines_Skipped() throws InterruptedException {
+        Instant longAgo = Instant.now().minus(2, ChronoUnit.HOURS);
+        when(appDefinition.getSpec().getTimeout()).thenReturn(1);
+        Session cancelled = session("cancelled", longAgo);
+        Session moved = session("moved", longAgo);
+        scheduler.schedule(cancelled);
+        scheduler.schedule(moved);
+        scheduler.schedule(session("expired", longAgo));
+
+        scheduler.unschedule("cancelled-uid");
+        when(appDefinition.getSpec().getTimeout()).thenReturn(24 * 60);
+        scheduler.schedule(moved);
+
+        List<String> expired = scheduler.awaitExpired().stream()//
+                .map(SessionTimeoutSchedulerImpl.Deadline::getSessionName)//
+                .collect(Collectors.toList());
+        assertEquals(List.of("expired"), expired);
+        assertEquals(1, scheduler.getScheduledCount());
+    }
+
+    private static Session session(String name, Instant created) {
+        Session session = new Session();
+        session.setMetadata(new ObjectMetaBuilder()//
+                .withName(name)//
+                .withUid(name + "-uid")//
+                .withCreationTimestamp(created.toString())//
+                .build());
+        session.setSpec(new SessionSpec(name, APP_DEFINITION, "user"));
+        return session;
+    }
+}
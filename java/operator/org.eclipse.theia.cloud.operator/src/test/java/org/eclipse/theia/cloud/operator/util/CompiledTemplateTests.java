@@ -0,0 +1,69 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CompiledTemplate}.
+ */
+class CompiledTemplateTests {
+
+    private static final List<String> PLACEHOLDERS = List.of(TheiaCloudServiceUtil.PLACEHOLDER_SERVICENAME,
+            TheiaCloudServiceUtil.PLACEHOLDER_SERVICENAME_INTERNAL);
+
+    @Test
+    void compile_PrefixOfOtherPlaceholder_LongestMatchWins() {
+        CompiledTemplate template = CompiledTemplate.compile(
+                "name: placeholder-servicename-internal\nservice: placeholder-servicename\n", PLACEHOLDERS);
+
+        assertEquals(2, template.getPlaceholderCount());
+        assertEquals("name: ws-1-int\nservice: ws-1\n",
+                template.render(Map.of(TheiaCloudServiceUtil.PLACEHOLDER_SERVICENAME, "ws-1",
+                        TheiaCloudServiceUtil.PLACEHOLDER_SERVICENAME_INTERNAL, "ws-1-int")));
+    }
+
+    @Test
+    void compile_LongerPlaceholderListedFirst_LongestMatchWins() {
+        CompiledTemplate template = CompiledTemplate.compile("placeholder-servicename-internal",
+                List.of(TheiaCloudServiceUtil.PLACEHOLDER_SERVICENAME_INTERNAL,
+                        TheiaCloudServiceUtil.PLACEHOLDER_SERVICENAME));
+
+        assertEquals(1, template.getPlaceholderCount());
+        assertEquals("ws-1-int", template.render(Map.of(TheiaCloudServiceUtil.PLACEHOLDER_SERVICENAME_INTERNAL,
+                "ws-1-int", TheiaCloudServiceUtil.PLACEHOLDER_SERVICENAME, "ws-1")));
+    }
+
+    @Test
+    void compile_PlaceholderFollowedByText_RestKeptAsLiteral() {
+        CompiledTemplate template = CompiledTemplate.compile("placeholder-servicename-other", PLACEHOLDERS);
+
+        assertEquals(1, template.getPlaceholderCount());
+        assertEquals("ws-1-other", template.render(Map.of(TheiaCloudServiceUtil.PLACEHOLDER_SERVICENAME, "ws-1")));
+    }
+
+    @Test
+    void render_MissingReplacement_RenderedEmpty() {
+        CompiledTemplate template = CompiledTemplate.compile("a placeholder-servicename b", PLACEHOLDERS);
+
+        assertEquals("a  b", template.render(Map.of()));
+    }
+}
@@ -0,0 +1,52 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.util;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Set;
+
+import org.eclipse.theia.cloud.operator.handler.AddedHandlerUtil;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JavaResourceUtil}.
+ */
+class JavaResourceUtilTests {
+
+    private static final Set<String> PLACEHOLDERS = Set.of(TheiaCloudServiceUtil.PLACEHOLDER_SERVICENAME_INTERNAL);
+
+    @Test
+    void getCompiledTemplate_SamePlaceholders_Cached() throws Exception {
+        CompiledTemplate compiled = JavaResourceUtil
+                .getCompiledTemplate(AddedHandlerUtil.TEMPLATE_INTERNAL_SERVICE_YAML, PLACEHOLDERS, "abc");
+
+        assertSame(compiled, JavaResourceUtil.getCompiledTemplate(AddedHandlerUtil.TEMPLATE_INTERNAL_SERVICE_YAML,
+                PLACEHOLDERS, "abc"));
+    }
+
+    @Test
+    void getCompiledTemplate_Invalidated_CompiledAgain() throws Exception {
+        CompiledTemplate compiled = JavaResourceUtil
+                .getCompiledTemplate(AddedHandlerUtil.TEMPLATE_INTERNAL_SERVICE_YAML, PLACEHOLDERS, "abc");
+
+        JavaResourceUtil.invalidateCompiledTemplates();
+
+        assertNotSame(compiled, JavaResourceUtil.getCompiledTemplate(AddedHandlerUtil.TEMPLATE_INTERNAL_SERVICE_YAML,
+                PLACEHOLDERS, "abc"));
+    }
+}
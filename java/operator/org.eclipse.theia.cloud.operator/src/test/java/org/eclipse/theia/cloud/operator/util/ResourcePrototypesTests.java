@@ -0,0 +1,76 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.theia.cloud.operator.handler.AddedHandlerUtil;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.Service;
+
+/**
+ * Unit tests for {@link ResourcePrototypes}.
+ */
+class ResourcePrototypesTests {
+
+    @Test
+    void instantiate_InternalService_SessionValuesRendered() {
+        Service service = instantiate("session-1").get();
+
+        assertEquals("session-1-int", service.getMetadata().getName());
+        assertEquals("test", service.getMetadata().getNamespace());
+        assertEquals("session-1-app", service.getMetadata().getLabels().get("app"));
+        assertEquals("session-1-app", service.getSpec().getSelector().get("app"));
+        assertEquals(3000, service.getSpec().getPorts().get(0).getTargetPort().getIntVal());
+    }
+
+    @Test
+    void instantiate_SamePrototype_IndependentResources() {
+        Service first = instantiate("session-1").get();
+        first.getMetadata().getLabels().put("app", "changed");
+
+        Service second = instantiate("session-2").get();
+
+        assertEquals("session-2-int", second.getMetadata().getName());
+        assertEquals("session-2-app", second.getMetadata().getLabels().get("app"));
+        assertEquals("session-1-int", first.getMetadata().getName());
+    }
+
+    @Test
+    void key_SecretReplacement_OnlyHashIsKept() {
+        String key = ResourcePrototypes.key("/template.yaml", Map.of("placeholder-token", "secret"));
+
+        assertFalse(key.contains("secret"));
+        assertEquals(key, ResourcePrototypes.key("/template.yaml", Map.of("placeholder-token", "secret")));
+        assertNotEquals(key, ResourcePrototypes.key("/template.yaml", Map.of("placeholder-token", "other")));
+    }
+
+    private Optional<Service> instantiate(String session) {
+        Map<String, String> replacements = Map.of(//
+                TheiaCloudServiceUtil.PLACEHOLDER_SERVICENAME_INTERNAL, session + "-int", //
+                TheiaCloudHandlerUtil.PLACEHOLDER_APP, session + "-app", //
+                TheiaCloudHandlerUtil.PLACEHOLDER_NAMESPACE, "test", //
+                TheiaCloudHandlerUtil.PLACEHOLDER_PORT, "3000");
+        return ResourcePrototypes.instantiate(AddedHandlerUtil.TEMPLATE_INTERNAL_SERVICE_YAML, replacements,
+                TheiaCloudServiceUtil.SESSION_PLACEHOLDERS, Service.class, "abc");
+    }
+}
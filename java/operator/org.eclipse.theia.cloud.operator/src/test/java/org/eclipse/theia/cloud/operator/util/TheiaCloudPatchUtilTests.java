@@ -0,0 +1,60 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.operator.util;
+
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.patch;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.withData;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.withLabels;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.withOwnerReference;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.withoutLabels;
+import static org.eclipse.theia.cloud.operator.util.TheiaCloudPatchUtil.withoutOwnerReference;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+
+/**
+ * Unit tests for {@link TheiaCloudPatchUtil}.
+ */
+class TheiaCloudPatchUtilTests {
+
+    @Test
+    void withLabels_AddAndRemove_MergedIntoMetadata() {
+        assertEquals("{\"metadata\":{\"labels\":{\"a\":\"1\",\"b\":null}}}",
+                withoutLabels(withLabels(patch(), Map.of("a", "1")), List.of("b")).toString());
+    }
+
+    @Test
+    void withOwnerReference_StrategicMergeEntries() {
+        assertEquals("{\"metadata\":{\"ownerReferences\":[{\"apiVersion\":\"theia.cloud/v1beta8\","
+                + "\"kind\":\"Session\",\"name\":\"s\",\"uid\":\"1\"},{\"$patch\":\"delete\",\"uid\":\"2\"}]}}",
+                withoutOwnerReference(withOwnerReference(patch(), new OwnerReferenceBuilder()//
+                        .withApiVersion("theia.cloud/v1beta8")//
+                        .withKind("Session")//
+                        .withName("s")//
+                        .withUid("1")//
+                        .build()), "2").toString());
+    }
+
+    @Test
+    void withData_NullValue_RemovesEntry() {
+        assertEquals("{\"data\":{\"file\":null}}", withData(patch(), "file", null).toString());
+    }
+}
@@ -24,20 +24,28 @@ import java.util.stream.StreamSupport;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.theia.cloud.common.util.TracingUtil;
 import org.jboss.logging.Logger;
 
+import io.opentelemetry.api.OpenTelemetry;
 import io.quarkus.runtime.StartupEvent;
 import io.vertx.core.json.JsonObject;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
 
 @ApplicationScoped
 public class ApplicationLifecycleListener {
     protected Logger logger;
 
+    @Inject
+    OpenTelemetry openTelemetry;
+
     protected void onStart(@Observes StartupEvent event) {
         logger = Logger.getLogger(getClass());
         logConfiguration();
+        // the resource clients of common create their spans with the OpenTelemetry instance configured by Quarkus
+        TracingUtil.setOpenTelemetry(openTelemetry);
     }
 
     private void logConfiguration() {
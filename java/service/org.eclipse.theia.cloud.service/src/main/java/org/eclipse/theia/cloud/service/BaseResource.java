@@ -17,10 +17,15 @@ package org.eclipse.theia.cloud.service;
 
 import static org.eclipse.theia.cloud.common.util.LogMessageUtil.generateCorrelationId;
 
+import java.util.function.Supplier;
+
 import org.eclipse.theia.cloud.common.util.LogMessageUtil;
 import org.eclipse.theia.cloud.common.util.TheiaCloudError;
+import org.eclipse.theia.cloud.common.util.TracingUtil;
 import org.jboss.logging.Logger;
+import org.jboss.logging.MDC;
 
+import io.opentelemetry.api.trace.Span;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response.Status;
 
@@ -46,9 +51,12 @@ public class BaseResource {
 
     private String basicEvaluateRequest(ServiceRequest request) {
         String correlationId = generateCorrelationId();
+        MDC.put(LogMessageUtil.CORRELATION_ID, correlationId);
+        // links the trace of the request to its log messages
+        Span.current().setAttribute(TracingUtil.CORRELATION_ID, correlationId);
         if (request == null || request.appId == null || !request.appId.equals(appId)) {
             info(correlationId, "Request '" + request.kind + "' without matching appId: " + request.appId);
-            trace(correlationId, request.toString());
+            trace(correlationId, request::toString);
             throw new TheiaCloudWebException(TheiaCloudError.INVALID_APP_ID);
         }
         return correlationId;
@@ -88,7 +96,7 @@ public class BaseResource {
             return new EvaluatedRequest(correlationId, theiaCloudUser.getIdentifier());
         } else {
             info(correlationId, "User specified in the request does not match the authenticated user.");
-            trace(correlationId, request.toString());
+            trace(correlationId, request::toString);
             throw new TheiaCloudWebException(Status.FORBIDDEN);
         }
     }
@@ -97,6 +105,13 @@ public class BaseResource {
         logger.info(LogMessageUtil.formatLogMessage(correlationId, message));
     }
 
+    /** Logs the supplied message. The supplier is only called if info logging is enabled. */
+    public void info(String correlationId, Supplier<String> message) {
+        if (logger.isInfoEnabled()) {
+            info(correlationId, message.get());
+        }
+    }
+
     public void warn(String correlationId, String message) {
         logger.warn(LogMessageUtil.formatLogMessage(correlationId, message));
     }
@@ -120,4 +135,11 @@ public class BaseResource {
     public void trace(String correlationId, String message, Throwable throwable) {
         logger.trace(LogMessageUtil.formatLogMessage(correlationId, message), throwable);
     }
+
+    /** Logs the supplied message. The supplier is only called if trace logging is enabled. */
+    public void trace(String correlationId, Supplier<String> message) {
+        if (logger.isTraceEnabled()) {
+            trace(correlationId, message.get());
+        }
+    }
 }
@@ -18,6 +18,7 @@ package org.eclipse.theia.cloud.service;
 
 import static org.eclipse.theia.cloud.common.util.WorkspaceUtil.getSessionName;
 
+import java.net.HttpURLConnection;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Objects;
@@ -26,6 +27,7 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.theia.cloud.common.k8s.client.DefaultTheiaCloudClient;
+import org.eclipse.theia.cloud.common.k8s.client.ResourcePages;
 import org.eclipse.theia.cloud.common.k8s.client.TheiaCloudClient;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinitionSpec;
@@ -35,12 +37,13 @@ import org.eclipse.theia.cloud.common.k8s.resource.session.SessionStatus;
 import org.eclipse.theia.cloud.common.k8s.resource.workspace.Workspace;
 import org.eclipse.theia.cloud.common.k8s.resource.workspace.WorkspaceSpec;
 import org.eclipse.theia.cloud.common.util.CustomResourceUtil;
+import org.eclipse.theia.cloud.common.util.LogMessageUtil;
+import org.eclipse.theia.cloud.common.util.TracingUtil;
 import org.eclipse.theia.cloud.service.session.SessionPerformance;
 import org.eclipse.theia.cloud.service.workspace.UserWorkspace;
 import org.jboss.logging.Logger;
 
 import io.fabric8.kubernetes.api.model.Pod;
-import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
@@ -55,6 +58,9 @@ public final class K8sUtil {
     private NamespacedKubernetesClient KUBERNETES = CustomResourceUtil.createClient();
     public TheiaCloudClient CLIENT = new DefaultTheiaCloudClient(KUBERNETES);
 
+    /** Attempts to edit an app definition that is changed concurrently. */
+    private static final int EDIT_ATTEMPTS = 3;
+
     protected final Logger logger = Logger.getLogger(getClass());
 
     public Workspace createWorkspace(String correlationId, UserWorkspace data) {
@@ -82,7 +88,8 @@ public final class K8sUtil {
     @Deprecated(forRemoval = true)
     /** @deprecated use findSession instead */
     public Optional<SessionSpec> findExistingSession(SessionSpec spec) {
-        return CLIENT.sessions().specs().stream().filter(sessionSpec -> sessionSpec.equals(spec)).findAny();
+        return CLIENT.sessions().stream().map(Session::getSpec).filter(sessionSpec -> sessionSpec.equals(spec))
+                .findAny();
     }
 
     public Optional<Session> findSession(String sessionName) {
@@ -92,18 +99,20 @@ public final class K8sUtil {
     public String launchEphemeralSession(String correlationId, String appDefinition, String user, int timeout,
             EnvironmentVars env) {
         SessionSpec sessionSpec = new SessionSpec(getSessionName(user, appDefinition, false), appDefinition, user);
-        sessionSpec = sessionSpecWithEnv(sessionSpec, env);
+        SessionSpec spec = sessionSpecWithEnv(sessionSpec, env);
 
-        return launchSession(correlationId, sessionSpec, timeout);
+        return TracingUtil.trace("launch ephemeral session", correlationId,
+                () -> launchSession(correlationId, spec, timeout));
     }
 
     public String launchWorkspaceSession(String correlationId, UserWorkspace workspace, int timeout,
             EnvironmentVars env) {
         SessionSpec sessionSpec = new SessionSpec(getSessionName(workspace.name), workspace.appDefinition,
                 workspace.user, workspace.name);
-        sessionSpec = sessionSpecWithEnv(sessionSpec, env);
+        SessionSpec spec = sessionSpecWithEnv(sessionSpec, env);
 
-        return launchSession(correlationId, sessionSpec, timeout);
+        return TracingUtil.trace("launch workspace session", correlationId,
+                () -> launchSession(correlationId, spec, timeout));
     }
 
     private String launchSession(String correlationId, SessionSpec sessionSpec, int timeout) {
@@ -186,8 +195,8 @@ public final class K8sUtil {
     }
 
     public Optional<Pod> getPodForSession(Session session) {
-        PodList podlist = CLIENT.kubernetes().pods().list();
-        return podlist.getItems().stream().filter(pod -> isPodFromSession(pod, session)).findFirst();
+        return ResourcePages.stream(CLIENT.kubernetes().pods()).filter(pod -> isPodFromSession(pod, session))
+                .findFirst();
     }
 
     /**
@@ -229,9 +238,29 @@ public final class K8sUtil {
         return CLIENT.appDefinitions().get(appDefinition).isPresent();
     }
 
+    /**
+     * Patches the app definition against the version read before, so concurrent updates are rejected instead of
+     * silently overwritten. A rejected patch is applied again to the current version a few times before the conflict
+     * is thrown.
+     *
+     * @return the edited app definition or <code>null</code> if it does not exist
+     * @throws KubernetesClientException with code 409 if the app definition kept changing concurrently
+     */
     public AppDefinition editAppDefinition(String correlationId, String appDefinition,
             Consumer<AppDefinition> consumer) {
-        return CLIENT.appDefinitions().edit(correlationId, appDefinition, consumer);
+        for (int attempt = 1;; attempt++) {
+            try {
+                return CLIENT.appDefinitions().get(appDefinition)
+                        .map(toEdit -> CLIENT.appDefinitions().patch(correlationId, toEdit, consumer, true))
+                        .orElse(null);
+            } catch (KubernetesClientException e) {
+                if (e.getCode() != HttpURLConnection.HTTP_CONFLICT || attempt >= EDIT_ATTEMPTS) {
+                    throw e;
+                }
+                logger.debug(LogMessageUtil.formatLogMessage(correlationId,
+                        "App definition " + appDefinition + " was changed concurrently, editing it again"));
+            }
+        }
     }
 
     public boolean isMaxInstancesReached(String appDefString) {
@@ -248,7 +277,7 @@ public final class K8sUtil {
             return false; // max instances is set to negative, so we can ignore it
         }
 
-        long sessionsOfAppDef = CLIENT.sessions().list().stream() // All sessions
+        long sessionsOfAppDef = CLIENT.sessions().stream() // All sessions
                 .filter(s -> s.getSpec().getAppDefinition().equals(appDefString)) // That are from the appDefinition
                 .filter(s -> s.getStatus() == null || !s.getStatus().hasError()) // That are not in error state
                 .count();
@@ -73,7 +73,7 @@ public class RootResource extends BaseResource {
         }
 
         if (request.isEphemeral()) {
-            info(correlationId, "Launching ephemeral session " + request);
+            info(correlationId, () -> "Launching ephemeral session " + request);
             return k8sUtil.launchEphemeralSession(correlationId, request.appDefinition, user, request.timeout,
                     request.env);
         }
@@ -90,23 +90,23 @@ public class RootResource extends BaseResource {
                     throw new TheiaCloudWebException(TheiaCloudError.APP_DEFINITION_NAME_MISMATCH);
                 }
 
-                info(correlationId, "Launching existing workspace session " + request);
+                info(correlationId, () -> "Launching existing workspace session " + request);
                 return k8sUtil.launchWorkspaceSession(correlationId, new UserWorkspace(workspace.get().getSpec()),
                         request.timeout, request.env);
             }
         }
 
-        info(correlationId, "Create workspace " + request);
+        info(correlationId, () -> "Create workspace " + request);
         Workspace workspace = k8sUtil.createWorkspace(correlationId,
                 new UserWorkspace(request.appDefinition, user, request.workspaceName, request.label));
         TheiaCloudWebException.throwIfErroneous(workspace);
 
-        info(correlationId, "Launch workspace session " + request);
+        info(correlationId, () -> "Launch workspace session " + request);
         try {
             return k8sUtil.launchWorkspaceSession(correlationId, new UserWorkspace(workspace.getSpec()),
                     request.timeout, request.env);
         } catch (Exception exception) {
-            info(correlationId, "Delete workspace due to launch error " + request);
+            info(correlationId, () -> "Delete workspace due to launch error " + request);
             k8sUtil.deleteWorkspace(correlationId, workspace.getSpec().getName());
             throw exception;
         }
@@ -15,6 +15,8 @@
  ********************************************************************************/
 package org.eclipse.theia.cloud.service.admin.appdefinition;
 
+import java.net.HttpURLConnection;
+
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
@@ -23,6 +25,9 @@ import org.eclipse.theia.cloud.service.AdminOnly;
 import org.eclipse.theia.cloud.service.ApplicationProperties;
 import org.eclipse.theia.cloud.service.BaseResource;
 import org.eclipse.theia.cloud.service.K8sUtil;
+import org.eclipse.theia.cloud.service.TheiaCloudWebException;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.InternalServerErrorException;
@@ -32,6 +37,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response.Status;
 
 /**
  * Resource for admin operations on app definitions.
@@ -61,7 +67,7 @@ public class AppDefinitionAdminResource extends BaseResource {
             throw new NotFoundException("App definition does not exist.");
         }
 
-        info(correlationId, "Update app definition " + request);
+        info(correlationId, () -> "Update app definition " + request);
         try {
             return k8sUtil.editAppDefinition(correlationId, appDefinitionName, appDef -> {
                 AppDefinitionSpec spec = appDef.getSpec();
@@ -72,6 +78,15 @@ public class AppDefinitionAdminResource extends BaseResource {
                     spec.setMaxInstances(request.maxInstances);
                 }
             });
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == HttpURLConnection.HTTP_CONFLICT) {
+                info(correlationId, "App definition " + appDefinitionName + " kept changing concurrently");
+                throw new TheiaCloudWebException(Status.CONFLICT,
+                        "The app definition was changed concurrently. Please try again.");
+            }
+            error(correlationId, "Failed to update app definition ", e);
+            throw new InternalServerErrorException(
+                    "Failed to update app definition. See the service logs for more details.");
         } catch (Exception e) {
             error(correlationId, "Failed to update app definition ", e);
             throw new InternalServerErrorException(
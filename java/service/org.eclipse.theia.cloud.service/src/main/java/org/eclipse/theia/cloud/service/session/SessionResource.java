@@ -92,7 +92,7 @@ public class SessionResource extends BaseResource {
         final String correlationId = evaluatedRequest.getCorrelationId();
         final String user = evaluatedRequest.getUser();
 
-        info(correlationId, "Launching session " + request);
+        info(correlationId, () -> "Launching session " + request);
         if (request.isEphemeral()) {
             return k8sUtil.launchEphemeralSession(correlationId, request.appDefinition, user, request.timeout,
                     request.env);
@@ -101,7 +101,7 @@ public class SessionResource extends BaseResource {
         Optional<Workspace> workspace = k8sUtil.getWorkspace(user,
                 org.eclipse.theia.cloud.common.util.NamingUtil.asValidName(request.workspaceName));
         if (workspace.isEmpty()) {
-            info(correlationId, "No workspace for given workspace name: " + request);
+            info(correlationId, () -> "No workspace for given workspace name: " + request);
             throw new TheiaCloudWebException(TheiaCloudError.INVALID_WORKSPACE_NAME);
         }
 
@@ -109,7 +109,7 @@ public class SessionResource extends BaseResource {
             // request can override default application definition stored in workspace
             workspace.get().getSpec().setAppDefinition(request.appDefinition);
         }
-        info(correlationId, "Launch workspace session: " + request);
+        info(correlationId, () -> "Launch workspace session: " + request);
         return k8sUtil.launchWorkspaceSession(correlationId, new UserWorkspace(workspace.get().getSpec()),
                 request.timeout, request.env);
     }
@@ -138,7 +138,7 @@ public class SessionResource extends BaseResource {
             throw new TheiaCloudWebException(Status.FORBIDDEN);
         }
 
-        info(correlationId, "Stop session: " + request);
+        info(correlationId, () -> "Stop session: " + request);
         return k8sUtil.stopSession(correlationId, request.sessionName, evaluatedRequest.getUser());
     }
 
@@ -154,7 +154,7 @@ public class SessionResource extends BaseResource {
         if (request.sessionName == null) {
             throw new TheiaCloudWebException(TheiaCloudError.MISSING_SESSION_NAME);
         }
-        info(correlationId, "Report session activity: " + request);
+        info(correlationId, () -> "Report session activity: " + request);
         return k8sUtil.reportSessionActivity(correlationId, request.sessionName);
     }
 
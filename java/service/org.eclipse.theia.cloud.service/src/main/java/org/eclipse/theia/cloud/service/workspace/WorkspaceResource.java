@@ -59,7 +59,7 @@ public class WorkspaceResource extends BaseResource {
         final EvaluatedRequest evaluatedRequest = evaluateRequest(request);
         final String correlationId = evaluatedRequest.getCorrelationId();
 
-        info(correlationId, "Listing workspaces " + request);
+        info(correlationId, () -> "Listing workspaces " + request);
         return k8sUtil.listWorkspaces(evaluatedRequest.getUser());
     }
 
@@ -70,7 +70,7 @@ public class WorkspaceResource extends BaseResource {
         final EvaluatedRequest evaluatedRequest = evaluateRequest(request);
         final String correlationId = evaluatedRequest.getCorrelationId();
 
-        info(correlationId, "Creating workspace " + request);
+        info(correlationId, () -> "Creating workspace " + request);
         Workspace workspace = k8sUtil.createWorkspace(correlationId,
                 new UserWorkspace(request.appDefinition, evaluatedRequest.getUser(), request.label));
         TheiaCloudWebException.throwIfErroneous(workspace);
@@ -103,7 +103,7 @@ public class WorkspaceResource extends BaseResource {
             throw new TheiaCloudWebException(Status.FORBIDDEN);
         }
 
-        info(correlationId, "Deleting workspace " + request);
+        info(correlationId, () -> "Deleting workspace " + request);
         return k8sUtil.deleteWorkspace(correlationId, request.workspaceName);
     }
 
@@ -0,0 +1,44 @@
+/********************************************************************************
+ * Copyright (C) 2026 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ ********************************************************************************/
+package org.eclipse.theia.cloud.service;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.theia.cloud.common.util.LogMessageUtil;
+import org.jboss.logging.MDC;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+
+/**
+ * Unit tests for {@link CorrelationIdFilter}.
+ */
+public class CorrelationIdFilterTests {
+
+    /**
+     * Verifies that the correlation id of a request is removed from the MDC once its response is written.
+     */
+    @Test
+    void filter_correlationIdSet_removed() {
+        MDC.put(LogMessageUtil.CORRELATION_ID, "abc");
+
+        new CorrelationIdFilter().filter(mock(ContainerRequestContext.class), mock(ContainerResponseContext.class));
+
+        assertNull(MDC.get(LogMessageUtil.CORRELATION_ID));
+    }
+}
@@ -30,10 +30,12 @@ import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinition;
 import org.eclipse.theia.cloud.common.k8s.resource.appdefinition.AppDefinitionSpec;
 import org.eclipse.theia.cloud.service.ApplicationProperties;
 import org.eclipse.theia.cloud.service.K8sUtil;
+import org.eclipse.theia.cloud.service.TheiaCloudWebException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.security.TestSecurity;
@@ -174,4 +176,21 @@ public class AppDefinitionAdminResourceTests {
             fixture.update(appDefinitionName, request);
         });
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testUpdate_editAppDefinitionConflicts_conflictException() {
+        String appDefinitionName = "testApp";
+        AppDefinitionUpdateRequest request = new AppDefinitionUpdateRequest(APP_ID);
+        request.maxInstances = 10;
+
+        Mockito.when(k8sUtil.hasAppDefinition(appDefinitionName)).thenReturn(true);
+        Mockito.when(k8sUtil.editAppDefinition(anyString(), eq(appDefinitionName), any(Consumer.class)))
+                .thenThrow(new KubernetesClientException("Conflict", 409, null));
+
+        TheiaCloudWebException exception = assertThrows(TheiaCloudWebException.class, () -> {
+            fixture.update(appDefinitionName, request);
+        });
+        assertEquals(409, exception.getResponse().getStatus());
+    }
 }
\ No newline at end of file